@@ -57,6 +57,12 @@ public class BpmnServiceImpl implements BpmnService {
                         .description(!task.getDocumentations().isEmpty()
                                 ? task.getDocumentations().iterator().next().getTextContent()
                                 : null)
+                        .decisionRef(task instanceof org.camunda.bpm.model.bpmn.instance.BusinessRuleTask rule
+                                ? rule.getCamundaDecisionRef()
+                                : null)
+                        .resultVariable(task instanceof org.camunda.bpm.model.bpmn.instance.BusinessRuleTask rule
+                                ? rule.getCamundaResultVariable()
+                                : null)
                         .build())
                 .collect(Collectors.toList());
     }
@@ -1,37 +1,33 @@
 package com.harmony.harmoniservices.core.cases;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 import com.harmony.harmoniservices.core.domain.entities.Event;
 import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
+import com.harmony.harmoniservices.core.domain.entities.Timer;
 import com.harmony.harmoniservices.core.domain.enums.TriggerType;
 import com.harmony.harmoniservices.core.domain.events.MessageEvent;
 import com.harmony.harmoniservices.core.domain.events.SignalEvent;
-import com.harmony.harmoniservices.core.domain.events.TimerEvent;
+import com.harmony.harmoniservices.core.domain.events.TimerCycle;
 import com.harmony.harmoniservices.core.domain.services.EventHandler;
-import com.harmony.harmoniservices.core.ports.cases.ProcessAutomationService;
+import com.harmony.harmoniservices.core.domain.services.TimerScheduler;
+import com.harmony.harmoniservices.core.ports.repository.TimerRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Implémentation de EventHandler utilisant Camunda pour gérer les événements BPMN
+ * Implémentation de EventHandler utilisant Camunda pour gérer les événements BPMN.
+ * Les timers sont persistés dans la table des timers et déclenchés par le {@link TimerScheduler}.
  */
 @Service
 @Slf4j
@@ -39,11 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 public class CamundaEventHandlerImpl implements EventHandler {
 
     private final ApplicationEventPublisher eventPublisher;
-    private final TaskScheduler taskScheduler;
-    private final ProcessAutomationService processAutomationService;
+    private final TimerRepository timerRepository;
+    private final TimerScheduler timerScheduler;
     
-    // Maps pour stocker les souscriptions et les tâches planifiées
-    private final Map<String, ScheduledFuture<?>> scheduledTimers = new ConcurrentHashMap<>();
+    // Maps pour stocker les souscriptions
     private final Map<String, MessageSubscription> messageSubscriptions = new ConcurrentHashMap<>();
     private final Map<String, SignalSubscription> signalSubscriptions = new ConcurrentHashMap<>();
 
@@ -57,27 +52,16 @@ public class CamundaEventHandlerImpl implements EventHandler {
             throw new IllegalArgumentException("L'événement n'est pas un timer");
         }
         
-        String timerId = UUID.randomUUID().toString();
-        Runnable timerTask = () -> {
-            log.info("Exécution du timer {} pour l'événement {}", timerId, event.getId());
-            TimerEvent timerEvent = new TimerEvent(
-                    processInstance.getId(),
-                    event.getId(),
-                    variables != null ? variables : new HashMap<>()
-            );
-            eventPublisher.publishEvent(timerEvent);
-            scheduledTimers.remove(timerId);
-        };
-        
-        // Déterminer le délai ou la date d'exécution
+        // Déterminer la date d'échéance
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueDate;
+        TimerCycle cycle = null;
+        Integer repeatsRemaining = null;
         if (eventDefinition.contains("Duration=")) {
             // Format: Duration=PT1H (1 heure), PT30M (30 minutes), etc.
             String durationStr = extractValue(eventDefinition, "Duration=");
             try {
-                Duration duration = Duration.parse(durationStr);
-                Date startTime = new Date(System.currentTimeMillis() + duration.toMillis());
-                ScheduledFuture<?> future = taskScheduler.schedule(timerTask, startTime);
-                scheduledTimers.put(timerId, future);
+                dueDate = now.plus(Duration.parse(durationStr));
             } catch (Exception e) {
                 log.error("Erreur lors de l'analyse de la durée du timer: {}", e.getMessage());
                 throw new IllegalArgumentException("Format de durée invalide: " + durationStr);
@@ -86,39 +70,69 @@ public class CamundaEventHandlerImpl implements EventHandler {
             // Format: Date=2023-12-31T23:59:59
             String dateStr = extractValue(eventDefinition, "Date=");
             try {
-                LocalDateTime dateTime = LocalDateTime.parse(dateStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
-                Date startDate = Date.from(instant);
-                ScheduledFuture<?> future = taskScheduler.schedule(timerTask, startDate);
-                scheduledTimers.put(timerId, future);
+                dueDate = LocalDateTime.parse(dateStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             } catch (DateTimeParseException e) {
                 log.error("Erreur lors de l'analyse de la date du timer: {}", e.getMessage());
                 throw new IllegalArgumentException("Format de date invalide: " + dateStr);
             }
         } else if (eventDefinition.contains("Cycle=")) {
-            // Format: Cycle=R3/PT10H (répéter 3 fois toutes les 10 heures)
-            // Non implémenté pour simplifier
-            throw new UnsupportedOperationException("Les timers cycliques ne sont pas encore supportés");
+            // Format: Cycle=R3/PT10H (répéter 3 fois toutes les 10 heures) ou Cycle=0 0 8 * * MON-FRI (cron) ;
+            // le cycle est la fin de la définition, une expression cron contenant des espaces
+            cycle = TimerCycle.parse(eventDefinition.substring(eventDefinition.indexOf("Cycle=") + "Cycle=".length()));
+            String expression = cycle.getExpression();
+            Timer previous = timerRepository.findLatest(processInstance.getId(), event.getId())
+                    .filter(timer -> expression.equals(timer.getCycle()))
+                    .orElse(null);
+            if (previous == null) {
+                dueDate = cycle.first(now);
+                repeatsRemaining = cycle.getRepetitions() != null ? cycle.getRepetitions() - 1 : null;
+            } else if (previous.getRepeatsRemaining() != null && previous.getRepeatsRemaining() <= 0) {
+                // Retour sur l'élément après la dernière occurrence : le chemin attend sans timer
+                log.info("Cycle {} épuisé pour l'événement {} dans l'instance {}, aucun timer programmé",
+                        cycle, event.getId(), processInstance.getId());
+                return null;
+            } else {
+                // Retour sur l'élément (boucle) : le cycle reprend après l'occurrence précédente, une
+                // occurrence manquée pendant l'absence du chemin n'étant rattrapée qu'une fois
+                LocalDateTime next = cycle.nextAfter(previous.getDueDate());
+                dueDate = next == null || next.isAfter(now) ? next : now;
+                repeatsRemaining = previous.getRepeatsRemaining() != null ? previous.getRepeatsRemaining() - 1 : null;
+            }
+            if (dueDate == null) {
+                throw new IllegalArgumentException("Le cycle " + cycle + " n'a aucune occurrence à venir");
+            }
         } else {
             throw new IllegalArgumentException("Format de timer non reconnu: " + eventDefinition);
         }
         
-        return timerId;
+        // Persister le timer dans la transaction de l'instance : il survit aux redémarrages
+        Timer timer = timerRepository.save(Timer.builder()
+                .processInstanceId(processInstance.getId())
+                .elementId(event.getId())
+                .dueDate(dueDate)
+                .status("PENDING")
+                .cycle(cycle != null ? cycle.getExpression() : null)
+                .repeatsRemaining(repeatsRemaining)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        timerScheduler.schedule(timer);
+        
+        return String.valueOf(timer.getId());
     }
 
     @Override
     public boolean cancelTimerEvent(String eventId) {
         log.info("Annulation du timer {}", eventId);
         
-        ScheduledFuture<?> future = scheduledTimers.get(eventId);
-        if (future != null) {
-            boolean cancelled = future.cancel(false);
-            if (cancelled) {
-                scheduledTimers.remove(eventId);
-            }
-            return cancelled;
+        Long timerId;
+        try {
+            timerId = Long.valueOf(eventId);
+        } catch (NumberFormatException e) {
+            return false;
         }
-        return false;
+        timerScheduler.cancel(timerId);
+        return timerRepository.cancel(timerId);
     }
 
     @Override
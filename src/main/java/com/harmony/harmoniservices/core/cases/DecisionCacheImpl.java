@@ -0,0 +1,56 @@
+package com.harmony.harmoniservices.core.cases;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.harmony.harmoniservices.core.domain.decisions.CompiledDecision;
+import com.harmony.harmoniservices.core.domain.decisions.DecisionCompiler;
+import com.harmony.harmoniservices.core.domain.services.DecisionCache;
+import com.harmony.harmoniservices.core.ports.repository.DecisionTableRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache borné des tables de décision compilées, indexé par clé de décision.
+ * Les entrées expirent pour que les autres nœuds prennent en compte un redéploiement.
+ */
+@Service
+@Slf4j
+public class DecisionCacheImpl implements DecisionCache {
+
+    private final DecisionTableRepository decisionTableRepository;
+    private final Cache<String, Optional<CompiledDecision>> decisions;
+
+    public DecisionCacheImpl(DecisionTableRepository decisionTableRepository,
+            @Value("${harmony.engine.decision-cache.max-size:500}") long maxSize,
+            @Value("${harmony.engine.decision-cache.expire-after-write-minutes:5}") long expireAfterWriteMinutes) {
+        this.decisionTableRepository = decisionTableRepository;
+        this.decisions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .build();
+    }
+
+    @Override
+    public Optional<CompiledDecision> find(String decisionKey) {
+        if (decisionKey == null) {
+            return Optional.empty();
+        }
+        // L'absence de table est aussi mise en cache : une tâche de règle métier sans table reste une tâche automatique
+        return decisions.get(decisionKey, key -> decisionTableRepository.findByDecisionKey(key)
+                .map(table -> {
+                    log.debug("Compilation de la table de décision {}", key);
+                    return DecisionCompiler.compile(table);
+                }));
+    }
+
+    @Override
+    public void put(CompiledDecision decision) {
+        decisions.put(decision.getDecisionKey(), Optional.of(decision));
+    }
+}
@@ -1,34 +1,91 @@
 package com.harmony.harmoniservices.core.cases;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.BeanReference;
+import org.springframework.expression.spel.ast.ConstructorReference;
+import org.springframework.expression.spel.ast.FunctionReference;
+import org.springframework.expression.spel.ast.TypeReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.harmony.harmoniservices.core.domain.entities.Gateway;
 import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
+import com.harmony.harmoniservices.core.domain.expressions.CompiledCondition;
+import com.harmony.harmoniservices.core.domain.expressions.JuelCompiler;
 import com.harmony.harmoniservices.core.domain.services.GatewayEvaluator;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Implémentation du service d'évaluation des passerelles BPMN
+ * Implémentation du service d'évaluation des passerelles BPMN.
+ * Les conditions sont analysées une seule fois puis conservées dans un cache borné, indexé par
+ * flux et texte de l'expression. Les conditions JUEL (${...}) sont compilées en arbre typé ;
+ * les autres sont des expressions SpEL, que SpEL compile en bytecode si elles sont évaluées souvent.
+ * Les variables sont lues à la demande dans la carte de l'instance, par un contexte en lecture
+ * seule partagé entre tous les flux sortants d'une même passerelle.
+ * Les variables dont dépend chaque condition sont extraites à la compilation ; pour une instance
+ * donnée, le résultat est mémorisé sous l'empreinte de ces seules variables, si bien qu'une boucle
+ * ou un cycle de reprise qui repasse par la passerelle sans les modifier ne réévalue pas la condition.
+ * Les taux de succès des deux caches sont publiés par Micrometer (cache.gets).
  */
 @Service
 @Slf4j
 public class GatewayEvaluatorImpl implements GatewayEvaluator {
 
-    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ExpressionParser expressionParser;
+    private final Cache<ConditionKey, Condition> expressions;
+    private final Cache<ResultKey, Boolean> results;
+
+    public GatewayEvaluatorImpl(MeterRegistry meterRegistry,
+            @Value("${harmony.engine.expressions.compiler-mode:MIXED}") SpelCompilerMode compilerMode,
+            @Value("${harmony.engine.expressions.cache-max-size:10000}") long cacheMaxSize,
+            @Value("${harmony.engine.expressions.results.max-size:100000}") long resultsMaxSize,
+            @Value("${harmony.engine.expressions.results.expire-after-access-minutes:30}") long resultsExpireAfterAccessMinutes) {
+        this.expressionParser = new SpelExpressionParser(
+                new SpelParserConfiguration(compilerMode, GatewayEvaluatorImpl.class.getClassLoader()));
+        this.expressions = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .build();
+        this.results = Caffeine.newBuilder()
+                .maximumSize(resultsMaxSize)
+                .expireAfterAccess(Duration.ofMinutes(resultsExpireAfterAccessMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, expressions, "gateway-conditions");
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "gateway-condition-results");
+    }
 
     @Override
-    public SequenceFlow evaluateExclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables) {
+    public SequenceFlow evaluateExclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables,
+            Long processInstanceId) {
         log.debug("Évaluation de la passerelle exclusive {}", gateway.getId());
         
         // Chercher d'abord un flux par défaut (sans condition)
@@ -37,9 +94,10 @@ public class GatewayEvaluatorImpl implements GatewayEvaluator {
                 .findFirst();
         
         // Évaluer les conditions de chaque flux sortant
+        Contexts contexts = new Contexts(variables, processInstanceId);
         for (SequenceFlow flow : outgoingFlows) {
             if (flow.getConditionExpression() != null && !flow.getConditionExpression().isEmpty()) {
-                if (evaluateCondition(flow, variables)) {
+                if (evaluate(flow, contexts)) {
                     log.debug("Condition satisfaite pour le flux {}", flow.getId());
                     return flow;
                 }
@@ -58,7 +116,8 @@ public class GatewayEvaluatorImpl implements GatewayEvaluator {
     }
 
     @Override
-    public List<SequenceFlow> evaluateInclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables) {
+    public List<SequenceFlow> evaluateInclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows,
+            Map<String, Object> variables, Long processInstanceId) {
         log.debug("Évaluation de la passerelle inclusive {}", gateway.getId());
         
         List<SequenceFlow> selectedFlows = new ArrayList<>();
@@ -67,9 +126,10 @@ public class GatewayEvaluatorImpl implements GatewayEvaluator {
                 .findFirst();
         
         // Évaluer les conditions de chaque flux sortant
+        Contexts contexts = new Contexts(variables, processInstanceId);
         for (SequenceFlow flow : outgoingFlows) {
             if (flow.getConditionExpression() != null && !flow.getConditionExpression().isEmpty()) {
-                if (evaluateCondition(flow, variables)) {
+                if (evaluate(flow, contexts)) {
                     log.debug("Condition satisfaite pour le flux {}", flow.getId());
                     selectedFlows.add(flow);
                 }
@@ -100,7 +160,30 @@ public class GatewayEvaluatorImpl implements GatewayEvaluator {
     }
 
     @Override
-    public boolean evaluateCondition(SequenceFlow sequenceFlow, Map<String, Object> variables) {
+    public boolean evaluateCondition(SequenceFlow sequenceFlow, Map<String, Object> variables, Long processInstanceId) {
+        return evaluate(sequenceFlow, new Contexts(variables, processInstanceId));
+    }
+
+    @Override
+    public void compileConditions(Collection<SequenceFlow> sequenceFlows) {
+        if (sequenceFlows == null) {
+            return;
+        }
+        for (SequenceFlow flow : sequenceFlows) {
+            String conditionExpression = flow.getConditionExpression();
+            if (conditionExpression == null || conditionExpression.isEmpty()) {
+                continue;
+            }
+            try {
+                condition(new ConditionKey(flow.getId(), conditionExpression));
+            } catch (Exception e) {
+                // La condition reste évaluée à false à l'exécution, comme avant
+                log.warn("Condition invalide '{}' pour le flux {}: {}", conditionExpression, flow.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean evaluate(SequenceFlow sequenceFlow, Contexts contexts) {
         String conditionExpression = sequenceFlow.getConditionExpression();
         
         if (conditionExpression == null || conditionExpression.isEmpty()) {
@@ -109,20 +192,18 @@ public class GatewayEvaluatorImpl implements GatewayEvaluator {
         }
         
         try {
-            // Préparer le contexte d'évaluation avec les variables du processus
-            EvaluationContext context = new StandardEvaluationContext();
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                context.setVariable(entry.getKey(), entry.getValue());
+            // Condition compilée au chargement du graphe, ou à défaut à sa première évaluation ;
+            // les variables ne sont pas copiées mais lues à la demande dans la carte de l'instance
+            ConditionKey key = new ConditionKey(sequenceFlow.getId(), conditionExpression);
+            Condition condition = condition(key);
+            List<Object> fingerprint = contexts.processInstanceId != null
+                    ? fingerprint(condition.dependencies(), contexts.variables)
+                    : null;
+            if (fingerprint == null) {
+                return condition.test().test(contexts);
             }
-            
-            // Nettoyer l'expression si nécessaire (enlever les préfixes JUEL ${} ou autres)
-            String cleanExpression = cleanExpression(conditionExpression);
-            
-            // Parser et évaluer l'expression
-            Expression expression = expressionParser.parseExpression(cleanExpression);
-            Boolean result = expression.getValue(context, Boolean.class);
-            
-            return result != null && result;
+            return results.get(new ResultKey(contexts.processInstanceId, key, fingerprint),
+                    resultKey -> condition.test().test(contexts));
         } catch (Exception e) {
             log.error("Erreur lors de l'évaluation de la condition '{}' pour le flux {}: {}", 
                     conditionExpression, sequenceFlow.getId(), e.getMessage());
@@ -153,4 +234,143 @@ public class GatewayEvaluatorImpl implements GatewayEvaluator {
         
         return expression;
     }
+
+    private Condition condition(ConditionKey key) {
+        return expressions.get(key, conditionKey -> parse(conditionKey.expression()));
+    }
+
+    private Condition parse(String conditionExpression) {
+        if (JuelCompiler.isJuel(conditionExpression)) {
+            try {
+                CompiledCondition compiled = JuelCompiler.compile(conditionExpression);
+                return new Condition(contexts -> compiled.evaluate(contexts.variables),
+                        compiled.getVariables().toArray(new String[0]));
+            } catch (IllegalArgumentException e) {
+                // Hors du sous-ensemble compilé (appels de méthodes...) : conversion textuelle vers SpEL
+                log.debug("Condition '{}' évaluée par SpEL: {}", conditionExpression, e.getMessage());
+            }
+        }
+        Expression expression = expressionParser.parseExpression(cleanExpression(conditionExpression));
+        if (expression instanceof SpelExpression spel && needsStandardContext(spel.getAST())) {
+            // Types, constructeurs et beans peuvent dépendre d'autre chose que des variables : jamais mémorisé
+            return new Condition(contexts -> Boolean.TRUE.equals(expression.getValue(contexts.standard(), Boolean.class)),
+                    null);
+        }
+        Set<String> dependencies = new LinkedHashSet<>();
+        boolean memoizable = expression instanceof SpelExpression spel
+                && collectVariables(spel.getAST(), dependencies);
+        return new Condition(contexts -> Boolean.TRUE.equals(expression.getValue(contexts.simple(), Boolean.class)),
+                memoizable ? dependencies.toArray(new String[0]) : null);
+    }
+
+    /**
+     * Collecte les variables #nom lues par une expression SpEL
+     * @return false si le résultat peut dépendre d'autre chose que ces variables (#this, #root, fonctions)
+     */
+    private static boolean collectVariables(SpelNode node, Set<String> dependencies) {
+        if (node instanceof FunctionReference) {
+            return false;
+        }
+        if (node instanceof VariableReference) {
+            String name = node.toStringAST().substring(1);
+            if (name.equals("this") || name.equals("root")) {
+                return false;
+            }
+            dependencies.add(name);
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (!collectVariables(node.getChild(i), dependencies)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Empreinte des variables dont dépend une condition : leurs valeurs, dans l'ordre des dépendances
+     * @return null si la condition n'est pas mémorisable ou si une valeur est modifiable en place
+     *         (liste, carte, objet), l'égalité ne garantissant alors pas un résultat identique
+     */
+    private static List<Object> fingerprint(String[] dependencies, Map<String, Object> variables) {
+        if (dependencies == null) {
+            return null;
+        }
+        Object[] values = new Object[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            Object value = variables.get(dependencies[i]);
+            if (!isImmutable(value)) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return Arrays.asList(values);
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float
+                || value instanceof BigDecimal || value instanceof BigInteger
+                || value instanceof Enum<?> || value instanceof UUID || value instanceof TemporalAccessor;
+    }
+
+    /**
+     * Indique si une expression a besoin du contexte complet : références de type T(...),
+     * constructeurs ou beans, refusés par SimpleEvaluationContext
+     */
+    private static boolean needsStandardContext(SpelNode node) {
+        if (node instanceof TypeReference || node instanceof ConstructorReference || node instanceof BeanReference) {
+            return true;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (needsStandardContext(node.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Condition analysée et variables dont dépend son résultat (null : non mémorisable)
+     */
+    private record Condition(Predicate<Contexts> test, String[] dependencies) {
+    }
+
+    /**
+     * Contextes d'une évaluation de passerelle, partagés entre ses flux sortants ;
+     * le contexte complet n'est créé que si une condition en a besoin
+     */
+    private static final class Contexts {
+        private final Map<String, Object> variables;
+        private final Long processInstanceId;
+        private EvaluationContext simple;
+        private EvaluationContext standard;
+
+        private Contexts(Map<String, Object> variables, Long processInstanceId) {
+            this.variables = variables != null ? variables : Map.of();
+            this.processInstanceId = processInstanceId;
+        }
+
+        private EvaluationContext simple() {
+            if (simple == null) {
+                simple = ProcessVariableEvaluationContext.simple(variables);
+            }
+            return simple;
+        }
+
+        private EvaluationContext standard() {
+            if (standard == null) {
+                standard = ProcessVariableEvaluationContext.standard(variables);
+            }
+            return standard;
+        }
+    }
+
+    // Le texte fait partie de la clé : un flux redéployé avec une autre condition n'utilise pas l'ancienne
+    private record ConditionKey(String flowId, String expression) {
+    }
+
+    // Résultat d'une condition pour une instance et une empreinte de ses variables
+    private record ResultKey(Long processInstanceId, ConditionKey condition, List<Object> fingerprint) {
+    }
 } 
\ No newline at end of file
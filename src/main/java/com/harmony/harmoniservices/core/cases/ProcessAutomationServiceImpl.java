@@ -2,37 +2,65 @@ package com.harmony.harmoniservices.core.cases;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.harmony.harmoniservices.core.domain.commands.CompleteRequest;
+import com.harmony.harmoniservices.core.domain.commands.CompletionResult;
+import com.harmony.harmoniservices.core.domain.commands.StartRequest;
+import com.harmony.harmoniservices.core.domain.commands.TaskPage;
+import com.harmony.harmoniservices.core.domain.commands.TaskSummary;
+import com.harmony.harmoniservices.core.domain.decisions.CompiledDecision;
+import com.harmony.harmoniservices.core.domain.decisions.DecisionCompiler;
 import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
 import com.harmony.harmoniservices.core.domain.entities.Event;
-import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.ExecutionToken;
+import com.harmony.harmoniservices.core.domain.entities.Job;
 import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
 import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
 import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
 import com.harmony.harmoniservices.core.domain.entities.Task;
 import com.harmony.harmoniservices.core.domain.entities.TaskConfiguration;
+import com.harmony.harmoniservices.core.domain.entities.Timer;
 import com.harmony.harmoniservices.core.domain.entities.User;
 import com.harmony.harmoniservices.core.domain.enums.TriggerType;
-import com.harmony.harmoniservices.core.domain.enums.TypeGateway;
 import com.harmony.harmoniservices.core.domain.events.MessageEvent;
 import com.harmony.harmoniservices.core.domain.events.SignalEvent;
-import com.harmony.harmoniservices.core.domain.events.TimerEvent;
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
+import com.harmony.harmoniservices.core.domain.graph.NodeKind;
+import com.harmony.harmoniservices.core.domain.graph.ProcessGraph;
+import com.harmony.harmoniservices.core.domain.services.DecisionCache;
 import com.harmony.harmoniservices.core.domain.services.EventHandler;
-import com.harmony.harmoniservices.core.domain.services.GatewayEvaluator;
+import com.harmony.harmoniservices.core.domain.services.ProcessGraphCache;
 import com.harmony.harmoniservices.core.ports.cases.BpmnService;
 import com.harmony.harmoniservices.core.ports.cases.ProcessAutomationService;
+import com.harmony.harmoniservices.core.ports.repository.DecisionTableRepository;
+import com.harmony.harmoniservices.core.ports.repository.ExecutionTokenRepository;
+import com.harmony.harmoniservices.core.ports.repository.JobRepository;
 import com.harmony.harmoniservices.core.ports.repository.ProcessInstanceRepository;
-import com.harmony.harmoniservices.core.ports.repository.ProcessExecutionRepository;
+import com.harmony.harmoniservices.core.ports.repository.TaskAssignmentRepository;
 import com.harmony.harmoniservices.core.ports.repository.TaskConfigurationRepository;
+import com.harmony.harmoniservices.core.ports.repository.TimerRepository;
 import com.harmony.harmoniservices.core.ports.repository.BpmnProcessRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -43,13 +71,40 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ProcessAutomationServiceImpl implements ProcessAutomationService {
 
+    // Nouvelle tentative, dans une nouvelle transaction, quand une autre opération
+    // a modifié l'instance entre sa lecture et son écriture
+    private static final String RETRY_MAX_ATTEMPTS = "${harmony.engine.retry.max-attempts:5}";
+    private static final String RETRY_BACKOFF_MS = "${harmony.engine.retry.backoff-ms:20}";
+
     private final BpmnService bpmnService;
     private final ProcessInstanceRepository processInstanceRepository;
-    private final ProcessExecutionRepository processExecutionRepository;
     private final TaskConfigurationRepository taskConfigurationRepository;
     private final BpmnProcessRepository bpmnProcessRepository;
-    private final GatewayEvaluator gatewayEvaluator;
     private final EventHandler eventHandler;
+    private final ProcessGraphCache processGraphCache;
+    private final ProcessNavigator processNavigator;
+    private final ExecutionTokenRepository executionTokenRepository;
+    private final JobRepository jobRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final DecisionTableRepository decisionTableRepository;
+    private final TimerRepository timerRepository;
+    private final DecisionCache decisionCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value(RETRY_MAX_ATTEMPTS)
+    private int retryMaxAttempts;
+
+    @Value(RETRY_BACKOFF_MS)
+    private long retryBackoffMs;
+
+    @Value("${harmony.engine.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    @Value("${harmony.engine.tasks.max-page-size:200}")
+    private int maxTaskPageSize;
+
+    @Value("${harmony.engine.timers.retry-delay-seconds:30}")
+    private long timerRetryDelaySeconds;
 
     @Override
     @Transactional
@@ -60,49 +115,47 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         BpmnProcess process = bpmnProcessRepository.findById(processId)
                 .orElseThrow(() -> new IllegalArgumentException("Processus non trouvé: " + processId));
         
-        // Créer une nouvelle instance de processus
-        ProcessInstance instance = ProcessInstance.builder()
-                .process(process)
-                .status("ACTIVE")
-                .startTime(LocalDateTime.now())
-                .initiator(initiator)
-                .businessKey(businessKey)
-                .processVariables(variables != null ? variables : new HashMap<>())
-                .executionHistory(new ArrayList<>())
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        // Créer l'instance et placer ses premiers jetons
+        ProcessGraph graph = processGraphCache.get(process);
+        ProcessNavigator.Step step = newInstanceStep(process, graph, initiator, variables, businessKey);
+        ProcessInstance instance = step.getInstance();
         
-        // Déterminer la première tâche ou événement
-        String firstElementId = findStartElement(process);
-        instance.setCurrentTaskId(firstElementId);
-        
-        // Persister l'instance
+        // Persister l'instance pour obtenir son ID, puis ses jetons et son historique en une fois
         ProcessInstance savedInstance = processInstanceRepository.save(instance);
-        
-        // Créer une entrée dans l'historique pour le démarrage du processus
-        ProcessExecution execution = ProcessExecution.builder()
-                .processInstanceId(savedInstance.getId())
-                .taskId("start")
-                .taskName("Démarrage du processus")
-                .status("COMPLETED")
-                .startTime(LocalDateTime.now())
-                .endTime(LocalDateTime.now())
-                .executor(initiator)
-                .result("Processus démarré")
-                .createdAt(LocalDateTime.now())
-                .build();
-        
-        processExecutionRepository.save(execution);
+        processNavigator.persist(step, savedInstance.getId());
         
         // Configurer les événements de démarrage (timer, message, signal)
-        setupInitialEvents(savedInstance);
+        setupInitialEvents(savedInstance, graph);
+        setupReachedEvents(savedInstance, step);
         
         return savedInstance;
     }
 
+    @Override
+    public List<Long> startProcesses(String processId, User initiator, List<StartRequest> requests) {
+        log.info("Démarrage en lot de {} instances du processus {} par l'utilisateur {}",
+                requests.size(), processId, initiator.getId());
+        
+        // Résoudre la définition et son graphe une seule fois pour tout le lot
+        BpmnProcess process = bpmnProcessRepository.findById(processId)
+                .orElseThrow(() -> new IllegalArgumentException("Processus non trouvé: " + processId));
+        ProcessGraph graph = processGraphCache.get(process);
+        
+        // Une transaction par tranche : les insertions de la tranche partent en lots JDBC
+        List<Long> instanceIds = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += bulkChunkSize) {
+            List<StartRequest> chunk = requests.subList(from, Math.min(from + bulkChunkSize, requests.size()));
+            instanceIds.addAll(transactionTemplate.execute(status -> startChunk(process, graph, initiator, chunk)));
+        }
+        
+        log.info("{} instances du processus {} démarrées", instanceIds.size(), processId);
+        return instanceIds;
+    }
+
     @Override
     @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttemptsExpression = RETRY_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = RETRY_BACKOFF_MS, multiplier = 2, random = true))
     public ProcessInstance completeTask(Long processInstanceId, String taskId, User user, Map<String, Object> variables) {
         log.info("Achèvement de la tâche {} dans le processus {} par l'utilisateur {}", 
                 taskId, processInstanceId, user.getId());
@@ -111,81 +164,121 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         ProcessInstance instance = processInstanceRepository.findById(processInstanceId)
                 .orElseThrow(() -> new IllegalArgumentException("Instance de processus non trouvée: " + processInstanceId));
         
-        // Vérifier que la tâche est bien la tâche courante
-        if (!taskId.equals(instance.getCurrentTaskId())) {
-            throw new IllegalStateException("La tâche " + taskId + " n'est pas la tâche courante de l'instance de processus");
-        }
-        
-        // Vérifier que l'utilisateur est autorisé à compléter cette tâche
-        verifyUserAuthorization(instance, taskId, user);
+        ExecutionToken token = acquireForCompletion(instance, taskId, user,
+                taskConfigurationRepository.findByTaskId(taskId).orElse(null));
+        advance(instance, token, taskId, user, variables);
         
-        // Mettre à jour les variables du processus
-        if (variables != null) {
-            Map<String, Object> processVariables = instance.getProcessVariables();
-            processVariables.putAll(variables);
-            instance.setProcessVariables(processVariables);
+        // Persister l'instance mise à jour
+        return processInstanceRepository.save(instance);
+    }
+
+    @Override
+    public List<CompletionResult> completeTasks(User user, List<CompleteRequest> requests) {
+        log.info("Achèvement en lot de {} tâches par l'utilisateur {}", requests.size(), user.getId());
+        
+        List<CompletionResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += bulkChunkSize) {
+            List<CompleteRequest> chunk = requests.subList(from, Math.min(from + bulkChunkSize, requests.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> completeChunk(user, chunk)));
+            } catch (RuntimeException e) {
+                // La tranche est annulée (conflit de version, erreur de navigation...) : les copies en cache
+                // de ses instances sont périmées ou partiellement modifiées, les oublier avant de rejouer
+                // la tranche élément par élément pour isoler les demandes en échec
+                log.warn("Échec de l'achèvement en lot ({}), reprise élément par élément", e.getMessage());
+                processInstanceRepository.evictAll(chunk.stream()
+                        .map(CompleteRequest::getProcessInstanceId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+                for (CompleteRequest request : chunk) {
+                    results.add(completeSingle(user, request));
+                }
+            }
         }
         
-        // Créer une entrée dans l'historique
-        LocalDateTime now = LocalDateTime.now();
-        ProcessExecution execution = ProcessExecution.builder()
-                .processInstanceId(instance.getId())
-                .taskId(taskId)
-                .taskName(getTaskName(instance.getProcess(), taskId))
-                .status("COMPLETED")
-                .startTime(now) // Idéalement, on récupérerait le startTime réel
-                .endTime(now)
-                .executor(user)
-                .result("Tâche complétée")
-                .createdAt(now)
-                .build();
-        
-        processExecutionRepository.save(execution);
-        
-        // Déterminer la/les prochaine(s) tâche(s)
-        List<String> nextElementIds = determineNextElements(instance.getProcess(), taskId, instance.getProcessVariables());
-        
-        // Si pas de prochaine tâche, terminer le processus
-        if (nextElementIds.isEmpty()) {
-            instance.setStatus("COMPLETED");
-            instance.setEndTime(now);
-            instance.setCurrentTaskId(null);
-        } 
-        // Si plusieurs tâches suivantes (après passerelle parallèle), gérer les chemins parallèles
-        else if (nextElementIds.size() > 1) {
-            // Dans une implémentation complète, nous gérerions ici les chemins parallèles avec un moteur
-            // comme Camunda. Pour cette implémentation simplifiée, nous prenons juste le premier élément.
-            instance.setCurrentTaskId(nextElementIds.get(0));
-            log.warn("Plusieurs chemins détectés après une passerelle. Seul le premier est suivi dans cette implémentation.");
+        List<CompletionResult> failures = results.stream()
+                .filter(result -> !result.isSuccess())
+                .collect(Collectors.toList());
+        log.info("{} tâches sur {} complétées", results.size() - failures.size(), requests.size());
+        if (!failures.isEmpty()) {
+            log.warn("Tâches non complétées: {}", failures.stream()
+                    .map(result -> result.getTaskId() + "@" + result.getProcessInstanceId() + " (" + result.getMessage() + ")")
+                    .collect(Collectors.joining(", ")));
         }
-        // Cas normal: une seule tâche suivante
-        else {
-            instance.setCurrentTaskId(nextElementIds.get(0));
-            
-            // Vérifier si le prochain élément est un événement et le configurer si nécessaire
-            setupEventIfNeeded(instance, nextElementIds.get(0));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttemptsExpression = RETRY_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = RETRY_BACKOFF_MS, multiplier = 2, random = true))
+    public void completeJob(Long jobId, String lockOwner, Map<String, Object> variables) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Travail non trouvé: " + jobId));
+        if (!"RUNNING".equals(job.getStatus()) || !Objects.equals(lockOwner, job.getLockOwner())) {
+            // Bail expiré pendant l'exécution et repris par un autre nœud : seul le détenteur applique le résultat
+            log.warn("Résultat du travail {} ignoré: bail détenu par {} (statut {})", jobId, job.getLockOwner(), job.getStatus());
+            return;
+        }
+        ProcessInstance instance = processInstanceRepository.findById(job.getProcessInstanceId())
+                .orElseThrow(() -> new IllegalArgumentException("Instance de processus non trouvée: " + job.getProcessInstanceId()));
+        
+        ExecutionToken token = "ACTIVE".equals(instance.getStatus())
+                ? processNavigator.acquire(instance, job.getElementId())
+                : null;
+        if (token == null) {
+            // Instance arrêtée ou tâche complétée entre-temps : le résultat du travail est ignoré
+            log.warn("Aucun chemin actif n'attend la tâche {} dans l'instance {}, travail {} annulé",
+                    job.getElementId(), instance.getId(), jobId);
+            job.setStatus("CANCELLED");
+        } else {
+            advance(instance, token, job.getElementId(), systemUser(), variables);
+            processInstanceRepository.save(instance);
+            job.setStatus("COMPLETED");
         }
         
-        instance.setUpdatedAt(now);
-        
-        // Persister l'instance mise à jour
-        return processInstanceRepository.save(instance);
+        job.setErrorMessage(null);
+        job.setLockOwner(null);
+        job.setLockExpiresAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    @Override
+    public int fireTimers(List<Long> timerIds) {
+        try {
+            return transactionTemplate.execute(status -> fireTimerBatch(timerIds));
+        } catch (RuntimeException e) {
+            // Le lot est annulé : le rejouer timer par timer pour isoler celui en échec
+            log.warn("Échec du déclenchement en lot de {} timers ({}), reprise un par un", timerIds.size(), e.getMessage());
+            int fired = 0;
+            for (Long timerId : timerIds) {
+                try {
+                    fired += transactionTemplate.execute(status -> fireTimerBatch(List.of(timerId)));
+                } catch (RuntimeException single) {
+                    log.error("Échec du déclenchement du timer {}: {}", timerId, single.getMessage());
+                    timerRepository.reschedule(timerId, LocalDateTime.now().plusSeconds(timerRetryDelaySeconds));
+                }
+            }
+            return fired;
+        }
     }
 
     @Override
-    public List<ProcessInstance> getUserTasks(Long userId) {
+    public TaskPage getUserTasks(Long userId, Long after, int size) {
         log.info("Récupération des tâches assignées à l'utilisateur {}", userId);
+        validatePageSize(size);
         
-        // Récupérer toutes les instances de processus actives où l'utilisateur est assigné à la tâche courante
-        return processInstanceRepository.findActiveInstancesWithUserTasks(userId);
+        // Une entrée de plus que demandé indique s'il reste une page suivante
+        return toPage(taskAssignmentRepository.findUserTasks(userId, after, size + 1), size);
     }
 
     @Override
-    public List<ProcessInstance> getGroupTasks(Long groupId) {
+    public TaskPage getGroupTasks(Long groupId, Long after, int size) {
         log.info("Récupération des tâches disponibles pour le groupe {}", groupId);
+        validatePageSize(size);
         
-        // Récupérer toutes les instances de processus actives où le groupe est autorisé à effectuer la tâche courante
-        return processInstanceRepository.findActiveInstancesWithGroupTasks(groupId);
+        return toPage(taskAssignmentRepository.findGroupTasks(groupId, after, size + 1), size);
     }
 
     @Override
@@ -193,6 +286,16 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         return processInstanceRepository.findById(processInstanceId);
     }
 
+    @Override
+    public List<ProcessExecution> getExecutionHistory(Long processInstanceId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Pagination invalide: page=" + page + ", size=" + size);
+        }
+        ProcessInstance instance = processInstanceRepository.findById(processInstanceId)
+                .orElseThrow(() -> new IllegalArgumentException("Instance de processus non trouvée: " + processInstanceId));
+        return instance.getExecutionHistory(page, size);
+    }
+
     @Override
     public List<ProcessInstance> getActiveProcessInstances(String processId) {
         return processInstanceRepository.findActiveInstancesByProcessId(processId);
@@ -208,10 +311,10 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
                 .orElseThrow(() -> new IllegalArgumentException("Processus non trouvé: " + processId));
         
         // Vérifier que la tâche existe dans le processus
-        boolean taskExists = process.getTasks().stream()
-                .anyMatch(task -> task.getId().equals(taskId));
+        ProcessGraph graph = processGraphCache.get(process);
+        int taskNode = graph.indexOf(taskId);
         
-        if (!taskExists) {
+        if (taskNode == ProcessGraph.NO_NODE || !graph.kind(taskNode).isTask()) {
             throw new IllegalArgumentException("Tâche non trouvée dans le processus: " + taskId);
         }
         
@@ -224,7 +327,11 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         taskConfigurationRepository.deleteByTaskId(taskId);
         
         // Persister la nouvelle configuration
-        return taskConfigurationRepository.save(configuration);
+        TaskConfiguration saved = taskConfigurationRepository.save(configuration);
+
+        // Les tâches déjà en attente sur ce nœud suivent la nouvelle assignation
+        taskAssignmentRepository.rebuildForTask(taskId);
+        return saved;
     }
 
     @Override
@@ -248,6 +355,8 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
 
     @Override
     @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttemptsExpression = RETRY_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = RETRY_BACKOFF_MS, multiplier = 2, random = true))
     public ProcessInstance suspendProcess(Long processInstanceId) {
         ProcessInstance instance = processInstanceRepository.findById(processInstanceId)
                 .orElseThrow(() -> new IllegalArgumentException("Instance de processus non trouvée: " + processInstanceId));
@@ -255,11 +364,14 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         instance.setStatus("SUSPENDED");
         instance.setUpdatedAt(LocalDateTime.now());
         
+        taskAssignmentRepository.setSuspended(processInstanceId, true);
         return processInstanceRepository.save(instance);
     }
 
     @Override
     @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttemptsExpression = RETRY_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = RETRY_BACKOFF_MS, multiplier = 2, random = true))
     public ProcessInstance resumeProcess(Long processInstanceId) {
         ProcessInstance instance = processInstanceRepository.findById(processInstanceId)
                 .orElseThrow(() -> new IllegalArgumentException("Instance de processus non trouvée: " + processInstanceId));
@@ -271,71 +383,348 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         instance.setStatus("ACTIVE");
         instance.setUpdatedAt(LocalDateTime.now());
         
+        taskAssignmentRepository.setSuspended(processInstanceId, false);
         return processInstanceRepository.save(instance);
     }
 
     @Override
     @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttemptsExpression = RETRY_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = RETRY_BACKOFF_MS, multiplier = 2, random = true))
     public ProcessInstance terminateProcess(Long processInstanceId) {
         ProcessInstance instance = processInstanceRepository.findById(processInstanceId)
                 .orElseThrow(() -> new IllegalArgumentException("Instance de processus non trouvée: " + processInstanceId));
         
         instance.setStatus("TERMINATED");
+        instance.setCurrentTaskId(null);
         instance.setEndTime(LocalDateTime.now());
         instance.setUpdatedAt(LocalDateTime.now());
         
+        // Clore tous les chemins encore actifs
+        executionTokenRepository.completeAll(processInstanceId);
+        taskAssignmentRepository.deleteByProcessInstanceId(processInstanceId);
+        timerRepository.cancelByProcessInstanceId(processInstanceId);
+        jobRepository.cancelByProcessInstanceId(processInstanceId);
+        
         return processInstanceRepository.save(instance);
     }
 
     @Override
     @Transactional
-    public BpmnProcess deployProcess(String processDefinition, String name) {
+    public BpmnProcess deployProcess(String processDefinition, String name, HistoryLevel historyLevel) {
         // Analyser le processus BPMN
         // Ici, nous simulons la création du processus à partir de la définition XML
         BpmnProcess process = BpmnProcess.builder()
                 .id(java.util.UUID.randomUUID().toString())
                 .name(name)
                 .isExecutable(true)
+                .historyLevel(historyLevel)
                 .description("Processus déployé automatiquement")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
         
-        // Persister le processus
-        return bpmnProcessRepository.save(process);
+        // Persister le processus et invalider un éventuel graphe compilé sous le même ID
+        BpmnProcess savedProcess = bpmnProcessRepository.save(process);
+        processGraphCache.evict(savedProcess.getId());
+        return savedProcess;
+    }
+
+    @Override
+    @Transactional
+    public DecisionTable deployDecision(DecisionTable table) {
+        // Compiler avant de persister : une table invalide est rejetée au déploiement, pas à l'exécution
+        CompiledDecision compiled = DecisionCompiler.compile(table);
+
+        LocalDateTime now = LocalDateTime.now();
+        decisionTableRepository.findByDecisionKey(table.getDecisionKey()).ifPresentOrElse(existing -> {
+            table.setId(existing.getId());
+            table.setCreatedAt(existing.getCreatedAt());
+        }, () -> {
+            table.setId(null);
+            table.setCreatedAt(now);
+        });
+        table.setHitPolicy(compiled.getHitPolicy());
+        table.setUpdatedAt(now);
+
+        DecisionTable saved = decisionTableRepository.save(table);
+        decisionCache.put(compiled);
+        log.info("Table de décision {} déployée ({} règles)", saved.getDecisionKey(),
+                saved.getRules() != null ? saved.getRules().size() : 0);
+        return saved;
+    }
+
+    @Override
+    public Map<String, Object> evaluateDecision(String decisionKey, Map<String, Object> variables) {
+        CompiledDecision decision = decisionCache.find(decisionKey)
+                .orElseThrow(() -> new IllegalArgumentException("Table de décision non trouvée: " + decisionKey));
+        return decision.evaluateToVariables(variables != null ? variables : Map.of(), null);
     }
     
     // Méthodes utilitaires privées
     
-    private String findStartElement(BpmnProcess process) {
-        // Chercher d'abord un événement de démarrage
-        Optional<Event> startEvent = process.getEvents().stream()
-                .filter(event -> event.getTypeEvent().name().contains("START"))
-                .findFirst();
-        
-        if (startEvent.isPresent()) {
-            // Trouver la séquence sortant de l'événement de démarrage
-            Optional<SequenceFlow> startSequence = process.getSequenceFlows().stream()
-                    .filter(flow -> flow.getSourceRef().equals(startEvent.get().getId()))
-                    .findFirst();
+    private void validatePageSize(int size) {
+        if (size <= 0 || size > maxTaskPageSize) {
+            throw new IllegalArgumentException("Taille de page invalide: " + size + " (maximum " + maxTaskPageSize + ")");
+        }
+    }
+
+    private static TaskPage toPage(List<TaskSummary> tasks, int size) {
+        if (tasks.size() <= size) {
+            return TaskPage.builder().tasks(tasks).build();
+        }
+        List<TaskSummary> page = new ArrayList<>(tasks.subList(0, size));
+        return TaskPage.builder()
+                .tasks(page)
+                .nextCursor(page.get(size - 1).getAssignmentId())
+                .build();
+    }
+
+    private ProcessNavigator.Step newInstanceStep(BpmnProcess process, ProcessGraph graph, User initiator,
+            Map<String, Object> variables, String businessKey) {
+        // Créer une nouvelle instance de processus
+        ProcessInstance instance = ProcessInstance.builder()
+                .process(process)
+                .status("ACTIVE")
+                .startTime(LocalDateTime.now())
+                .initiator(initiator)
+                .businessKey(businessKey)
+                .processVariables(variables != null ? variables : new HashMap<>())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        
+        // Créer une entrée dans l'historique pour le démarrage du processus
+        ProcessExecution execution = ProcessExecution.builder()
+                .taskId("start")
+                .taskName("Démarrage du processus")
+                .status("COMPLETED")
+                .startTime(LocalDateTime.now())
+                .endTime(LocalDateTime.now())
+                .executor(initiator)
+                .result("Processus démarré")
+                .createdAt(LocalDateTime.now())
+                .build();
+        
+        // Placer les premiers jetons d'exécution (un par branche ouverte au démarrage),
+        // en traversant les nœuds automatiques jusqu'aux premiers états d'attente
+        ProcessNavigator.Step step = processNavigator.begin(instance, graph);
+        step.record(execution, variables);
+        processNavigator.start(step);
+        processNavigator.updateInstanceState(step);
+        
+        return step;
+    }
+    
+    private List<Long> startChunk(BpmnProcess process, ProcessGraph graph, User initiator, List<StartRequest> chunk) {
+        List<ProcessNavigator.Step> steps = new ArrayList<>(chunk.size());
+        List<ProcessInstance> instances = new ArrayList<>(chunk.size());
+        for (StartRequest request : chunk) {
+            ProcessNavigator.Step step = newInstanceStep(process, graph, initiator, request.getVariables(), request.getBusinessKey());
+            steps.add(step);
+            instances.add(step.getInstance());
+        }
+        
+        // Les identifiants sont pré-alloués par séquence : aucune insertion n'a lieu avant le flush
+        List<ProcessInstance> savedInstances = processInstanceRepository.saveAll(instances);
+        
+        List<Long> instanceIds = new ArrayList<>(savedInstances.size());
+        for (int i = 0; i < savedInstances.size(); i++) {
+            ProcessInstance savedInstance = savedInstances.get(i);
+            processNavigator.persist(steps.get(i), savedInstance.getId());
+            setupInitialEvents(savedInstance, graph);
+            setupReachedEvents(savedInstance, steps.get(i));
+            instanceIds.add(savedInstance.getId());
+        }
+        return instanceIds;
+    }
+    
+    private ExecutionToken acquireForCompletion(ProcessInstance instance, String taskId, User user, TaskConfiguration config) {
+        // Une instance terminée ou suspendue ne peut plus avancer
+        if (!"ACTIVE".equals(instance.getStatus())) {
+            throw new IllegalStateException("L'instance de processus " + instance.getId() + " n'est pas active: " + instance.getStatus());
+        }
+        
+        // Vérifier qu'un chemin actif attend bien sur cette tâche
+        ExecutionToken token = processNavigator.acquire(instance, taskId);
+        if (token == null) {
+            throw new IllegalStateException("La tâche " + taskId + " n'est pas active dans l'instance de processus");
+        }
+        
+        // Vérifier que l'utilisateur est autorisé à compléter cette tâche
+        verifyUserAuthorization(config, user);
+        return token;
+    }
+    
+    private void advance(ProcessInstance instance, ExecutionToken token, String taskId, User user, Map<String, Object> variables) {
+        ProcessGraph graph = processGraphCache.get(instance.getProcess());
+        
+        // Mettre à jour les variables du processus
+        instance.putVariables(variables);
+        
+        // Créer une entrée dans l'historique
+        LocalDateTime now = LocalDateTime.now();
+        ProcessExecution execution = ProcessExecution.builder()
+                .processInstanceId(instance.getId())
+                .taskId(taskId)
+                .taskName(getTaskName(graph, taskId))
+                .status("COMPLETED")
+                .startTime(now) // Idéalement, on récupérerait le startTime réel
+                .endTime(now)
+                .executor(user)
+                .result("Tâche complétée")
+                .createdAt(now)
+                .build();
+        
+        // Faire avancer le jeton jusqu'aux prochains états d'attente : passerelles, fourches,
+        // jointures et tâches automatiques sont traitées dans ce même pas.
+        // L'instance n'est terminée que lorsque plus aucun jeton n'est actif.
+        ProcessNavigator.Step step = processNavigator.begin(instance, graph);
+        step.record(execution, variables);
+        processNavigator.leave(step, token);
+        processNavigator.updateInstanceState(step);
+        processNavigator.persist(step, instance.getId());
+        
+        // Configurer les événements sur lesquels les chemins attendent désormais
+        setupReachedEvents(instance, step);
+    }
+    
+    private List<CompletionResult> completeChunk(User user, List<CompleteRequest> chunk) {
+        // Chargements ensemblistes : toutes les instances et configurations de la tranche en deux requêtes
+        Map<Long, ProcessInstance> instances = processInstanceRepository.findAllById(chunk.stream()
+                        .map(CompleteRequest::getProcessInstanceId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProcessInstance::getId, Function.identity()));
+        Map<String, TaskConfiguration> configurations = taskConfigurationRepository.findByTaskIdIn(chunk.stream()
+                        .map(CompleteRequest::getTaskId)
+                        .distinct()
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(TaskConfiguration::getTaskId, Function.identity(), (first, second) -> first));
+        
+        List<CompletionResult> results = new ArrayList<>(chunk.size());
+        Set<ProcessInstance> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CompleteRequest request : chunk) {
+            ProcessInstance instance = instances.get(request.getProcessInstanceId());
+            if (instance == null) {
+                results.add(CompletionResult.failed(request, "Instance de processus non trouvée: " + request.getProcessInstanceId()));
+                continue;
+            }
             
-            if (startSequence.isPresent()) {
-                return startSequence.get().getTargetRef();
+            // Les refus (tâche inactive, utilisateur non autorisé) sont détectés avant toute écriture
+            ExecutionToken token;
+            try {
+                token = acquireForCompletion(instance, request.getTaskId(), user, configurations.get(request.getTaskId()));
+            } catch (IllegalStateException | SecurityException e) {
+                results.add(CompletionResult.failed(request, e.getMessage()));
+                continue;
             }
+            
+            // Transition appliquée en mémoire, l'instance n'est sauvegardée qu'une fois en fin de tranche
+            advance(instance, token, request.getTaskId(), user, request.getVariables());
+            touched.add(instance);
+            results.add(CompletionResult.completed(request, instance.getStatus()));
         }
         
-        // Si pas d'événement de démarrage trouvé, prendre la première tâche
-        if (process.getTasks() != null && !process.getTasks().isEmpty()) {
-            return process.getTasks().get(0).getId();
+        processInstanceRepository.saveAll(new ArrayList<>(touched));
+        return results;
+    }
+    
+    private int fireTimerBatch(List<Long> timerIds) {
+        // Timers déjà déclenchés, annulés, replanifiés ou pris par un autre nœud : ignorés
+        LocalDateTime now = LocalDateTime.now();
+        List<Timer> timers = timerRepository.lockDue(timerIds, now);
+        if (timers.isEmpty()) {
+            return 0;
+        }
+        Map<Long, ProcessInstance> instances = processInstanceRepository.findAllById(timers.stream()
+                        .map(Timer::getProcessInstanceId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProcessInstance::getId, Function.identity()));
+        
+        Set<ProcessInstance> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Timer> fired = new ArrayList<>(timers.size());
+        for (Timer timer : timers) {
+            ProcessInstance instance = instances.get(timer.getProcessInstanceId());
+            if (instance != null && "SUSPENDED".equals(instance.getStatus())) {
+                // Instance suspendue : le timer reste en attente et sera rechargé à la reprise
+                continue;
+            }
+            fired.add(timer);
+            if (instance != null && "ACTIVE".equals(instance.getStatus())) {
+                ExecutionToken token = acquireEventToken(instance, processGraphCache.get(instance.getProcess()),
+                        timer.getElementId());
+                if (token != null) {
+                    // Transition appliquée en mémoire, l'instance n'est sauvegardée qu'une fois en fin de lot
+                    advance(instance, token, timer.getElementId(), systemUser(), new HashMap<>());
+                    touched.add(instance);
+                }
+            }
+            
+            // Le timer est lié à l'attente d'un chemin sur l'élément : le jeton quitte l'élément au
+            // déclenchement. Un retour sur l'élément par une boucle programme l'occurrence suivante du
+            // cycle, en décomptant les répétitions restantes de ce timer.
+            timer.setStatus("FIRED");
+            timer.setLockOwner(null);
+            timer.setLockExpiresAt(null);
+            timer.setUpdatedAt(now);
         }
         
-        return null;
+        processInstanceRepository.saveAll(new ArrayList<>(touched));
+        timerRepository.saveAll(fired);
+        log.debug("{} timer(s) déclenché(s) sur {} échu(s)", fired.size(), timers.size());
+        return fired.size();
     }
     
-    private void verifyUserAuthorization(ProcessInstance instance, String taskId, User user) {
-        // Récupérer la configuration de la tâche
-        TaskConfiguration config = taskConfigurationRepository.findByTaskId(taskId).orElse(null);
-        
+    private CompletionResult completeSingle(User user, CompleteRequest request) {
+        // Conflit de version : nouvelle tentative bornée, après une attente croissante, sur une instance relue
+        long backoffMs = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ProcessInstance instance = transactionTemplate.execute(status -> {
+                    ProcessInstance loaded = processInstanceRepository.findById(request.getProcessInstanceId())
+                            .orElseThrow(() -> new IllegalArgumentException(
+                                    "Instance de processus non trouvée: " + request.getProcessInstanceId()));
+                    ExecutionToken token = acquireForCompletion(loaded, request.getTaskId(), user,
+                            taskConfigurationRepository.findByTaskId(request.getTaskId()).orElse(null));
+                    advance(loaded, token, request.getTaskId(), user, request.getVariables());
+                    return processInstanceRepository.save(loaded);
+                });
+                return CompletionResult.completed(request, instance.getStatus(), attempt);
+            } catch (OptimisticLockingFailureException e) {
+                processInstanceRepository.evictAll(List.of(request.getProcessInstanceId()));
+                if (attempt >= retryMaxAttempts || !pause(backoffMs)) {
+                    return CompletionResult.failed(request, "Instance modifiée concurremment: " + e.getMessage(), attempt);
+                }
+                backoffMs *= 2;
+            } catch (Exception e) {
+                return CompletionResult.failed(request, e.getMessage(), attempt);
+            }
+        }
+    }
+    
+    private static boolean pause(long backoffMs) {
+        try {
+            // Attente aléatoire jusqu'au double du délai, pour désynchroniser les demandes concurrentes
+            Thread.sleep(backoffMs + ThreadLocalRandom.current().nextLong(backoffMs + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private User systemUser() {
+        // Utilisateur système pour l'exécution automatique
+        return User.builder()
+                .id(0L)
+                .username("system")
+                .build();
+    }
+    
+    private void verifyUserAuthorization(TaskConfiguration config, User user) {
         // Si pas de configuration, on autorise par défaut
         if (config == null) {
             return;
@@ -363,106 +752,55 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         }
     }
     
-    private String getTaskName(BpmnProcess process, String taskId) {
+    private String getTaskName(ProcessGraph graph, String taskId) {
         // Récupérer le nom de la tâche
-        return process.getTasks().stream()
-                .filter(task -> task.getId().equals(taskId))
-                .map(Task::getName)
-                .findFirst()
-                .orElse("Tâche inconnue");
+        int node = graph.indexOf(taskId);
+        if (node == ProcessGraph.NO_NODE || !graph.kind(node).isTask() || graph.name(node) == null) {
+            return "Tâche inconnue";
+        }
+        return graph.name(node);
     }
     
-    private List<String> determineNextElements(BpmnProcess process, String currentElementId, Map<String, Object> variables) {
-        // Trouver les séquences sortant de l'élément courant
-        List<SequenceFlow> outgoingFlows = process.getSequenceFlows().stream()
-                .filter(flow -> flow.getSourceRef().equals(currentElementId))
-                .collect(Collectors.toList());
-        
-        // Si pas de flux sortant, fin du processus
-        if (outgoingFlows.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        // Si un seul flux sortant, le suivre directement
-        if (outgoingFlows.size() == 1) {
-            String targetRef = outgoingFlows.get(0).getTargetRef();
-            return List.of(targetRef);
-        }
-        
-        // S'il y a plusieurs flux sortants, c'est probablement une passerelle
-        // Chercher la passerelle connectée
-        for (SequenceFlow flow : outgoingFlows) {
-            Optional<Gateway> gateway = process.getGateways().stream()
-                    .filter(g -> g.getId().equals(flow.getTargetRef()))
-                    .findFirst();
-            
-            if (gateway.isPresent()) {
-                // Trouver les flux sortants de la passerelle
-                List<SequenceFlow> gatewayOutflows = process.getSequenceFlows().stream()
-                        .filter(f -> f.getSourceRef().equals(gateway.get().getId()))
-                        .collect(Collectors.toList());
-                
-                // Évaluer la passerelle selon son type
-                return evaluateGateway(gateway.get(), gatewayOutflows, variables).stream()
-                        .map(SequenceFlow::getTargetRef)
-                        .collect(Collectors.toList());
+    /**
+     * Trouve et verrouille le jeton qui attend un événement, directement ou sur une passerelle basée
+     * sur les événements ; le jeton est alors placé sur l'événement, prêt à le quitter
+     */
+    private ExecutionToken acquireEventToken(ProcessInstance instance, ProcessGraph graph, String eventId) {
+        ExecutionToken token = processNavigator.acquire(instance, eventId);
+        int eventNode = graph.indexOf(eventId);
+        for (int i = 0; token == null && eventNode != ProcessGraph.NO_NODE && i < graph.inDegree(eventNode); i++) {
+            int source = graph.flowSource(graph.incomingFlow(eventNode, i));
+            if (source != ProcessGraph.NO_NODE && graph.kind(source) == NodeKind.EVENT_BASED_GATEWAY) {
+                token = processNavigator.acquire(instance, graph.nodeId(source));
             }
         }
-        
-        // Si on ne trouve pas de passerelle, suivre le premier flux par défaut
-        return List.of(outgoingFlows.get(0).getTargetRef());
-    }
-    
-    private List<SequenceFlow> evaluateGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables) {
-        TypeGateway type = gateway.getTypeGateway();
-        
-        switch (type) {
-            case EXCLUSIVE:
-                return List.of(gatewayEvaluator.evaluateExclusiveGateway(gateway, outgoingFlows, variables));
-            case INCLUSIVE:
-                return gatewayEvaluator.evaluateInclusiveGateway(gateway, outgoingFlows, variables);
-            case PARALLEL:
-                return gatewayEvaluator.evaluateParallelGateway(gateway, outgoingFlows);
-            case EVENT_BASED:
-                // Pour les passerelles basées sur les événements, configuration spéciale
-                setupEventBasedGateway(gateway, outgoingFlows);
-                // Retourner un flux vide car le processus sera repris quand un événement sera déclenché
-                return new ArrayList<>();
-            default:
-                log.warn("Type de passerelle non géré: {}. Traitement comme une passerelle exclusive.", type);
-                return List.of(gatewayEvaluator.evaluateExclusiveGateway(gateway, outgoingFlows, variables));
+        if (token != null) {
+            token.setElementId(eventId);
         }
+        return token;
     }
     
-    private void setupInitialEvents(ProcessInstance instance) {
-        BpmnProcess process = instance.getProcess();
-        
-        // Chercher tous les événements qui peuvent déclencher le processus (timer, message, signal)
-        process.getEvents().stream()
-                .filter(event -> event.getTypeEvent().name().contains("START"))
-                .forEach(event -> {
-                    if (event.getTriggerType() == TriggerType.TIMER) {
-                        eventHandler.scheduleTimerEvent(instance, event, instance.getProcessVariables());
-                    } else if (event.getTriggerType() == TriggerType.MESSAGE) {
-                        // Pour les messages, on utiliserait le businessKey comme clé de corrélation
-                        eventHandler.subscribeToMessage(instance, event, instance.getBusinessKey());
-                    } else if (event.getTriggerType() == TriggerType.SIGNAL) {
-                        eventHandler.subscribeToSignal(instance, event);
-                    }
-                });
+    private void setupInitialEvents(ProcessInstance instance, ProcessGraph graph) {
+        // Parcourir tous les événements qui peuvent déclencher le processus (timer, message, signal)
+        for (int i = 0; i < graph.startEventCount(); i++) {
+            Event event = graph.event(graph.startEvent(i));
+            if (event.getTriggerType() == TriggerType.TIMER) {
+                eventHandler.scheduleTimerEvent(instance, event, instance.getProcessVariables());
+            } else if (event.getTriggerType() == TriggerType.MESSAGE) {
+                // Pour les messages, on utiliserait le businessKey comme clé de corrélation
+                eventHandler.subscribeToMessage(instance, event, instance.getBusinessKey());
+            } else if (event.getTriggerType() == TriggerType.SIGNAL) {
+                eventHandler.subscribeToSignal(instance, event);
+            }
+        }
     }
     
-    private void setupEventIfNeeded(ProcessInstance instance, String elementId) {
-        BpmnProcess process = instance.getProcess();
-        
+    private void setupEventIfNeeded(ProcessInstance instance, ProcessGraph graph, String elementId) {
         // Chercher si l'élément est un événement
-        Optional<Event> event = process.getEvents().stream()
-                .filter(e -> e.getId().equals(elementId))
-                .findFirst();
+        int node = graph.indexOf(elementId);
+        Event e = node != ProcessGraph.NO_NODE ? graph.event(node) : null;
         
-        if (event.isPresent()) {
-            Event e = event.get();
-            
+        if (e != null) {
             if (e.getTriggerType() == TriggerType.TIMER) {
                 eventHandler.scheduleTimerEvent(instance, e, instance.getProcessVariables());
             } else if (e.getTriggerType() == TriggerType.MESSAGE) {
@@ -474,41 +812,19 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
         }
     }
     
-    private void setupEventBasedGateway(Gateway gateway, List<SequenceFlow> outgoingFlows) {
-        // Pour chaque flux sortant, trouver l'événement associé et le configurer
-        for (SequenceFlow flow : outgoingFlows) {
-            String targetRef = flow.getTargetRef();
-            
-            // Chercher l'instance de processus concernée
-            // Dans une implémentation réelle, cela serait géré par le moteur de workflow
-            log.info("Configuration de la passerelle basée sur les événements pour la cible {}", targetRef);
-            
-            // Ici, nous simulons simplement le comportement
-            // En production, cela serait fait par le moteur Camunda
-        }
-    }
-    
-    @EventListener
-    public void handleTimerEvent(TimerEvent event) {
-        log.info("Réception d'un événement timer pour l'instance {} et l'événement {}", 
-                event.getProcessInstanceId(), event.getEventId());
+    private void setupReachedEvents(ProcessInstance instance, ProcessNavigator.Step step) {
+        ProcessGraph graph = step.getGraph();
         
-        // Récupérer l'instance de processus
-        Optional<ProcessInstance> optInstance = processInstanceRepository.findById(event.getProcessInstanceId());
-        
-        if (optInstance.isPresent()) {
-            ProcessInstance instance = optInstance.get();
+        for (ExecutionToken token : step.getReached()) {
+            int node = graph.indexOf(token.getElementId());
             
-            // Si le processus est actif et l'événement correspond à l'élément courant
-            if ("ACTIVE".equals(instance.getStatus()) && event.getEventId().equals(instance.getCurrentTaskId())) {
-                // Construire un utilisateur système pour l'exécution automatique
-                User systemUser = User.builder()
-                        .id(0L)
-                        .username("system")
-                        .build();
-                
-                // Compléter la tâche/événement
-                completeTask(instance.getId(), event.getEventId(), systemUser, event.getVariables());
+            // Passerelle basée sur les événements : configurer chacun des événements concurrents
+            if (node != ProcessGraph.NO_NODE && graph.kind(node) == NodeKind.EVENT_BASED_GATEWAY) {
+                for (SequenceFlow flow : graph.outgoingFlows(node)) {
+                    setupEventIfNeeded(instance, graph, flow.getTargetRef());
+                }
+            } else {
+                setupEventIfNeeded(instance, graph, token.getElementId());
             }
         }
     }
@@ -538,6 +854,8 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
 
     @Override
     @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttemptsExpression = RETRY_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = RETRY_BACKOFF_MS, multiplier = 2, random = true))
     public boolean triggerEvent(Long processInstanceId, String eventId, Map<String, Object> variables) {
         log.info("Déclenchement de l'événement {} dans l'instance {}", eventId, processInstanceId);
         
@@ -553,44 +871,29 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
                 return false;
             }
             
-            // Récupérer le processus BPMN
-            BpmnProcess process = instance.getProcess();
+            // Récupérer le graphe compilé du processus BPMN
+            ProcessGraph graph = processGraphCache.get(instance.getProcess());
             
             // Trouver l'événement dans le processus
-            Event event = process.getEvents().stream()
-                    .filter(e -> e.getId().equals(eventId))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Événement non trouvé: " + eventId));
+            int eventNode = graph.indexOf(eventId);
+            Event event = eventNode != ProcessGraph.NO_NODE ? graph.event(eventNode) : null;
+            if (event == null) {
+                throw new IllegalArgumentException("Événement non trouvé: " + eventId);
+            }
             
             // Mettre à jour les variables du processus
-            if (variables != null && !variables.isEmpty()) {
-                Map<String, Object> processVariables = instance.getProcessVariables();
-                processVariables.putAll(variables);
-                instance.setProcessVariables(processVariables);
-            }
+            instance.putVariables(variables);
             
             // Trouver la séquence sortant de l'événement
-            List<SequenceFlow> outgoingFlows = process.getSequenceFlows().stream()
-                    .filter(flow -> flow.getSourceRef().equals(eventId))
-                    .collect(Collectors.toList());
-            
-            if (outgoingFlows.isEmpty()) {
+            if (graph.outDegree(eventNode) == 0) {
                 log.warn("Aucun flux sortant trouvé pour l'événement {}", eventId);
                 return false;
             }
             
-            // Choisir le premier flux sortant
-            SequenceFlow nextFlow = outgoingFlows.get(0);
-            String nextElementId = nextFlow.getTargetRef();
-            
-            // Convertir les variables au format JSON
-            String inputVarsJson = null;
-            if (variables != null && !variables.isEmpty()) {
-                try {
-                    inputVarsJson = new com.fasterxml.jackson.databind.ObjectMapper().writeValueAsString(variables);
-                } catch (Exception e) {
-                    log.warn("Impossible de sérialiser les variables en JSON", e);
-                }
+            ExecutionToken token = acquireEventToken(instance, graph, eventId);
+            if (token == null) {
+                log.warn("Aucun chemin actif n'attend l'événement {} dans l'instance {}", eventId, processInstanceId);
+                return false;
             }
             
             // Enregistrer l'exécution de l'événement
@@ -603,28 +906,33 @@ public class ProcessAutomationServiceImpl implements ProcessAutomationService {
                     .startTime(now)
                     .endTime(now)
                     .durationInMillis(0L)
-                    .inputVariables(inputVarsJson)
                     .result("EVENT_TRIGGERED")
                     .createdAt(now)
                     .build();
             
-            processExecutionRepository.save(execution);
-            
-            // Mettre à jour l'instance avec la nouvelle tâche courante
-            instance.setCurrentTaskId(nextElementId);
-            instance.setUpdatedAt(LocalDateTime.now());
-            instance.getExecutionHistory().add(execution);
+            // Faire sortir le jeton de l'événement et mettre à jour la tâche courante
+            ProcessNavigator.Step step = processNavigator.begin(instance, graph);
+            step.record(execution, variables);
+            processNavigator.leave(step, token);
+            processNavigator.updateInstanceState(step);
+            processNavigator.persist(step, processInstanceId);
+            setupReachedEvents(instance, step);
             
             // Persister les modifications
             processInstanceRepository.save(instance);
             
             log.info("Événement {} déclenché avec succès dans l'instance {}, prochaine tâche: {}",
-                    eventId, processInstanceId, nextElementId);
+                    eventId, processInstanceId, instance.getCurrentTaskId());
             
             return true;
+        } catch (OptimisticLockingFailureException e) {
+            // Conflit de version : laisser la politique de nouvelle tentative rejouer l'opération
+            throw e;
         } catch (Exception e) {
             log.error("Erreur lors du déclenchement de l'événement {} dans l'instance {}: {}",
                     eventId, processInstanceId, e.getMessage(), e);
+            // Jetons, liste de travail et historique déjà écrits ne doivent pas être validés
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
@@ -0,0 +1,58 @@
+package com.harmony.harmoniservices.core.cases;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.graph.ProcessGraph;
+import com.harmony.harmoniservices.core.domain.services.GatewayEvaluator;
+import com.harmony.harmoniservices.core.domain.services.ProcessGraphCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache borné des graphes compilés, indexé par ID de processus.
+ * La compilation d'un graphe compile aussi les conditions de ses séquences.
+ */
+@Service
+@Slf4j
+public class ProcessGraphCacheImpl implements ProcessGraphCache {
+
+    private final Cache<String, ProcessGraph> graphs;
+    private final GatewayEvaluator gatewayEvaluator;
+
+    public ProcessGraphCacheImpl(GatewayEvaluator gatewayEvaluator,
+            @Value("${harmony.engine.graph-cache.max-size:500}") long maxSize) {
+        this.gatewayEvaluator = gatewayEvaluator;
+        this.graphs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public ProcessGraph get(BpmnProcess process) {
+        if (process.getId() == null) {
+            // Processus non persisté : pas de clé de cache possible
+            return compile(process);
+        }
+        return graphs.get(process.getId(), id -> {
+            log.debug("Compilation du graphe du processus {}", id);
+            return compile(process);
+        });
+    }
+
+    @Override
+    public void evict(String processId) {
+        if (processId != null) {
+            graphs.invalidate(processId);
+        }
+    }
+
+    private ProcessGraph compile(BpmnProcess process) {
+        ProcessGraph graph = ProcessGraph.compile(process);
+        gatewayEvaluator.compileConditions(process.getSequenceFlows());
+        return graph;
+    }
+}
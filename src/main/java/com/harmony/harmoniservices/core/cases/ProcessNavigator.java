@@ -0,0 +1,576 @@
+package com.harmony.harmoniservices.core.cases;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.harmony.harmoniservices.core.domain.entities.ExecutionToken;
+import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.GroupeUtilisateur;
+import com.harmony.harmoniservices.core.domain.entities.Job;
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
+import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
+import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
+import com.harmony.harmoniservices.core.domain.entities.Task;
+import com.harmony.harmoniservices.core.domain.entities.TaskAssignment;
+import com.harmony.harmoniservices.core.domain.entities.TaskConfiguration;
+import com.harmony.harmoniservices.core.domain.decisions.CompiledDecision;
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
+import com.harmony.harmoniservices.core.domain.graph.NodeKind;
+import com.harmony.harmoniservices.core.domain.graph.ProcessGraph;
+import com.harmony.harmoniservices.core.domain.services.DecisionCache;
+import com.harmony.harmoniservices.core.domain.services.GatewayEvaluator;
+import com.harmony.harmoniservices.core.domain.services.HistoryWriter;
+import com.harmony.harmoniservices.core.ports.repository.ExecutionTokenRepository;
+import com.harmony.harmoniservices.core.ports.repository.JobRepository;
+import com.harmony.harmoniservices.core.ports.repository.TaskAssignmentRepository;
+import com.harmony.harmoniservices.core.ports.repository.TaskConfigurationRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Navigation des jetons d'exécution dans le graphe compilé d'un processus.
+ * Gère les fourches et les jointures des passerelles parallèles et inclusives :
+ * chaque branche active est portée par son propre jeton.
+ * Les nœuds sans état d'attente (passerelles, événements de lancement, tâches
+ * automatiques) sont traversés dans le même pas, jusqu'à une tâche humaine,
+ * un événement intermédiaire en attente ou la fin du chemin. Les tâches de service
+ * et de script prises en charge par un {@link com.harmony.harmoniservices.core.domain.services.TaskDelegate}
+ * deviennent des travaux asynchrones sur lesquels le jeton attend ; les tâches de règle
+ * métier évaluent leur table de décision en ligne.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessNavigator {
+
+    private static final String ACTIVE = "ACTIVE";
+    private static final String COMPLETED = "COMPLETED";
+
+    // Garde-fou contre les cycles de passerelles sans état d'attente
+    private static final int MAX_MOVES = 10_000;
+
+    private final GatewayEvaluator gatewayEvaluator;
+    private final DecisionCache decisionCache;
+    private final ExecutionTokenRepository executionTokenRepository;
+    private final HistoryWriter historyWriter;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final TaskConfigurationRepository taskConfigurationRepository;
+    private final JobRepository jobRepository;
+    private final TaskDelegateRegistry taskDelegates;
+    private final ObjectMapper objectMapper;
+
+    @Value("${harmony.engine.jobs.max-retries:3}")
+    private int jobMaxRetries;
+
+    @Value("${harmony.engine.history.level:AUDIT}")
+    private HistoryLevel defaultHistoryLevel;
+
+    /**
+     * Ouvre un pas d'exécution sur une instance
+     * @param instance Instance de processus (éventuellement pas encore persistée)
+     * @param graph Graphe compilé du processus
+     * @return Pas d'exécution
+     */
+    public Step begin(ProcessInstance instance, ProcessGraph graph) {
+        // Le niveau du déploiement l'emporte sur le niveau global
+        HistoryLevel historyLevel = instance.getProcess() != null && instance.getProcess().getHistoryLevel() != null
+                ? instance.getProcess().getHistoryLevel()
+                : defaultHistoryLevel;
+        return new Step(instance, graph, LocalDateTime.now(), historyLevel);
+    }
+
+    /**
+     * Place les premiers jetons d'une nouvelle instance
+     * @param step Pas d'exécution
+     */
+    public void start(Step step) {
+        ProcessGraph graph = step.graph;
+
+        // Partir de l'événement de démarrage s'il a un flux sortant
+        if (graph.startEventCount() > 0 && graph.outDegree(graph.startEvent(0)) > 0) {
+            leave(step, step.newToken(graph.nodeId(graph.startEvent(0))));
+            return;
+        }
+
+        // Sinon, démarrer directement sur la première tâche
+        if (graph.firstTask() != ProcessGraph.NO_NODE) {
+            step.reach(step.newToken(graph.nodeId(graph.firstTask())));
+        }
+    }
+
+    /**
+     * Trouve et verrouille le jeton actif positionné sur un élément
+     * @param instance Instance de processus
+     * @param elementId ID de l'élément BPMN
+     * @return Jeton actif, ou null si aucun chemin n'attend sur cet élément
+     */
+    public ExecutionToken acquire(ProcessInstance instance, String elementId) {
+        ExecutionToken token = executionTokenRepository.lockActiveToken(instance.getId(), elementId).orElse(null);
+        if (token != null) {
+            return token;
+        }
+
+        // Instances démarrées avant les jetons : l'unique chemin est porté par currentTaskId,
+        // tant que l'instance n'a été ni terminée ni suspendue
+        if ("ACTIVE".equals(instance.getStatus()) && elementId.equals(instance.getCurrentTaskId())
+                && !executionTokenRepository.existsActiveToken(instance.getId())) {
+            LocalDateTime now = LocalDateTime.now();
+            return ExecutionToken.builder()
+                    .processInstanceId(instance.getId())
+                    .elementId(elementId)
+                    .status(ACTIVE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+        }
+        return null;
+    }
+
+    /**
+     * Fait sortir un jeton de son élément courant et le propage à travers les passerelles
+     * jusqu'aux prochains éléments en attente
+     * @param step Pas d'exécution
+     * @param token Jeton à faire avancer
+     */
+    public void leave(Step step, ExecutionToken token) {
+        step.track(token);
+
+        Deque<ExecutionToken> pending = new ArrayDeque<>();
+        fork(step, token, step.graph.indexOf(token.getElementId()), pending);
+
+        int moves = 0;
+        while (!pending.isEmpty()) {
+            if (++moves > MAX_MOVES) {
+                throw new IllegalStateException("Cycle sans état d'attente détecté dans le processus " + step.graph.getProcessId());
+            }
+            arrive(step, pending.poll(), pending);
+        }
+    }
+
+    /**
+     * Met à jour la tâche courante et le statut de l'instance à partir de ses jetons actifs
+     * @param step Pas d'exécution
+     */
+    public void updateInstanceState(Step step) {
+        ProcessInstance instance = step.instance;
+        List<ExecutionToken> active = activeTokens(step);
+
+        if (active.isEmpty()) {
+            instance.setStatus("COMPLETED");
+            instance.setEndTime(step.now);
+            instance.setCurrentTaskId(null);
+        } else {
+            instance.setCurrentTaskId(active.get(0).getElementId());
+            if (active.size() > 1) {
+                log.debug("Instance {}: {} chemins actifs", instance.getId(), active.size());
+            }
+        }
+        instance.setUpdatedAt(step.now);
+    }
+
+    /**
+     * Persiste en une fois les jetons, la liste de travail et l'historique produits pendant le pas d'exécution
+     * @param step Pas d'exécution
+     * @param processInstanceId ID de l'instance (connu après la première sauvegarde)
+     */
+    public void persist(Step step, Long processInstanceId) {
+        if (!step.tokens.isEmpty()) {
+            List<Long> previousTokenIds = new ArrayList<>();
+            for (ExecutionToken token : step.tokens) {
+                token.setProcessInstanceId(processInstanceId);
+                if (token.getId() != null) {
+                    previousTokenIds.add(token.getId());
+                }
+            }
+            List<ExecutionToken> savedTokens = executionTokenRepository.saveAll(step.tokens);
+            updateWorklist(step, processInstanceId, previousTokenIds, savedTokens);
+        }
+        // Jointures incomplètes atteintes au démarrage : les arrivées comptées en mémoire rejoignent le compteur
+        for (Map.Entry<String, Integer> arrivals : step.joinArrivals.entrySet()) {
+            executionTokenRepository.addJoinArrivals(processInstanceId, arrivals.getKey(), arrivals.getValue());
+        }
+        if (!step.history.isEmpty()) {
+            // Variables sérialisées seulement si le niveau d'historique les conserve : seules les variables
+            // modifiées sont relues, les valeurs volumineuses non modifiées restent hors mémoire. Une
+            // nouvelle instance, déjà sauvegardée pour obtenir son ID, a ses variables marquées comme
+            // écrites : toutes ses variables sont nouvelles et figurent dans l'instantané.
+            String outputVariables = step.historyLevel.recordsOutputVariables()
+                    ? toJson(step.existingInstance ? changedVariables(step.instance) : step.instance.getProcessVariables())
+                    : null;
+            for (ProcessExecution execution : step.history) {
+                execution.setProcessInstanceId(processInstanceId);
+                if (step.historyLevel.recordsInputVariables()) {
+                    execution.setInputVariables(toJson(step.inputs.get(execution)));
+                }
+                execution.setOutputVariables(outputVariables);
+            }
+            historyWriter.write(step.history);
+        }
+        if (!step.jobs.isEmpty()) {
+            for (Job job : step.jobs) {
+                job.setProcessInstanceId(processInstanceId);
+            }
+            jobRepository.saveAll(step.jobs);
+        }
+    }
+
+    // Méthodes utilitaires privées
+
+    private void updateWorklist(Step step, Long processInstanceId, List<Long> previousTokenIds, List<ExecutionToken> savedTokens) {
+        // Les jetons qui existaient avant le pas ont pu quitter leur tâche : leurs entrées sont retirées
+        if (step.existingInstance) {
+            taskAssignmentRepository.deleteByTokenIds(processInstanceId, previousTokenIds);
+        }
+
+        // Entrées des jetons actifs qui attendent sur une tâche humaine
+        Map<String, List<ExecutionToken>> waiting = new HashMap<>();
+        for (ExecutionToken token : savedTokens) {
+            int node = step.graph.indexOf(token.getElementId());
+            if (token.isActive() && node != ProcessGraph.NO_NODE
+                    && step.graph.kind(node).isTask() && !step.graph.kind(node).isAutomatic()) {
+                waiting.computeIfAbsent(token.getElementId(), elementId -> new ArrayList<>()).add(token);
+            }
+        }
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        boolean suspended = "SUSPENDED".equals(step.instance.getStatus());
+        List<TaskAssignment> assignments = new ArrayList<>();
+        for (TaskConfiguration configuration : taskConfigurationRepository.findByTaskIdIn(new ArrayList<>(waiting.keySet()))) {
+            for (ExecutionToken token : waiting.getOrDefault(configuration.getTaskId(), List.of())) {
+                if (configuration.getAssignedUser() != null) {
+                    assignments.add(assignment(token, configuration.getAssignedUser().getId(), null, suspended, step.now));
+                }
+                if (configuration.getAuthorizedGroups() != null) {
+                    for (GroupeUtilisateur group : configuration.getAuthorizedGroups()) {
+                        assignments.add(assignment(token, null, group.getId(), suspended, step.now));
+                    }
+                }
+            }
+        }
+        if (!assignments.isEmpty()) {
+            taskAssignmentRepository.saveAll(assignments);
+        }
+    }
+
+    private static TaskAssignment assignment(ExecutionToken token, Long userId, Long groupId, boolean suspended, LocalDateTime now) {
+        return TaskAssignment.builder()
+                .tokenId(token.getId())
+                .processInstanceId(token.getProcessInstanceId())
+                .taskId(token.getElementId())
+                .userId(userId)
+                .groupId(groupId)
+                .suspended(suspended)
+                .createdAt(now)
+                .build();
+    }
+
+    private static Map<String, Object> changedVariables(ProcessInstance instance) {
+        Map<String, Object> variables = instance.getProcessVariables();
+        Map<String, Object> changed = new HashMap<>();
+        for (String name : instance.dirtyVariableNames()) {
+            // Variable supprimée : null dans l'instantané
+            changed.put(name, variables != null ? variables.get(name) : null);
+        }
+        return changed;
+    }
+
+    private String toJson(Map<String, Object> variables) {
+        if (variables == null || variables.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            log.warn("Impossible de sérialiser les variables en JSON", e);
+            return null;
+        }
+    }
+
+    private void fork(Step step, ExecutionToken token, int node, Deque<ExecutionToken> pending) {
+        List<SequenceFlow> flows = node == ProcessGraph.NO_NODE ? List.of() : selectOutgoingFlows(step, node);
+
+        // Pas de flux sortant : fin du chemin porté par ce jeton
+        if (flows.isEmpty()) {
+            complete(step, token);
+            return;
+        }
+
+        // Le jeton courant suit le premier flux, un nouveau jeton est créé pour chaque autre branche
+        for (int i = 0; i < flows.size(); i++) {
+            ExecutionToken moving = i == 0 ? token : step.newToken(null);
+            moving.setElementId(flows.get(i).getTargetRef());
+            moving.setUpdatedAt(step.now);
+            pending.add(moving);
+        }
+    }
+
+    private void arrive(Step step, ExecutionToken token, Deque<ExecutionToken> pending) {
+        ProcessGraph graph = step.graph;
+        int node = graph.indexOf(token.getElementId());
+
+        // Élément inconnu du graphe : le jeton y attend comme auparavant
+        if (node == ProcessGraph.NO_NODE) {
+            step.reach(token);
+            return;
+        }
+
+        NodeKind kind = graph.kind(node);
+        if (kind == NodeKind.END_EVENT) {
+            complete(step, token);
+            return;
+        }
+        if ((kind == NodeKind.SERVICE_TASK || kind == NodeKind.SCRIPT_TASK)
+                && taskDelegates.find(graph.task(node)).isPresent()) {
+            // Travail délégué : le jeton attend sur la tâche pendant que l'exécuteur de travaux la traite
+            step.reach(token);
+            step.jobs.add(Job.builder()
+                    .processInstanceId(step.instance.getId())
+                    .elementId(token.getElementId())
+                    .type(kind.name())
+                    .status("PENDING")
+                    .retries(jobMaxRetries)
+                    .dueDate(step.now)
+                    .createdAt(step.now)
+                    .updatedAt(step.now)
+                    .build());
+            return;
+        }
+        if (kind == NodeKind.BUSINESS_RULE_TASK) {
+            // Table de décision évaluée en ligne : ses sorties deviennent des variables avant le franchissement
+            Task task = graph.task(node);
+            String decisionKey = task != null && task.getDecisionRef() != null ? task.getDecisionRef() : token.getElementId();
+            CompiledDecision decision = decisionCache.find(decisionKey)
+                    .orElseThrow(() -> new IllegalStateException("Table de décision " + decisionKey
+                            + " introuvable pour la tâche de règle métier " + token.getElementId()));
+            step.instance.putVariables(decision.evaluateToVariables(step.instance.getProcessVariables(),
+                    task != null ? task.getResultVariable() : null));
+        }
+        if (kind.isAutomatic()) {
+            // Aucune intervention attendue : exécuter le nœud et poursuivre dans le même pas
+            step.recordAutomatic(node);
+            fork(step, token, node, pending);
+            return;
+        }
+        if (!kind.isGateway()) {
+            step.reach(token);
+            return;
+        }
+
+        // Passerelle convergente : le jeton est consommé tant que la jointure n'est pas complète
+        boolean converging = (kind == NodeKind.PARALLEL_GATEWAY || kind == NodeKind.INCLUSIVE_GATEWAY)
+                && graph.inDegree(node) > 1;
+        if (converging && !joinReady(step, token, node)) {
+            complete(step, token);
+            return;
+        }
+
+        // Passerelle basée sur les événements : attendre le premier événement déclenché
+        if (kind == NodeKind.EVENT_BASED_GATEWAY) {
+            step.reach(token);
+            return;
+        }
+
+        fork(step, token, node, pending);
+    }
+
+    private List<SequenceFlow> selectOutgoingFlows(Step step, int node) {
+        ProcessGraph graph = step.graph;
+        List<SequenceFlow> flows = graph.outgoingFlows(node);
+        NodeKind kind = graph.kind(node);
+
+        if (flows.isEmpty() || (flows.size() == 1 && !kind.isGateway())) {
+            return flows;
+        }
+
+        Gateway gateway = graph.gateway(node);
+        Map<String, Object> variables = step.instance.getProcessVariables();
+        switch (kind) {
+            case EXCLUSIVE_GATEWAY:
+            case COMPLEX_GATEWAY:
+                return List.of(gatewayEvaluator.evaluateExclusiveGateway(gateway, flows, variables, step.instance.getId()));
+            case INCLUSIVE_GATEWAY:
+                return gatewayEvaluator.evaluateInclusiveGateway(gateway, flows, variables, step.instance.getId());
+            case PARALLEL_GATEWAY:
+            case EVENT_BASED_GATEWAY:
+                return gatewayEvaluator.evaluateParallelGateway(gateway, flows);
+            default:
+                // Flux sortants d'une activité : les flux sans condition sont tous suivis,
+                // les flux conditionnels seulement si leur condition est satisfaite
+                List<SequenceFlow> selected = new ArrayList<>(flows.size());
+                for (SequenceFlow flow : flows) {
+                    if (gatewayEvaluator.evaluateCondition(flow, variables, step.instance.getId())) {
+                        selected.add(flow);
+                    }
+                }
+                return selected;
+        }
+    }
+
+    private boolean joinReady(Step step, ExecutionToken token, int gatewayNode) {
+        ProcessGraph graph = step.graph;
+        String gatewayId = graph.nodeId(gatewayNode);
+        Long instanceId = step.instance.getId();
+
+        // Une instance pas encore persistée n'a que des jetons en mémoire : compteur local
+        int arrived = instanceId == null
+                ? step.joinArrivals.merge(gatewayId, 1, Integer::sum)
+                : executionTokenRepository.incrementJoinCounter(instanceId, gatewayId);
+
+        boolean ready;
+        if (graph.kind(gatewayNode) == NodeKind.PARALLEL_GATEWAY) {
+            ready = arrived >= graph.inDegree(gatewayNode);
+        } else {
+            // Jointure inclusive : attendre tant qu'un autre chemin actif peut encore l'atteindre
+            ready = activeTokens(step).stream()
+                    .filter(other -> other != token)
+                    .noneMatch(other -> graph.canReach(graph.indexOf(other.getElementId()), gatewayNode));
+        }
+
+        if (ready) {
+            if (instanceId == null) {
+                step.joinArrivals.remove(gatewayId);
+            } else {
+                executionTokenRepository.resetJoinCounter(instanceId, gatewayId);
+            }
+            log.debug("Jointure {} déclenchée ({} arrivée(s))", gatewayId, arrived);
+        }
+        return ready;
+    }
+
+    private void complete(Step step, ExecutionToken token) {
+        token.setStatus(COMPLETED);
+        token.setUpdatedAt(step.now);
+    }
+
+    private List<ExecutionToken> activeTokens(Step step) {
+        // Jetons du pas courant d'abord (état le plus récent), puis ceux des autres chemins en base
+        List<ExecutionToken> active = new ArrayList<>();
+        Set<Long> trackedIds = new HashSet<>();
+        for (ExecutionToken token : step.tokens) {
+            if (token.getId() != null) {
+                trackedIds.add(token.getId());
+            }
+            if (token.isActive()) {
+                active.add(token);
+            }
+        }
+        if (step.instance.getId() != null) {
+            for (ExecutionToken token : executionTokenRepository.findActiveByProcessInstanceId(step.instance.getId())) {
+                if (!trackedIds.contains(token.getId())) {
+                    active.add(token);
+                }
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Pas d'exécution : jetons créés ou déplacés, historique et travaux produits
+     * pendant une opération du moteur, persistés en une fois à la fin de l'opération
+     */
+    @Getter
+    public static final class Step {
+        private final ProcessInstance instance;
+        private final ProcessGraph graph;
+        private final LocalDateTime now;
+        private final List<ExecutionToken> tokens = new ArrayList<>();
+        private final List<ExecutionToken> reached = new ArrayList<>();
+        private final List<ProcessExecution> history = new ArrayList<>();
+        private final List<Job> jobs = new ArrayList<>();
+        private final Map<String, Integer> joinArrivals = new HashMap<>();
+        private final HistoryLevel historyLevel;
+        private final Map<ProcessExecution, Map<String, Object>> inputs = new IdentityHashMap<>();
+        private final boolean existingInstance;
+
+        private Step(ProcessInstance instance, ProcessGraph graph, LocalDateTime now, HistoryLevel historyLevel) {
+            this.instance = instance;
+            this.existingInstance = instance.getId() != null;
+            this.graph = graph;
+            this.now = now;
+            this.historyLevel = historyLevel;
+        }
+
+        private ExecutionToken newToken(String elementId) {
+            ExecutionToken token = ExecutionToken.builder()
+                    .processInstanceId(instance.getId())
+                    .elementId(elementId)
+                    .status(ACTIVE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            tokens.add(token);
+            return token;
+        }
+
+        /**
+         * Ajoute une entrée d'historique, transmise à l'écrivain d'historique à la fin du pas
+         * (ignorée si le niveau d'historique est NONE)
+         * @param execution Exécution à historiser
+         */
+        public void record(ProcessExecution execution) {
+            record(execution, null);
+        }
+
+        /**
+         * Ajoute une entrée d'historique avec les variables reçues par l'étape
+         * @param execution Exécution à historiser
+         * @param variables Variables reçues (conservées à partir du niveau AUDIT)
+         */
+        public void record(ProcessExecution execution, Map<String, Object> variables) {
+            if (!historyLevel.recordsActivities()) {
+                return;
+            }
+            history.add(execution);
+            if (variables != null) {
+                inputs.put(execution, variables);
+            }
+        }
+
+        private void recordAutomatic(int node) {
+            if (!historyLevel.recordsAutomaticSteps()) {
+                return;
+            }
+            String elementId = graph.nodeId(node);
+            history.add(ProcessExecution.builder()
+                    .processInstanceId(instance.getId())
+                    .taskId(elementId)
+                    .taskName(graph.name(node) != null ? graph.name(node) : elementId)
+                    .status("COMPLETED")
+                    .startTime(now)
+                    .endTime(now)
+                    .durationInMillis(0L)
+                    .result("Exécution automatique")
+                    .createdAt(now)
+                    .build());
+        }
+
+        private void track(ExecutionToken token) {
+            if (tokens.stream().noneMatch(tracked -> tracked == token)) {
+                tokens.add(token);
+            }
+        }
+
+        private void reach(ExecutionToken token) {
+            track(token);
+            reached.add(token);
+        }
+    }
+}
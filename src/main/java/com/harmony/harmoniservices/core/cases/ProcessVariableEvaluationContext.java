@@ -0,0 +1,131 @@
+package com.harmony.harmoniservices.core.cases;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Contexte d'évaluation en lecture seule des conditions de flux.
+ * Les références #variable sont résolues à la demande dans la carte des variables de l'instance,
+ * sans copie : seule une variable effectivement lue est chargée.
+ * Le contexte délègue le reste (accesseurs, conversions, comparaisons) à un contexte SpEL :
+ * SimpleEvaluationContext par défaut, StandardEvaluationContext pour les expressions qui
+ * utilisent des types, des constructeurs ou des beans.
+ */
+public class ProcessVariableEvaluationContext implements EvaluationContext {
+
+    // Sans état propre (aucune variable n'y est écrite) : partagé entre toutes les évaluations
+    private static final EvaluationContext SIMPLE = SimpleEvaluationContext.forReadOnlyDataBinding()
+            .withInstanceMethods()
+            .build();
+
+    private final Map<String, Object> variables;
+    private final EvaluationContext delegate;
+
+    private ProcessVariableEvaluationContext(Map<String, Object> variables, EvaluationContext delegate) {
+        this.variables = variables;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Contexte restreint (accès aux propriétés et méthodes d'instance uniquement)
+     * @param variables Variables du processus, lues sans copie
+     * @return Contexte d'évaluation
+     */
+    public static ProcessVariableEvaluationContext simple(Map<String, Object> variables) {
+        return new ProcessVariableEvaluationContext(variables, SIMPLE);
+    }
+
+    /**
+     * Contexte complet, pour les expressions qui référencent des types, constructeurs ou beans
+     * @param variables Variables du processus, lues sans copie
+     * @return Contexte d'évaluation
+     */
+    public static ProcessVariableEvaluationContext standard(Map<String, Object> variables) {
+        return new ProcessVariableEvaluationContext(variables, new StandardEvaluationContext());
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        return variables.get(name);
+    }
+
+    @Override
+    public void setVariable(String name, Object value) {
+        throw new IllegalStateException("Les variables du processus sont en lecture seule dans une condition: " + name);
+    }
+
+    @Override
+    public TypedValue assignVariable(String name, Supplier<TypedValue> valueSupplier) {
+        throw new IllegalStateException("Les variables du processus sont en lecture seule dans une condition: " + name);
+    }
+
+    @Override
+    public boolean isAssignmentEnabled() {
+        return false;
+    }
+
+    @Override
+    public TypedValue getRootObject() {
+        return TypedValue.NULL;
+    }
+
+    @Override
+    public List<PropertyAccessor> getPropertyAccessors() {
+        return delegate.getPropertyAccessors();
+    }
+
+    @Override
+    public List<IndexAccessor> getIndexAccessors() {
+        return delegate.getIndexAccessors();
+    }
+
+    @Override
+    public List<ConstructorResolver> getConstructorResolvers() {
+        return delegate.getConstructorResolvers();
+    }
+
+    @Override
+    public List<MethodResolver> getMethodResolvers() {
+        return delegate.getMethodResolvers();
+    }
+
+    @Override
+    public BeanResolver getBeanResolver() {
+        return delegate.getBeanResolver();
+    }
+
+    @Override
+    public TypeLocator getTypeLocator() {
+        return delegate.getTypeLocator();
+    }
+
+    @Override
+    public TypeConverter getTypeConverter() {
+        return delegate.getTypeConverter();
+    }
+
+    @Override
+    public TypeComparator getTypeComparator() {
+        return delegate.getTypeComparator();
+    }
+
+    @Override
+    public OperatorOverloader getOperatorOverloader() {
+        return delegate.getOperatorOverloader();
+    }
+}
@@ -0,0 +1,38 @@
+package com.harmony.harmoniservices.core.cases;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.harmony.harmoniservices.core.domain.entities.Task;
+import com.harmony.harmoniservices.core.domain.services.TaskDelegate;
+
+/**
+ * Registre des délégués de tâches déclarés dans le contexte
+ */
+@Component
+public class TaskDelegateRegistry {
+
+    private final List<TaskDelegate> delegates;
+
+    public TaskDelegateRegistry(ObjectProvider<TaskDelegate> delegates) {
+        this.delegates = delegates.orderedStream().collect(Collectors.toList());
+    }
+
+    /**
+     * Trouve le délégué qui prend en charge une tâche
+     * @param task Tâche BPMN (peut être null)
+     * @return Premier délégué compatible, sinon empty
+     */
+    public Optional<TaskDelegate> find(Task task) {
+        if (task == null) {
+            return Optional.empty();
+        }
+        return delegates.stream()
+                .filter(delegate -> delegate.supports(task))
+                .findFirst();
+    }
+}
@@ -0,0 +1,23 @@
+package com.harmony.harmoniservices.core.domain.commands;
+
+import lombok.*;
+import java.util.Map;
+
+/**
+ * Demande d'achèvement d'une tâche au sein d'un lot
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompleteRequest {
+    // Instance de processus concernée
+    private Long processInstanceId;
+    
+    // ID de la tâche BPMN à compléter
+    private String taskId;
+    
+    // Variables de sortie de la tâche
+    private Map<String, Object> variables;
+}
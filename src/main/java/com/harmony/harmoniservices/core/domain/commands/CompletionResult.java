@@ -0,0 +1,55 @@
+package com.harmony.harmoniservices.core.domain.commands;
+
+import lombok.*;
+
+/**
+ * Résultat de l'achèvement d'une tâche au sein d'un lot
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompletionResult {
+    private Long processInstanceId;
+    private String taskId;
+    
+    // Issue de l'opération
+    private boolean success;
+    private String message;
+    
+    // Statut de l'instance après l'achèvement
+    private String instanceStatus;
+    
+    // Transactions tentées pour cette demande (plus d'une après l'échec de sa tranche)
+    private int attempts;
+    
+    public static CompletionResult completed(CompleteRequest request, String instanceStatus) {
+        return completed(request, instanceStatus, 1);
+    }
+    
+    public static CompletionResult completed(CompleteRequest request, String instanceStatus, int attempts) {
+        return CompletionResult.builder()
+                .processInstanceId(request.getProcessInstanceId())
+                .taskId(request.getTaskId())
+                .success(true)
+                .message("Tâche complétée")
+                .instanceStatus(instanceStatus)
+                .attempts(attempts)
+                .build();
+    }
+    
+    public static CompletionResult failed(CompleteRequest request, String message) {
+        return failed(request, message, 1);
+    }
+    
+    public static CompletionResult failed(CompleteRequest request, String message, int attempts) {
+        return CompletionResult.builder()
+                .processInstanceId(request.getProcessInstanceId())
+                .taskId(request.getTaskId())
+                .success(false)
+                .message(message)
+                .attempts(attempts)
+                .build();
+    }
+}
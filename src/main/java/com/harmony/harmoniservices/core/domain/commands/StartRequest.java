@@ -0,0 +1,20 @@
+package com.harmony.harmoniservices.core.domain.commands;
+
+import lombok.*;
+import java.util.Map;
+
+/**
+ * Demande de démarrage d'une instance de processus au sein d'un lot
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StartRequest {
+    // Clé métier (identifiant externe)
+    private String businessKey;
+    
+    // Variables initiales du processus
+    private Map<String, Object> variables;
+}
@@ -0,0 +1,20 @@
+package com.harmony.harmoniservices.core.domain.commands;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * Page de tâches d'une boîte de réception, paginée par curseur
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPage {
+    private List<TaskSummary> tasks;
+    
+    // Curseur à transmettre pour obtenir la page suivante (null s'il n'y en a pas)
+    private Long nextCursor;
+}
@@ -0,0 +1,28 @@
+package com.harmony.harmoniservices.core.domain.commands;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+/**
+ * Vue allégée d'une tâche en attente dans une boîte de réception
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummary {
+    // Position dans la liste de travail, utilisée comme curseur de pagination
+    private Long assignmentId;
+    
+    private Long processInstanceId;
+    private String taskId;
+    private String taskName;
+    
+    // Planification issue de la configuration de la tâche
+    private Integer priority;
+    private LocalDateTime dueDate;
+    
+    private LocalDateTime createdAt;
+}
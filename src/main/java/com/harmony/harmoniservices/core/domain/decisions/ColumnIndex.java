@@ -0,0 +1,84 @@
+package com.harmony.harmoniservices.core.domain.decisions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index des tests d'une colonne d'entrée : table de hachage pour les égalités,
+ * index d'intervalles pour les comparaisons, ensemble des règles sans condition sur la colonne
+ */
+final class ColumnIndex {
+
+    private final Map<Object, BitSet> equalities = new HashMap<>();
+    private final BitSet wildcards = new BitSet();
+    private final IntervalIndex intervals;
+
+    ColumnIndex(List<DecisionCompiler.CellTest> tests) {
+        List<IntervalIndex.Interval> ranges = new ArrayList<>();
+        List<Integer> rangeRules = new ArrayList<>();
+        for (int rule = 0; rule < tests.size(); rule++) {
+            DecisionCompiler.CellTest test = tests.get(rule);
+            if (test.any()) {
+                wildcards.set(rule);
+                continue;
+            }
+            for (Object value : test.values()) {
+                equalities.computeIfAbsent(value, key -> new BitSet()).set(rule);
+            }
+            for (IntervalIndex.Interval interval : test.intervals()) {
+                ranges.add(interval);
+                rangeRules.add(rule);
+            }
+        }
+        this.intervals = ranges.isEmpty() ? null : new IntervalIndex(ranges, rangeRules);
+    }
+
+    /**
+     * Restreint les règles candidates à celles dont le test de cette colonne accepte la valeur
+     * @param candidates Règles candidates (modifié)
+     * @param value Valeur de l'entrée
+     */
+    void filter(BitSet candidates, Object value) {
+        BitSet matching = (BitSet) wildcards.clone();
+        Object key = normalize(value);
+        if (key != null) {
+            BitSet equal = equalities.get(key);
+            if (equal != null) {
+                matching.or(equal);
+            }
+            if (intervals != null && key instanceof BigDecimal number) {
+                matching.or(intervals.stab(number));
+            }
+        }
+        candidates.and(matching);
+    }
+
+    /**
+     * Forme canonique d'une valeur pour l'égalité et les intervalles : nombres en BigDecimal
+     * sans zéros non significatifs (1, 1.0 et 1L sont égaux), énumérations par leur nom
+     */
+    static Object normalize(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros();
+        }
+        if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer).stripTrailingZeros();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros() : null;
+        }
+        if (value instanceof Number number) {
+            return BigDecimal.valueOf(number.longValue()).stripTrailingZeros();
+        }
+        if (value instanceof Character || value instanceof Enum<?>) {
+            return value instanceof Enum<?> constant ? constant.name() : value.toString();
+        }
+        return value;
+    }
+}
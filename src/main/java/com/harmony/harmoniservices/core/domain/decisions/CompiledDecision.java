@@ -0,0 +1,121 @@
+package com.harmony.harmoniservices.core.domain.decisions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.harmony.harmoniservices.core.domain.enums.HitPolicy;
+import com.harmony.harmoniservices.core.domain.expressions.CompiledCondition;
+
+/**
+ * Table de décision compilée : les règles candidates sont réduites colonne par colonne
+ * à partir des index, sans parcourir les lignes de la table
+ */
+public final class CompiledDecision {
+
+    private final String decisionKey;
+    private final HitPolicy hitPolicy;
+    private final CompiledCondition[] inputs;
+    private final ColumnIndex[] columns;
+    private final String[] outputNames;
+    private final Object[][] outputValues;
+
+    CompiledDecision(String decisionKey, HitPolicy hitPolicy, CompiledCondition[] inputs, ColumnIndex[] columns,
+            String[] outputNames, Object[][] outputValues) {
+        this.decisionKey = decisionKey;
+        this.hitPolicy = hitPolicy;
+        this.inputs = inputs;
+        this.columns = columns;
+        this.outputNames = outputNames;
+        this.outputValues = outputValues;
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public HitPolicy getHitPolicy() {
+        return hitPolicy;
+    }
+
+    /**
+     * Évalue la table et applique la politique de résultat
+     * @param variables Variables du processus (seules les entrées de la table sont lues)
+     * @return Sorties des règles retenues, dans l'ordre de la table
+     * @throws IllegalStateException si plusieurs règles correspondent avec la politique UNIQUE
+     */
+    public List<Map<String, Object>> evaluate(Map<String, Object> variables) {
+        BitSet candidates = new BitSet(outputValues.length);
+        candidates.set(0, outputValues.length);
+        for (int i = 0; i < columns.length && !candidates.isEmpty(); i++) {
+            if (columns[i] != null) {
+                columns[i].filter(candidates, inputs[i].getValue(variables));
+            }
+        }
+
+        List<Map<String, Object>> matches = new ArrayList<>();
+        switch (hitPolicy) {
+            case FIRST:
+                int first = candidates.nextSetBit(0);
+                if (first >= 0) {
+                    matches.add(outputs(first));
+                }
+                break;
+            case UNIQUE:
+                if (candidates.cardinality() > 1) {
+                    throw new IllegalStateException("Plusieurs règles de la décision " + decisionKey
+                            + " correspondent (politique UNIQUE): " + candidates);
+                }
+                int unique = candidates.nextSetBit(0);
+                if (unique >= 0) {
+                    matches.add(outputs(unique));
+                }
+                break;
+            default:
+                for (int rule = candidates.nextSetBit(0); rule >= 0; rule = candidates.nextSetBit(rule + 1)) {
+                    matches.add(outputs(rule));
+                }
+                break;
+        }
+        return matches;
+    }
+
+    /**
+     * Évalue la table et met en forme le résultat en variables de processus.
+     * Sans variable de résultat, les sorties de la règle retenue sont fusionnées telles quelles ;
+     * avec COLLECT, la liste des résultats est rangée sous la variable de résultat (par défaut la clé).
+     * @param variables Variables du processus
+     * @param resultVariable Variable recevant le résultat (optionnelle)
+     * @return Variables à fusionner dans le processus
+     */
+    public Map<String, Object> evaluateToVariables(Map<String, Object> variables, String resultVariable) {
+        List<Map<String, Object>> matches = evaluate(variables);
+        Map<String, Object> result = new HashMap<>();
+        if (hitPolicy == HitPolicy.COLLECT) {
+            List<Object> collected = new ArrayList<>(matches.size());
+            for (Map<String, Object> match : matches) {
+                collected.add(outputNames.length == 1 ? match.get(outputNames[0]) : match);
+            }
+            result.put(resultVariable != null ? resultVariable : decisionKey, collected);
+            return result;
+        }
+        Map<String, Object> match = matches.isEmpty() ? null : matches.get(0);
+        if (resultVariable != null) {
+            result.put(resultVariable, match == null || outputNames.length > 1 ? match : match.get(outputNames[0]));
+        } else if (match != null) {
+            result.putAll(match);
+        }
+        return result;
+    }
+
+    private Map<String, Object> outputs(int rule) {
+        Map<String, Object> outputs = new LinkedHashMap<>();
+        for (int o = 0; o < outputNames.length; o++) {
+            outputs.put(outputNames[o], outputValues[rule][o]);
+        }
+        return outputs;
+    }
+}
@@ -0,0 +1,201 @@
+package com.harmony.harmoniservices.core.domain.decisions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.harmony.harmoniservices.core.domain.entities.DecisionRule;
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+import com.harmony.harmoniservices.core.domain.enums.HitPolicy;
+import com.harmony.harmoniservices.core.domain.expressions.CompiledCondition;
+import com.harmony.harmoniservices.core.domain.expressions.JuelCompiler;
+
+/**
+ * Compilateur des tables de décision.
+ * Les tests des cellules (sous-ensemble des tests unaires FEEL) sont analysés une seule fois
+ * et indexés par colonne ; les expressions d'entrée sont compilées par le compilateur JUEL.
+ * Tests pris en charge, combinables par virgule : "-" ou vide, littéraux ('EU', "EU", 42, true),
+ * comparaisons (< 10, >= 2.5) et intervalles ([1..10], ]1..10[, (1..10)).
+ */
+public final class DecisionCompiler {
+
+    private static final Pattern RANGE = Pattern.compile("([\\[\\]\\(])\\s*(.+?)\\s*\\.\\.\\s*(.+?)\\s*([\\[\\]\\)])");
+    private static final Pattern COMPARISON = Pattern.compile("(<=|>=|<|>)\\s*(.+)");
+
+    /**
+     * Test d'une cellule : toute valeur, ou union de valeurs et d'intervalles
+     */
+    record CellTest(boolean any, Set<Object> values, List<IntervalIndex.Interval> intervals) {
+    }
+
+    private DecisionCompiler() {
+    }
+
+    /**
+     * Compile une table de décision
+     * @param table Définition de la table
+     * @return Table compilée et indexée
+     * @throws IllegalArgumentException si la définition est invalide
+     */
+    public static CompiledDecision compile(DecisionTable table) {
+        if (table.getDecisionKey() == null || table.getDecisionKey().isBlank()) {
+            throw new IllegalArgumentException("Clé de décision obligatoire");
+        }
+        List<String> inputs = table.getInputs() != null ? table.getInputs() : List.of();
+        List<String> outputs = table.getOutputs() != null ? table.getOutputs() : List.of();
+        List<DecisionRule> rules = table.getRules() != null ? table.getRules() : List.of();
+        if (outputs.isEmpty()) {
+            throw new IllegalArgumentException("La décision " + table.getDecisionKey() + " doit avoir au moins une sortie");
+        }
+
+        CompiledCondition[] inputExpressions = new CompiledCondition[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            String expression = inputs.get(i).trim();
+            inputExpressions[i] = JuelCompiler.compile(JuelCompiler.isJuel(expression) ? expression : "${" + expression + "}");
+        }
+
+        List<List<CellTest>> columns = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            columns.add(new ArrayList<>(rules.size()));
+        }
+        Object[][] outputValues = new Object[rules.size()][];
+        for (int r = 0; r < rules.size(); r++) {
+            DecisionRule rule = rules.get(r);
+            List<String> inputEntries = rule.getInputEntries() != null ? rule.getInputEntries() : List.of();
+            List<String> outputEntries = rule.getOutputEntries() != null ? rule.getOutputEntries() : List.of();
+            if (inputEntries.size() != inputs.size() || outputEntries.size() != outputs.size()) {
+                throw new IllegalArgumentException("Règle " + (r + 1) + " de la décision " + table.getDecisionKey()
+                        + " : " + inputs.size() + " entrée(s) et " + outputs.size() + " sortie(s) attendues");
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                columns.get(i).add(parseTest(inputEntries.get(i)));
+            }
+            outputValues[r] = new Object[outputs.size()];
+            for (int o = 0; o < outputs.size(); o++) {
+                outputValues[r][o] = parseOutput(outputEntries.get(o));
+            }
+        }
+
+        // Une colonne sans aucun test n'élimine aucune règle : elle n'est ni indexée ni évaluée
+        ColumnIndex[] indexes = new ColumnIndex[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            boolean allAny = columns.get(i).stream().allMatch(CellTest::any);
+            indexes[i] = allAny ? null : new ColumnIndex(columns.get(i));
+        }
+
+        return new CompiledDecision(table.getDecisionKey(),
+                table.getHitPolicy() != null ? table.getHitPolicy() : HitPolicy.UNIQUE,
+                inputExpressions, indexes, outputs.toArray(new String[0]), outputValues);
+    }
+
+    // Analyse des cellules
+
+    static CellTest parseTest(String entry) {
+        String text = entry == null ? "" : entry.trim();
+        if (text.isEmpty() || text.equals("-")) {
+            return new CellTest(true, Set.of(), List.of());
+        }
+        Set<Object> values = new HashSet<>();
+        List<IntervalIndex.Interval> intervals = new ArrayList<>();
+        for (String part : splitList(text)) {
+            Matcher range = RANGE.matcher(part);
+            Matcher comparison = COMPARISON.matcher(part);
+            if (range.matches()) {
+                intervals.add(new IntervalIndex.Interval(number(range.group(2), entry), range.group(1).equals("["),
+                        number(range.group(3), entry), range.group(4).equals("]")));
+            } else if (comparison.matches()) {
+                BigDecimal bound = number(comparison.group(2), entry);
+                switch (comparison.group(1)) {
+                    case "<":
+                        intervals.add(new IntervalIndex.Interval(null, false, bound, false));
+                        break;
+                    case "<=":
+                        intervals.add(new IntervalIndex.Interval(null, false, bound, true));
+                        break;
+                    case ">":
+                        intervals.add(new IntervalIndex.Interval(bound, false, null, false));
+                        break;
+                    default:
+                        intervals.add(new IntervalIndex.Interval(bound, true, null, false));
+                        break;
+                }
+            } else if (part.startsWith("not(")) {
+                throw new IllegalArgumentException("Test non pris en charge: " + entry);
+            } else {
+                Object value = ColumnIndex.normalize(literal(part));
+                if (value == null) {
+                    throw new IllegalArgumentException("Test null non pris en charge (utiliser \"-\"): " + entry);
+                }
+                values.add(value);
+            }
+        }
+        return new CellTest(false, values, intervals);
+    }
+
+    static Object parseOutput(String entry) {
+        String text = entry == null ? "" : entry.trim();
+        return text.isEmpty() || text.equals("-") ? null : literal(text);
+    }
+
+    private static Object literal(String text) {
+        if (text.length() >= 2 && (text.charAt(0) == '"' || text.charAt(0) == '\'')
+                && text.charAt(text.length() - 1) == text.charAt(0)) {
+            return text.substring(1, text.length() - 1);
+        }
+        if (text.equals("true") || text.equals("false")) {
+            return Boolean.valueOf(text);
+        }
+        if (text.equals("null")) {
+            return null;
+        }
+        try {
+            BigDecimal number = new BigDecimal(text);
+            return number.scale() <= 0 && number.abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0
+                    ? (Object) number.longValueExact() : number;
+        } catch (NumberFormatException | ArithmeticException e) {
+            // Texte sans guillemets : pris tel quel
+            return text;
+        }
+    }
+
+    private static BigDecimal number(String text, String entry) {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Borne numérique attendue dans le test: " + entry);
+        }
+    }
+
+    private static List<String> splitList(String text) {
+        // Séparation sur les virgules hors chaînes et hors intervalles
+        List<String> parts = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        char quote = 0;
+        boolean inRange = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (current.toString().isBlank() && (c == '[' || c == ']' || c == '(')) {
+                inRange = true;
+            } else if (inRange && (c == ']' || c == '[' || c == ')') && current.indexOf("..") >= 0) {
+                inRange = false;
+            } else if (c == ',' && !inRange) {
+                parts.add(current.toString().trim());
+                current.setLength(0);
+                continue;
+            }
+            current.append(c);
+        }
+        parts.add(current.toString().trim());
+        return parts;
+    }
+}
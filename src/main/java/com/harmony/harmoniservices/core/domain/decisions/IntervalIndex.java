@@ -0,0 +1,101 @@
+package com.harmony.harmoniservices.core.domain.decisions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Index des tests d'intervalle d'une colonne : pour une valeur, les règles dont l'intervalle la contient.
+ * Les bornes découpent l'axe en segments élémentaires (chaque borne, et chaque intervalle ouvert
+ * entre deux bornes) ; l'ensemble des règles couvrant chaque segment est calculé à la compilation,
+ * une requête est donc une recherche dichotomique suivie d'une lecture.
+ */
+final class IntervalIndex {
+
+    /**
+     * Intervalle numérique ; une borne nulle est infinie
+     */
+    record Interval(BigDecimal low, boolean lowInclusive, BigDecimal high, boolean highInclusive) {
+    }
+
+    private final BigDecimal[] points;
+    private final BitSet[] segments;
+
+    /**
+     * @param intervals Intervalles, par règle
+     * @param rules Règle de chaque intervalle (même ordre)
+     */
+    IntervalIndex(List<Interval> intervals, List<Integer> rules) {
+        TreeSet<BigDecimal> bounds = new TreeSet<>();
+        for (Interval interval : intervals) {
+            if (interval.low() != null) {
+                bounds.add(interval.low());
+            }
+            if (interval.high() != null) {
+                bounds.add(interval.high());
+            }
+        }
+        this.points = bounds.toArray(new BigDecimal[0]);
+
+        // Segment 2i : entre la borne i-1 et la borne i (exclues) ; segment 2i+1 : la borne i
+        int segmentCount = 2 * points.length + 1;
+        List<List<Integer>> opening = new ArrayList<>(segmentCount);
+        List<List<Integer>> closing = new ArrayList<>(segmentCount);
+        for (int s = 0; s < segmentCount; s++) {
+            opening.add(new ArrayList<>());
+            closing.add(new ArrayList<>());
+        }
+        for (int i = 0; i < intervals.size(); i++) {
+            Interval interval = intervals.get(i);
+            int from = interval.low() == null ? 0
+                    : 2 * indexOf(interval.low()) + (interval.lowInclusive() ? 1 : 2);
+            int to = interval.high() == null ? segmentCount - 1
+                    : 2 * indexOf(interval.high()) + (interval.highInclusive() ? 1 : 0);
+            if (from <= to) {
+                opening.get(from).add(rules.get(i));
+                closing.get(to).add(rules.get(i));
+            }
+        }
+
+        // Balayage de gauche à droite ; un compteur par règle gère les intervalles d'une même règle
+        // qui se chevauchent, et les segments consécutifs identiques partagent le même ensemble
+        this.segments = new BitSet[segmentCount];
+        Map<Integer, Integer> open = new HashMap<>();
+        BitSet current = new BitSet();
+        for (int s = 0; s < segmentCount; s++) {
+            boolean changed = s == 0 || !opening.get(s).isEmpty() || !closing.get(s - 1).isEmpty();
+            if (s > 0) {
+                for (int rule : closing.get(s - 1)) {
+                    if (open.merge(rule, -1, Integer::sum) == 0) {
+                        open.remove(rule);
+                        current.clear(rule);
+                    }
+                }
+            }
+            for (int rule : opening.get(s)) {
+                open.merge(rule, 1, Integer::sum);
+                current.set(rule);
+            }
+            segments[s] = changed ? (BitSet) current.clone() : segments[s - 1];
+        }
+    }
+
+    /**
+     * Règles dont un intervalle contient la valeur
+     * @param value Valeur numérique
+     * @return Ensemble des règles (ne pas modifier)
+     */
+    BitSet stab(BigDecimal value) {
+        int found = Arrays.binarySearch(points, value);
+        return found >= 0 ? segments[2 * found + 1] : segments[2 * (-found - 1)];
+    }
+
+    private int indexOf(BigDecimal point) {
+        return Arrays.binarySearch(points, point);
+    }
+}
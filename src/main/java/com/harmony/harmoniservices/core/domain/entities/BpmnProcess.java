@@ -3,6 +3,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,6 +21,9 @@ public class BpmnProcess {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    // Niveau d'historique propre au déploiement (null : niveau global du moteur)
+    private HistoryLevel historyLevel;
+    
     // Relations avec d'autres éléments BPMN
     private List<Task> tasks;
     private List<Event> events;
@@ -0,0 +1,23 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * Règle (ligne) d'une table de décision
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DecisionRule {
+    // Un test par colonne d'entrée : "-" (toute valeur), 'EU', "EU","US", < 1000, [1..10], ]0..5[
+    private List<String> inputEntries;
+    
+    // Une valeur littérale par colonne de sortie : 'texte', 42, 1.5, true, null
+    private List<String> outputEntries;
+    
+    private String description;
+}
@@ -0,0 +1,34 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.harmony.harmoniservices.core.domain.enums.HitPolicy;
+
+import lombok.*;
+
+/**
+ * Table de décision (DMN) appelée par les tâches de règle métier
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DecisionTable {
+    private Long id;
+    
+    // Clé référencée par les tâches (camunda:decisionRef)
+    private String decisionKey;
+    private String name;
+    private HitPolicy hitPolicy;
+    
+    // Expressions d'entrée (variable ou chemin : amount, customer.region) et noms des sorties
+    private List<String> inputs;
+    private List<String> outputs;
+    
+    private List<DecisionRule> rules;
+    
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
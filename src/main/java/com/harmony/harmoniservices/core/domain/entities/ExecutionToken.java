@@ -0,0 +1,34 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Jeton d'exécution : représente un chemin actif dans une instance de processus.
+ * Une instance possède autant de jetons actifs que de branches parallèles en cours.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionToken {
+    private Long id;
+    
+    // Référence à l'instance de processus
+    private Long processInstanceId;
+    
+    // Élément BPMN sur lequel se trouve le jeton
+    private String elementId;
+    
+    // Statut du jeton
+    private String status; // "ACTIVE", "COMPLETED"
+    
+    // Métadonnées
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public boolean isActive() {
+        return "ACTIVE".equals(status);
+    }
+}
@@ -0,0 +1,37 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Travail asynchrone : exécution d'une tâche de service ou de script
+ * en dehors du thread de la requête qui l'a atteinte
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+    private Long id;
+    
+    // Références
+    private Long processInstanceId;
+    private String elementId;
+    
+    // Type de travail
+    private String type; // "SERVICE_TASK", "SCRIPT_TASK"
+    
+    // Informations d'exécution
+    private String status; // "PENDING", "RUNNING", "COMPLETED", "FAILED", "CANCELLED"
+    private Integer retries; // Tentatives restantes
+    private LocalDateTime dueDate;
+    private LocalDateTime lockedAt;
+    private String lockOwner; // Nœud qui détient le bail
+    private LocalDateTime lockExpiresAt; // Au-delà, le travail peut être repris par un autre nœud
+    private String errorMessage;
+    
+    // Métadonnées
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,173 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Variables de processus dont certaines valeurs ne sont chargées qu'au premier accès
+ * (variables volumineuses stockées hors de la base). Une valeur différée est lue par
+ * {@link #get(Object)} ou par {@link Map.Entry#getValue()}, jamais par les opérations sur les clés.
+ */
+public class LazyVariableMap extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> values;
+
+    public LazyVariableMap() {
+        this(new HashMap<>());
+    }
+
+    private LazyVariableMap(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Copie des variables qui ne charge pas les valeurs différées
+     * @param source Variables à copier (éventuellement null)
+     * @return Copie modifiable
+     */
+    public static Map<String, Object> copyOf(Map<String, Object> source) {
+        if (source == null) {
+            return null;
+        }
+        if (!(source instanceof LazyVariableMap)) {
+            return new HashMap<>(source);
+        }
+        Map<String, Object> copy = new HashMap<>(((LazyVariableMap) source).values);
+        // Chaque copie recharge la valeur : le cache des instances ne retient pas les valeurs volumineuses
+        copy.replaceAll((name, value) -> value instanceof Deferred ? new Deferred(((Deferred) value).loader) : value);
+        return new LazyVariableMap(copy);
+    }
+
+    /**
+     * Déclare une variable dont la valeur sera chargée au premier accès
+     * @param name Nom de la variable
+     * @param loader Chargement de la valeur
+     */
+    public void putDeferred(String name, Supplier<Object> loader) {
+        values.put(name, new Deferred(loader));
+    }
+
+    @Override
+    public Object get(Object key) {
+        return resolve(values.get(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Remplace une variable. L'ancienne valeur n'est retournée que si elle est déjà chargée.
+     */
+    @Override
+    public Object put(String key, Object value) {
+        return loadedOrNull(values.put(key, value));
+    }
+
+    /**
+     * Supprime une variable. L'ancienne valeur n'est retournée que si elle est déjà chargée.
+     */
+    @Override
+    public Object remove(Object key) {
+        return loadedOrNull(values.remove(key));
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return values.keySet();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                Iterator<Map.Entry<String, Object>> entries = values.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        Map.Entry<String, Object> entry = entries.next();
+                        return new Map.Entry<>() {
+                            @Override
+                            public String getKey() {
+                                return entry.getKey();
+                            }
+
+                            @Override
+                            public Object getValue() {
+                                return resolve(entry.getValue());
+                            }
+
+                            @Override
+                            public Object setValue(Object value) {
+                                return loadedOrNull(entry.setValue(value));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+        };
+    }
+
+    // Méthodes utilitaires privées
+
+    private static Object resolve(Object value) {
+        return value instanceof Deferred ? ((Deferred) value).get() : value;
+    }
+
+    private static Object loadedOrNull(Object value) {
+        if (value instanceof Deferred) {
+            Deferred deferred = (Deferred) value;
+            return deferred.loaded ? deferred.value : null;
+        }
+        return value;
+    }
+
+    private static final class Deferred {
+        private final Supplier<Object> loader;
+        private volatile boolean loaded;
+        private Object value;
+
+        private Deferred(Supplier<Object> loader) {
+            this.loader = loader;
+        }
+
+        private Object get() {
+            if (!loaded) {
+                synchronized (this) {
+                    if (!loaded) {
+                        value = loader.get();
+                        loaded = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.harmony.harmoniservices.core.domain.entities;
 
 import lombok.*;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Représente une instance de processus BPMN en cours d'exécution
@@ -25,12 +29,20 @@ public class ProcessInstance {
     private LocalDateTime endTime;
     private String currentTaskId; // ID de la tâche active actuelle
     
-    // Historique d'exécution
-    private List<ProcessExecution> executionHistory;
+    // Historique d'exécution, chargé page par page à la demande (jamais avec l'instance)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private HistoryLoader historyLoader;
     
     // Variables du processus
     private Map<String, Object> processVariables;
     
+    // Noms des variables modifiées depuis le dernier chargement (seules celles-ci sont réécrites)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Set<String> dirtyVariables = new HashSet<>();
+    
     // Informations sur le démarreur
     private User initiator;
     
@@ -39,4 +51,79 @@ public class ProcessInstance {
     private String description;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-} 
\ No newline at end of file
+    
+    // Version pour le verrouillage optimiste
+    private Long version;
+    
+    /**
+     * Charge une page de l'historique d'exécution, par ordre chronologique
+     * @param page Numéro de page (à partir de 0)
+     * @param size Taille de la page
+     * @return Exécutions de la page (vide si l'instance n'est pas encore persistée)
+     */
+    public List<ProcessExecution> getExecutionHistory(int page, int size) {
+        if (historyLoader == null || id == null) {
+            return Collections.emptyList();
+        }
+        return historyLoader.load(id, page, size);
+    }
+    
+    /**
+     * Branche le chargement de l'historique (fourni par la couche de persistance)
+     * @param historyLoader Chargeur de pages d'historique
+     */
+    public void attachHistory(HistoryLoader historyLoader) {
+        this.historyLoader = historyLoader;
+    }
+    
+    /**
+     * Remplace toutes les variables du processus ; toutes sont considérées comme modifiées
+     * @param processVariables Nouvelles variables
+     */
+    public void setProcessVariables(Map<String, Object> processVariables) {
+        if (this.processVariables != null) {
+            dirtyVariables.addAll(this.processVariables.keySet());
+        }
+        if (processVariables != null) {
+            dirtyVariables.addAll(processVariables.keySet());
+        }
+        this.processVariables = processVariables;
+    }
+    
+    /**
+     * Ajoute ou met à jour des variables du processus en ne marquant que celles-ci comme modifiées
+     * @param variables Variables à fusionner
+     */
+    public void putVariables(Map<String, Object> variables) {
+        if (variables == null || variables.isEmpty()) {
+            return;
+        }
+        if (processVariables == null) {
+            processVariables = new HashMap<>();
+        }
+        processVariables.putAll(variables);
+        dirtyVariables.addAll(variables.keySet());
+    }
+    
+    /**
+     * @return Noms des variables modifiées (ajoutées, mises à jour ou supprimées) depuis le chargement
+     */
+    public Set<String> dirtyVariableNames() {
+        return Collections.unmodifiableSet(dirtyVariables);
+    }
+    
+    /**
+     * Marque toutes les variables comme persistées
+     */
+    public void markVariablesClean() {
+        dirtyVariables.clear();
+    }
+    
+    /**
+     * Accès paginé à l'historique d'exécution d'une instance
+     */
+    @FunctionalInterface
+    public interface HistoryLoader {
+        List<ProcessExecution> load(Long processInstanceId, int page, int size);
+    }
+}
@@ -15,6 +15,12 @@ public class Task {
     private String name;
     private TypeTask typeTask;
     private String description;
+    
+    // Tâche de règle métier : table de décision appelée (camunda:decisionRef, par défaut l'ID de la tâche)
+    // et variable recevant son résultat (camunda:resultVariable)
+    private String decisionRef;
+    private String resultVariable;
+    
     private BpmnProcess process;
     
     @JsonBackReference
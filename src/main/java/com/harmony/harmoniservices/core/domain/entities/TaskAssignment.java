@@ -0,0 +1,32 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entrée de la liste de travail : une tâche en attente, proposée à un utilisateur ou à un groupe.
+ * Une entrée existe par jeton actif sur une tâche et par destinataire (utilisateur assigné,
+ * groupes autorisés) ; elle disparaît quand le jeton quitte la tâche.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskAssignment {
+    private Long id;
+    
+    // Jeton en attente sur la tâche
+    private Long tokenId;
+    private Long processInstanceId;
+    private String taskId;
+    
+    // Destinataire : un utilisateur ou un groupe
+    private Long userId;
+    private Long groupId;
+    
+    // Instance suspendue : l'entrée est masquée des listes de travail
+    private boolean suspended;
+    
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Timer BPMN persisté : échéance d'un événement temporel sur lequel un chemin de l'instance attend
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Timer {
+    private Long id;
+    
+    // Références
+    private Long processInstanceId;
+    private String elementId;
+    
+    // Échéance et état
+    private LocalDateTime dueDate;
+    private String status; // "PENDING", "FIRED", "CANCELLED"
+    
+    // Timer cyclique : expression du cycle (ISO 8601 R[n]/... ou cron) et occurrences restant après l'échéance
+    // courante (null : sans fin)
+    private String cycle;
+    private Integer repeatsRemaining;
+    
+    // Bail : nœud qui a chargé le timer en mémoire, repris par un autre nœud après expiration
+    private String lockOwner;
+    private LocalDateTime lockExpiresAt;
+    
+    // Métadonnées
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.harmony.harmoniservices.core.domain.enums;
+
+/**
+ * Niveau de détail de l'historique d'exécution écrit par le moteur
+ */
+public enum HistoryLevel {
+    /** Aucun historique */
+    NONE,
+    /** Démarrage et étapes attendues (tâches, événements, travaux), sans variables */
+    ACTIVITY,
+    /** Toutes les étapes, y compris automatiques, avec les variables reçues par chaque étape */
+    AUDIT,
+    /** Comme AUDIT, avec en plus les variables de l'instance modifiées, et leur valeur, après chaque étape */
+    FULL;
+
+    public boolean recordsActivities() {
+        return this != NONE;
+    }
+
+    public boolean recordsAutomaticSteps() {
+        return compareTo(AUDIT) >= 0;
+    }
+
+    public boolean recordsInputVariables() {
+        return compareTo(AUDIT) >= 0;
+    }
+
+    public boolean recordsOutputVariables() {
+        return this == FULL;
+    }
+}
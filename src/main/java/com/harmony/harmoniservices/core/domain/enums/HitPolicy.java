@@ -0,0 +1,13 @@
+package com.harmony.harmoniservices.core.domain.enums;
+
+/**
+ * Politique de résultat d'une table de décision (DMN)
+ */
+public enum HitPolicy {
+    /** Au plus une règle peut correspondre ; plusieurs correspondances sont une erreur */
+    UNIQUE,
+    /** Première règle correspondante, dans l'ordre de la table */
+    FIRST,
+    /** Toutes les règles correspondantes, dans l'ordre de la table */
+    COLLECT
+}
@@ -0,0 +1,131 @@
+package com.harmony.harmoniservices.core.domain.events;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.scheduling.support.CronExpression;
+
+/**
+ * Cycle d'un timer BPMN (timeCycle) : intervalle répété ISO 8601 ou expression cron.
+ * Formats pris en charge : R/PT10M (sans fin), R5/PT10H (cinq occurrences), R/P1M ou R/P1Y2M10DT2H
+ * (périodes calendaires), R3/2024-01-01T08:00:00/P1D et R3/2024-01-01T08:00:00Z/PT1H (première
+ * occurrence à une date donnée, avec ou sans décalage) et les expressions cron à six champs
+ * (secondes comprises) : 0 0 8 * * MON-FRI.
+ */
+public final class TimerCycle {
+
+    private final String expression;
+    private final Integer repetitions;
+    private final LocalDateTime start;
+    // Intervalle ISO 8601 : partie calendaire (années, mois, jours) et partie horaire
+    private final Period period;
+    private final Duration duration;
+    private final CronExpression cron;
+
+    private TimerCycle(String expression, Integer repetitions, LocalDateTime start, Period period, Duration duration,
+            CronExpression cron) {
+        this.expression = expression;
+        this.repetitions = repetitions;
+        this.start = start;
+        this.period = period;
+        this.duration = duration;
+        this.cron = cron;
+    }
+
+    /**
+     * Analyse un cycle
+     * @param expression Intervalle répété ISO 8601 ou expression cron
+     * @return Cycle analysé
+     * @throws IllegalArgumentException si l'expression est invalide
+     */
+    public static TimerCycle parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Cycle de timer vide");
+        }
+        String text = expression.trim();
+        if (!text.startsWith("R")) {
+            try {
+                return new TimerCycle(text, null, null, null, null, CronExpression.parse(text));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Expression cron invalide: " + text, e);
+            }
+        }
+
+        String[] parts = text.split("/");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Intervalle répété invalide (R[n]/[début/]durée attendu): " + text);
+        }
+        try {
+            Integer repetitions = parts[0].length() > 1 ? Integer.valueOf(parts[0].substring(1)) : null;
+            if (repetitions != null && repetitions <= 0) {
+                throw new IllegalArgumentException("Nombre de répétitions invalide: " + text);
+            }
+            LocalDateTime start = parts.length == 3 ? parseStart(parts[1]) : null;
+            String interval = parts[parts.length - 1];
+            int time = interval.indexOf('T');
+            // Period.parse n'accepte pas la partie horaire, Duration.parse pas les mois ni les années
+            Period period = time < 0 ? Period.parse(interval)
+                    : time > 1 ? Period.parse(interval.substring(0, time)) : Period.ZERO;
+            Duration duration = time < 0 ? Duration.ZERO : Duration.parse("P" + interval.substring(time));
+            if (period.isNegative() || duration.isNegative() || (period.isZero() && duration.isZero())) {
+                throw new IllegalArgumentException("Intervalle de répétition invalide: " + text);
+            }
+            return new TimerCycle(text, repetitions, start, period, duration, null);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Intervalle répété invalide: " + text, e);
+        }
+    }
+
+    /**
+     * Première échéance du cycle
+     * @param now Date de programmation
+     * @return Première échéance
+     */
+    public LocalDateTime first(LocalDateTime now) {
+        if (cron != null) {
+            return cron.next(now);
+        }
+        return start != null ? start : now.plus(period).plus(duration);
+    }
+
+    /**
+     * Échéance suivant une occurrence du cycle
+     * @param previous Échéance de l'occurrence précédente
+     * @return Échéance suivante
+     */
+    public LocalDateTime nextAfter(LocalDateTime previous) {
+        if (cron != null) {
+            return cron.next(previous);
+        }
+        return previous.plus(period).plus(duration);
+    }
+
+    private static LocalDateTime parseStart(String text) {
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            // Date avec décalage (2024-01-01T08:00:00Z, +02:00) : ramenée au fuseau du moteur
+            return OffsetDateTime.parse(text).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+    }
+
+    /**
+     * @return Nombre total d'occurrences, ou null pour un cycle sans fin (R/..., cron)
+     */
+    public Integer getRepetitions() {
+        return repetitions;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,55 @@
+package com.harmony.harmoniservices.core.domain.expressions;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Condition de flux compilée une fois en arbre typé, évaluée directement sur les variables du processus
+ */
+public final class CompiledCondition {
+
+    private final String source;
+    private final JuelNode root;
+    private final Set<String> variables;
+
+    CompiledCondition(String source, JuelNode root, Set<String> variables) {
+        this.source = source;
+        this.root = root;
+        this.variables = variables;
+    }
+
+    /**
+     * Évalue la condition et convertit le résultat en booléen selon les règles EL
+     * @param variables Variables du processus (lues à la demande, sans copie)
+     * @return true si la condition est satisfaite
+     * @throws IllegalArgumentException si une valeur ne peut pas être convertie
+     */
+    public boolean evaluate(Map<String, Object> variables) {
+        return ElCoercion.toBoolean(root.eval(variables));
+    }
+
+    /**
+     * Évalue l'expression sans conversion du résultat
+     * @param variables Variables du processus
+     * @return Valeur de l'expression
+     */
+    public Object getValue(Map<String, Object> variables) {
+        return root.eval(variables);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Variables lues par l'expression (racines des accès a.b et a[b]) ; le résultat ne dépend que de leurs valeurs
+     */
+    public Set<String> getVariables() {
+        return variables;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,396 @@
+package com.harmony.harmoniservices.core.domain.expressions;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversions et opérateurs du langage d'expression (règles de coercition de la spécification EL)
+ */
+final class ElCoercion {
+
+    // Accesseurs de propriétés par classe, résolus une seule fois
+    private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            return findGetters(type);
+        }
+    };
+
+    private ElCoercion() {
+    }
+
+    // Conversions
+
+    static boolean toBoolean(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof String text) {
+            return Boolean.parseBoolean(text);
+        }
+        throw new IllegalArgumentException("Conversion impossible en booléen: " + value);
+    }
+
+    static boolean isEmpty(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof String text) {
+            return text.isEmpty();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.isEmpty();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.isEmpty();
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value) == 0;
+        }
+        return false;
+    }
+
+    // Comparaisons
+
+    static boolean equal(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (isNumber(a) || isNumber(b)) {
+            if (!isNumeric(a) || !isNumeric(b)) {
+                return a.toString().equals(b.toString());
+            }
+            return compareNumbers(a, b) == 0;
+        }
+        if (a instanceof Boolean || b instanceof Boolean) {
+            return toBoolean(a) == toBoolean(b);
+        }
+        if (a instanceof Enum<?> || b instanceof Enum<?>) {
+            return enumName(a).equals(enumName(b));
+        }
+        if (a instanceof String || b instanceof String) {
+            return a.toString().equals(b.toString());
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * Compare deux valeurs non nulles
+     * @return Signe de la comparaison
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compare(Object a, Object b) {
+        if (isNumber(a) || isNumber(b)) {
+            return compareNumbers(a, b);
+        }
+        if (a instanceof String || b instanceof String) {
+            return a.toString().compareTo(b.toString());
+        }
+        if (a instanceof Comparable comparable) {
+            return comparable.compareTo(b);
+        }
+        throw new IllegalArgumentException("Valeurs non comparables: " + a + ", " + b);
+    }
+
+    // Arithmétique
+
+    static Object add(Object a, Object b) {
+        switch (numericKind(a, b)) {
+            case BIG_DECIMAL:
+                return toBigDecimal(a).add(toBigDecimal(b));
+            case DOUBLE:
+                return toDouble(a) + toDouble(b);
+            case BIG_INTEGER:
+                return toBigInteger(a).add(toBigInteger(b));
+            default:
+                return toLong(a) + toLong(b);
+        }
+    }
+
+    static Object subtract(Object a, Object b) {
+        switch (numericKind(a, b)) {
+            case BIG_DECIMAL:
+                return toBigDecimal(a).subtract(toBigDecimal(b));
+            case DOUBLE:
+                return toDouble(a) - toDouble(b);
+            case BIG_INTEGER:
+                return toBigInteger(a).subtract(toBigInteger(b));
+            default:
+                return toLong(a) - toLong(b);
+        }
+    }
+
+    static Object multiply(Object a, Object b) {
+        switch (numericKind(a, b)) {
+            case BIG_DECIMAL:
+                return toBigDecimal(a).multiply(toBigDecimal(b));
+            case DOUBLE:
+                return toDouble(a) * toDouble(b);
+            case BIG_INTEGER:
+                return toBigInteger(a).multiply(toBigInteger(b));
+            default:
+                return toLong(a) * toLong(b);
+        }
+    }
+
+    static Object divide(Object a, Object b) {
+        // En EL, la division est toujours décimale
+        if (a == null && b == null) {
+            return 0L;
+        }
+        NumericKind kind = numericKind(a, b);
+        if (kind == NumericKind.BIG_DECIMAL || kind == NumericKind.BIG_INTEGER) {
+            return toBigDecimal(a).divide(toBigDecimal(b), RoundingMode.HALF_UP);
+        }
+        return toDouble(a) / toDouble(b);
+    }
+
+    static Object modulo(Object a, Object b) {
+        switch (numericKind(a, b)) {
+            case BIG_DECIMAL:
+            case DOUBLE:
+                return toDouble(a) % toDouble(b);
+            case BIG_INTEGER:
+                return toBigInteger(a).remainder(toBigInteger(b));
+            default:
+                return toLong(a) % toLong(b);
+        }
+    }
+
+    static Object negate(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof String text) {
+            value = parseNumber(text);
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.negate();
+        }
+        if (value instanceof BigInteger integer) {
+            return integer.negate();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return -((Number) value).doubleValue();
+        }
+        if (isNumber(value)) {
+            return -toLong(value);
+        }
+        throw new IllegalArgumentException("Négation impossible: " + value);
+    }
+
+    // Accès aux propriétés et aux éléments
+
+    static Object property(Object base, String name) {
+        if (base == null) {
+            return null;
+        }
+        if (base instanceof Map<?, ?> map) {
+            return map.get(name);
+        }
+        Method getter = GETTERS.get(base.getClass()).get(name);
+        if (getter == null) {
+            throw new IllegalArgumentException("Propriété inconnue '" + name + "' sur " + base.getClass().getName());
+        }
+        try {
+            return getter.invoke(base);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Lecture impossible de la propriété '" + name + "'", e);
+        }
+    }
+
+    static Object index(Object base, Object key) {
+        if (base == null || key == null) {
+            return null;
+        }
+        if (base instanceof Map<?, ?> map) {
+            return map.get(key);
+        }
+        if (base instanceof List<?> list) {
+            long position = toLong(key);
+            return position >= 0 && position < list.size() ? list.get((int) position) : null;
+        }
+        if (base.getClass().isArray()) {
+            long position = toLong(key);
+            return position >= 0 && position < Array.getLength(base) ? Array.get(base, (int) position) : null;
+        }
+        return property(base, key.toString());
+    }
+
+    // Méthodes utilitaires privées
+
+    private enum NumericKind { LONG, BIG_INTEGER, DOUBLE, BIG_DECIMAL }
+
+    private static NumericKind numericKind(Object a, Object b) {
+        NumericKind kindA = numericKind(a);
+        NumericKind kindB = numericKind(b);
+        if (kindA == NumericKind.BIG_DECIMAL || kindB == NumericKind.BIG_DECIMAL
+                || (kindA == NumericKind.DOUBLE && kindB == NumericKind.BIG_INTEGER)
+                || (kindA == NumericKind.BIG_INTEGER && kindB == NumericKind.DOUBLE)) {
+            return NumericKind.BIG_DECIMAL;
+        }
+        if (kindA == NumericKind.DOUBLE || kindB == NumericKind.DOUBLE) {
+            return NumericKind.DOUBLE;
+        }
+        if (kindA == NumericKind.BIG_INTEGER || kindB == NumericKind.BIG_INTEGER) {
+            return NumericKind.BIG_INTEGER;
+        }
+        return NumericKind.LONG;
+    }
+
+    private static NumericKind numericKind(Object value) {
+        if (value instanceof BigDecimal) {
+            return NumericKind.BIG_DECIMAL;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return NumericKind.DOUBLE;
+        }
+        if (value instanceof BigInteger) {
+            return NumericKind.BIG_INTEGER;
+        }
+        if (value instanceof String text && isDecimalText(text)) {
+            return NumericKind.DOUBLE;
+        }
+        return NumericKind.LONG;
+    }
+
+    private static int compareNumbers(Object a, Object b) {
+        switch (numericKind(a, b)) {
+            case BIG_DECIMAL:
+                return toBigDecimal(a).compareTo(toBigDecimal(b));
+            case DOUBLE:
+                return Double.compare(toDouble(a), toDouble(b));
+            case BIG_INTEGER:
+                return toBigInteger(a).compareTo(toBigInteger(b));
+            default:
+                return Long.compare(toLong(a), toLong(b));
+        }
+    }
+
+    private static boolean isNumber(Object value) {
+        return value instanceof Number || value instanceof Character;
+    }
+
+    private static boolean isNumeric(Object value) {
+        if (isNumber(value)) {
+            return true;
+        }
+        if (value instanceof String text) {
+            try {
+                parseNumber(text);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDecimalText(String text) {
+        return text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0;
+    }
+
+    private static Number parseNumber(String text) {
+        String trimmed = text.trim();
+        try {
+            return isDecimalText(trimmed) ? (Number) Double.valueOf(trimmed) : (Number) Long.valueOf(trimmed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Conversion impossible en nombre: '" + text + "'");
+        }
+    }
+
+    private static Number toNumber(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof Number number) {
+            return number;
+        }
+        if (value instanceof Character character) {
+            return (long) character;
+        }
+        if (value instanceof String text) {
+            return text.isEmpty() ? 0L : parseNumber(text);
+        }
+        throw new IllegalArgumentException("Conversion impossible en nombre: " + value);
+    }
+
+    private static long toLong(Object value) {
+        return toNumber(value).longValue();
+    }
+
+    private static double toDouble(Object value) {
+        return toNumber(value).doubleValue();
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        Number number = toNumber(value);
+        if (number instanceof BigInteger integer) {
+            return integer;
+        }
+        if (number instanceof BigDecimal decimal) {
+            return decimal.toBigInteger();
+        }
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        Number number = toNumber(value);
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private static String enumName(Object value) {
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+
+    private static Map<String, Method> findGetters(Class<?> type) {
+        Map<String, Method> getters = new HashMap<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                Method accessor = component.getAccessor();
+                if (accessor.trySetAccessible()) {
+                    getters.put(component.getName(), accessor);
+                }
+            }
+            return getters;
+        }
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                Method reader = descriptor.getReadMethod();
+                if (reader != null && reader.trySetAccessible()) {
+                    getters.put(descriptor.getName(), reader);
+                }
+            }
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("Introspection impossible de " + type.getName(), e);
+        }
+        return getters;
+    }
+}
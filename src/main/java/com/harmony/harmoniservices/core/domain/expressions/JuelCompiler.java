@@ -0,0 +1,416 @@
+package com.harmony.harmoniservices.core.domain.expressions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.IntPredicate;
+
+/**
+ * Compilateur du sous-ensemble JUEL utilisé dans les conditions de flux (Camunda Modeler) :
+ * ${amount gt 1000 and region eq 'EU'}.
+ * L'expression est analysée une seule fois en arbre typé ; l'évaluation lit les variables
+ * à la demande et applique les règles de coercition EL, sans réécriture textuelle.
+ * Pris en charge : littéraux, variables, accès a.b et a[b], opérateurs logiques, relationnels
+ * et arithmétiques (formes symboliques et mots-clés), empty, not, opérateur ternaire.
+ * Les appels de fonctions ou de méthodes ne le sont pas.
+ */
+public final class JuelCompiler {
+
+    private static final Set<String> KEYWORDS = Set.of("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+            "div", "mod", "empty", "true", "false", "null", "instanceof");
+
+    private final String source;
+    private final List<Token> tokens;
+    private final Set<String> variables = new LinkedHashSet<>();
+    private int position;
+
+    private JuelCompiler(String source, List<Token> tokens) {
+        this.source = source;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Indique si un texte est une expression JUEL délimitée par ${...} ou #{...}
+     * @param text Texte de la condition
+     * @return true si le texte est une expression JUEL
+     */
+    public static boolean isJuel(String text) {
+        String trimmed = text.trim();
+        return (trimmed.startsWith("${") || trimmed.startsWith("#{")) && trimmed.endsWith("}");
+    }
+
+    /**
+     * Compile une condition JUEL
+     * @param text Condition délimitée par ${...} ou #{...}
+     * @return Condition compilée
+     * @throws IllegalArgumentException si l'expression est invalide ou hors du sous-ensemble pris en charge
+     */
+    public static CompiledCondition compile(String text) {
+        if (!isJuel(text)) {
+            throw new IllegalArgumentException("Expression JUEL attendue (${...}): " + text);
+        }
+        String trimmed = text.trim();
+        String body = trimmed.substring(2, trimmed.length() - 1);
+        JuelCompiler compiler = new JuelCompiler(text, tokenize(body));
+        JuelNode root = compiler.expression();
+        if (compiler.peek().type != TokenType.END) {
+            throw compiler.error("fin d'expression attendue");
+        }
+        return new CompiledCondition(text, root, Set.copyOf(compiler.variables));
+    }
+
+    // Analyse syntaxique (descente récursive, par ordre de priorité croissante)
+
+    private JuelNode expression() {
+        JuelNode condition = or();
+        if (!accept("?")) {
+            return condition;
+        }
+        JuelNode whenTrue = expression();
+        expect(":");
+        JuelNode whenFalse = expression();
+        if (condition instanceof JuelNode.Constant constant) {
+            return ElCoercion.toBoolean(constant.value()) ? whenTrue : whenFalse;
+        }
+        return variables -> ElCoercion.toBoolean(condition.eval(variables))
+                ? whenTrue.eval(variables) : whenFalse.eval(variables);
+    }
+
+    private JuelNode or() {
+        JuelNode left = and();
+        while (accept("||", "or")) {
+            JuelNode l = left;
+            JuelNode r = and();
+            left = variables -> ElCoercion.toBoolean(l.eval(variables)) || ElCoercion.toBoolean(r.eval(variables));
+        }
+        return left;
+    }
+
+    private JuelNode and() {
+        JuelNode left = equality();
+        while (accept("&&", "and")) {
+            JuelNode l = left;
+            JuelNode r = equality();
+            left = variables -> ElCoercion.toBoolean(l.eval(variables)) && ElCoercion.toBoolean(r.eval(variables));
+        }
+        return left;
+    }
+
+    private JuelNode equality() {
+        JuelNode left = relational();
+        while (true) {
+            if (accept("==", "eq")) {
+                left = binary(left, relational(), ElCoercion::equal);
+            } else if (accept("!=", "ne")) {
+                left = binary(left, relational(), (a, b) -> !ElCoercion.equal(a, b));
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private JuelNode relational() {
+        JuelNode left = additive();
+        while (true) {
+            if (accept("<", "lt")) {
+                left = comparison(left, additive(), sign -> sign < 0);
+            } else if (accept(">", "gt")) {
+                left = comparison(left, additive(), sign -> sign > 0);
+            } else if (accept("<=", "le")) {
+                left = comparison(left, additive(), sign -> sign <= 0);
+            } else if (accept(">=", "ge")) {
+                left = comparison(left, additive(), sign -> sign >= 0);
+            } else if (peek().is("instanceof")) {
+                throw error("instanceof n'est pas pris en charge");
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private JuelNode additive() {
+        JuelNode left = multiplicative();
+        while (true) {
+            if (accept("+")) {
+                left = arithmetic(left, multiplicative(), ElCoercion::add);
+            } else if (accept("-")) {
+                left = arithmetic(left, multiplicative(), ElCoercion::subtract);
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private JuelNode multiplicative() {
+        JuelNode left = unary();
+        while (true) {
+            if (accept("*")) {
+                left = arithmetic(left, unary(), ElCoercion::multiply);
+            } else if (accept("/", "div")) {
+                left = arithmetic(left, unary(), ElCoercion::divide);
+            } else if (accept("%", "mod")) {
+                left = arithmetic(left, unary(), ElCoercion::modulo);
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private JuelNode unary() {
+        if (accept("!", "not")) {
+            JuelNode operand = unary();
+            return fold(operand, variables -> !ElCoercion.toBoolean(operand.eval(variables)));
+        }
+        if (accept("-")) {
+            JuelNode operand = unary();
+            return fold(operand, variables -> ElCoercion.negate(operand.eval(variables)));
+        }
+        if (accept("empty")) {
+            JuelNode operand = unary();
+            return fold(operand, variables -> ElCoercion.isEmpty(operand.eval(variables)));
+        }
+        return value();
+    }
+
+    private JuelNode value() {
+        JuelNode base = primary();
+        while (true) {
+            if (accept(".")) {
+                Token name = next();
+                if (name.type != TokenType.IDENTIFIER && name.type != TokenType.KEYWORD) {
+                    throw error("nom de propriété attendu après '.'");
+                }
+                rejectCall();
+                JuelNode b = base;
+                String property = name.text;
+                base = variables -> ElCoercion.property(b.eval(variables), property);
+            } else if (accept("[")) {
+                JuelNode key = expression();
+                expect("]");
+                rejectCall();
+                JuelNode b = base;
+                base = variables -> ElCoercion.index(b.eval(variables), key.eval(variables));
+            } else {
+                return base;
+            }
+        }
+    }
+
+    private JuelNode primary() {
+        Token token = next();
+        switch (token.type) {
+            case NUMBER:
+            case STRING:
+                return new JuelNode.Constant(token.value);
+            case KEYWORD:
+                if (token.is("true")) {
+                    return new JuelNode.Constant(Boolean.TRUE);
+                }
+                if (token.is("false")) {
+                    return new JuelNode.Constant(Boolean.FALSE);
+                }
+                if (token.is("null")) {
+                    return new JuelNode.Constant(null);
+                }
+                throw error("mot réservé inattendu '" + token.text + "'");
+            case IDENTIFIER:
+                rejectCall();
+                String name = token.text;
+                this.variables.add(name);
+                return variables -> variables.get(name);
+            case SYMBOL:
+                if (token.is("(")) {
+                    JuelNode inner = expression();
+                    expect(")");
+                    return inner;
+                }
+                throw error("symbole inattendu '" + token.text + "'");
+            default:
+                throw error("expression incomplète");
+        }
+    }
+
+    // Construction des nœuds
+
+    private static JuelNode binary(JuelNode left, JuelNode right, BiPredicate<Object, Object> operator) {
+        JuelNode node = variables -> operator.test(left.eval(variables), right.eval(variables));
+        return fold(left, right, node);
+    }
+
+    private static JuelNode comparison(JuelNode left, JuelNode right, IntPredicate test) {
+        // Une valeur nulle rend toute comparaison fausse
+        JuelNode node = variables -> {
+            Object a = left.eval(variables);
+            Object b = right.eval(variables);
+            return a != null && b != null && test.test(ElCoercion.compare(a, b));
+        };
+        return fold(left, right, node);
+    }
+
+    private static JuelNode arithmetic(JuelNode left, JuelNode right, BinaryOperator<Object> operator) {
+        JuelNode node = variables -> operator.apply(left.eval(variables), right.eval(variables));
+        return fold(left, right, node);
+    }
+
+    // Sous-expressions constantes calculées une fois à la compilation
+
+    private static JuelNode fold(JuelNode operand, JuelNode node) {
+        return operand instanceof JuelNode.Constant ? constant(node) : node;
+    }
+
+    private static JuelNode fold(JuelNode left, JuelNode right, JuelNode node) {
+        return left instanceof JuelNode.Constant && right instanceof JuelNode.Constant ? constant(node) : node;
+    }
+
+    private static JuelNode constant(JuelNode node) {
+        try {
+            return new JuelNode.Constant(node.eval(null));
+        } catch (RuntimeException e) {
+            // Erreur d'évaluation (division par zéro...) : signalée à l'exécution comme pour une variable
+            return node;
+        }
+    }
+
+    // Lecture des jetons
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        Token token = tokens.get(position);
+        if (token.type != TokenType.END) {
+            position++;
+        }
+        return token;
+    }
+
+    private boolean accept(String... alternatives) {
+        Token token = peek();
+        if (token.type == TokenType.SYMBOL || token.type == TokenType.KEYWORD) {
+            for (String alternative : alternatives) {
+                if (token.is(alternative)) {
+                    position++;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void expect(String symbol) {
+        if (!accept(symbol)) {
+            throw error("'" + symbol + "' attendu");
+        }
+    }
+
+    private void rejectCall() {
+        if (peek().is("(")) {
+            throw error("les appels de fonctions et de méthodes ne sont pas pris en charge");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Condition JUEL invalide '" + source + "' (position " + peek().offset + "): " + message);
+    }
+
+    // Analyse lexicale
+
+    private enum TokenType { NUMBER, STRING, IDENTIFIER, KEYWORD, SYMBOL, END }
+
+    private record Token(TokenType type, String text, Object value, int offset) {
+        boolean is(String expected) {
+            return (type == TokenType.SYMBOL || type == TokenType.KEYWORD) && text.equals(expected);
+        }
+    }
+
+    private static List<Token> tokenize(String body) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int length = body.length();
+        while (i < length) {
+            char c = body.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(body.charAt(i + 1)))) {
+                int start = i;
+                boolean decimal = false;
+                while (i < length && Character.isDigit(body.charAt(i))) {
+                    i++;
+                }
+                if (i + 1 < length && body.charAt(i) == '.' && Character.isDigit(body.charAt(i + 1))) {
+                    decimal = true;
+                    i++;
+                    while (i < length && Character.isDigit(body.charAt(i))) {
+                        i++;
+                    }
+                }
+                if (i < length && (body.charAt(i) == 'e' || body.charAt(i) == 'E')) {
+                    int exponent = i + 1;
+                    if (exponent < length && (body.charAt(exponent) == '+' || body.charAt(exponent) == '-')) {
+                        exponent++;
+                    }
+                    if (exponent < length && Character.isDigit(body.charAt(exponent))) {
+                        decimal = true;
+                        i = exponent;
+                        while (i < length && Character.isDigit(body.charAt(i))) {
+                            i++;
+                        }
+                    }
+                }
+                String text = body.substring(start, i);
+                Object value = decimal ? (Object) Double.valueOf(text) : (Object) Long.valueOf(text);
+                tokens.add(new Token(TokenType.NUMBER, text, value, start));
+            } else if (c == '\'' || c == '"') {
+                int start = i++;
+                StringBuilder value = new StringBuilder();
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("Chaîne non terminée à la position " + start + ": " + body);
+                    }
+                    char current = body.charAt(i++);
+                    if (current == c) {
+                        break;
+                    }
+                    if (current == '\\' && i < length) {
+                        // Échappements EL : \' \" \\
+                        current = body.charAt(i++);
+                    }
+                    value.append(current);
+                }
+                tokens.add(new Token(TokenType.STRING, body.substring(start, i), value.toString(), start));
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(body.charAt(i))) {
+                    i++;
+                }
+                String word = body.substring(start, i);
+                tokens.add(new Token(KEYWORDS.contains(word) ? TokenType.KEYWORD : TokenType.IDENTIFIER, word, null, start));
+            } else {
+                String symbol = symbolAt(body, i);
+                tokens.add(new Token(TokenType.SYMBOL, symbol, null, i));
+                i += symbol.length();
+            }
+        }
+        tokens.add(new Token(TokenType.END, "", null, length));
+        return tokens;
+    }
+
+    private static String symbolAt(String body, int i) {
+        if (i + 1 < body.length()) {
+            String pair = body.substring(i, i + 2);
+            if (pair.equals("==") || pair.equals("!=") || pair.equals("<=") || pair.equals(">=")
+                    || pair.equals("&&") || pair.equals("||")) {
+                return pair;
+            }
+        }
+        char c = body.charAt(i);
+        if ("<>!+-*/%?:.[]()".indexOf(c) >= 0) {
+            return String.valueOf(c);
+        }
+        throw new IllegalArgumentException("Caractère inattendu '" + c + "' à la position " + i + ": " + body);
+    }
+}
@@ -0,0 +1,22 @@
+package com.harmony.harmoniservices.core.domain.expressions;
+
+import java.util.Map;
+
+/**
+ * Nœud de l'arbre d'une expression compilée
+ */
+@FunctionalInterface
+interface JuelNode {
+
+    Object eval(Map<String, Object> variables);
+
+    /**
+     * Littéral, ou sous-expression dont la valeur a été calculée à la compilation
+     */
+    record Constant(Object value) implements JuelNode {
+        @Override
+        public Object eval(Map<String, Object> variables) {
+            return value;
+        }
+    }
+}
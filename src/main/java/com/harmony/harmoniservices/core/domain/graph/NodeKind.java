@@ -0,0 +1,132 @@
+package com.harmony.harmoniservices.core.domain.graph;
+
+import com.harmony.harmoniservices.core.domain.entities.Event;
+import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.Task;
+import com.harmony.harmoniservices.core.domain.enums.TriggerType;
+
+/**
+ * Type compilé d'un nœud du graphe de processus
+ */
+public enum NodeKind {
+    START_EVENT,
+    END_EVENT,
+    CATCH_EVENT,
+    THROW_EVENT,
+    BOUNDARY_EVENT,
+    TASK,
+    USER_TASK,
+    MANUAL_TASK,
+    RECEIVE_TASK,
+    SEND_TASK,
+    SERVICE_TASK,
+    SCRIPT_TASK,
+    BUSINESS_RULE_TASK,
+    EXCLUSIVE_GATEWAY,
+    INCLUSIVE_GATEWAY,
+    PARALLEL_GATEWAY,
+    EVENT_BASED_GATEWAY,
+    COMPLEX_GATEWAY,
+    UNKNOWN;
+
+    public boolean isTask() {
+        return this.ordinal() >= TASK.ordinal() && this.ordinal() <= BUSINESS_RULE_TASK.ordinal();
+    }
+
+    public boolean isEvent() {
+        return this.ordinal() <= BOUNDARY_EVENT.ordinal();
+    }
+
+    public boolean isGateway() {
+        return this.ordinal() >= EXCLUSIVE_GATEWAY.ordinal() && this.ordinal() <= COMPLEX_GATEWAY.ordinal();
+    }
+
+    /**
+     * Indique si le nœud s'exécute sans intervention (pas d'état d'attente) :
+     * événements de lancement et tâches automatiques
+     */
+    public boolean isAutomatic() {
+        return this == THROW_EVENT || this == SEND_TASK || this == SERVICE_TASK
+                || this == SCRIPT_TASK || this == BUSINESS_RULE_TASK;
+    }
+
+    /**
+     * Détermine le type de nœud d'une tâche BPMN
+     * @param task Tâche BPMN
+     * @return Type de nœud correspondant
+     */
+    public static NodeKind of(Task task) {
+        if (task.getTypeTask() == null) {
+            return TASK;
+        }
+        switch (task.getTypeTask()) {
+            case USER:
+                return USER_TASK;
+            case MANUAL:
+                return MANUAL_TASK;
+            case RECEIVE:
+                return RECEIVE_TASK;
+            case SEND:
+                return SEND_TASK;
+            case SERVICE:
+                return SERVICE_TASK;
+            case SCRIPT:
+                return SCRIPT_TASK;
+            case BUSINESS_RULE:
+                return BUSINESS_RULE_TASK;
+            default:
+                return TASK;
+        }
+    }
+
+    /**
+     * Détermine le type de nœud d'un événement BPMN
+     * @param event Événement BPMN
+     * @return Type de nœud correspondant
+     */
+    public static NodeKind of(Event event) {
+        if (event.getTypeEvent() == null) {
+            return UNKNOWN;
+        }
+        switch (event.getTypeEvent()) {
+            case START:
+                return START_EVENT;
+            case END:
+                return END_EVENT;
+            case BOUNDARY_EVENT:
+                return BOUNDARY_EVENT;
+            case INTERMEDIATE:
+            case UNKNOWN:
+                // Sans type explicite, un événement avec déclencheur attend ce déclencheur
+                TriggerType trigger = event.getTriggerType();
+                return trigger == TriggerType.TIMER || trigger == TriggerType.MESSAGE
+                        || trigger == TriggerType.SIGNAL || trigger == TriggerType.CONDITIONAL
+                        ? CATCH_EVENT : THROW_EVENT;
+            default:
+                return event.getTypeEvent().name().contains("CATCH") ? CATCH_EVENT : THROW_EVENT;
+        }
+    }
+
+    /**
+     * Détermine le type de nœud d'une passerelle BPMN
+     * @param gateway Passerelle BPMN
+     * @return Type de nœud correspondant
+     */
+    public static NodeKind of(Gateway gateway) {
+        if (gateway.getTypeGateway() == null) {
+            return EXCLUSIVE_GATEWAY;
+        }
+        switch (gateway.getTypeGateway()) {
+            case PARALLEL:
+                return PARALLEL_GATEWAY;
+            case INCLUSIVE:
+                return INCLUSIVE_GATEWAY;
+            case EVENT_BASED:
+                return EVENT_BASED_GATEWAY;
+            case COMPLEX:
+                return COMPLEX_GATEWAY;
+            default:
+                return EXCLUSIVE_GATEWAY;
+        }
+    }
+}
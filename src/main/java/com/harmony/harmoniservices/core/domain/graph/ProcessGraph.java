@@ -0,0 +1,327 @@
+package com.harmony.harmoniservices.core.domain.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.entities.Event;
+import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
+import com.harmony.harmoniservices.core.domain.entities.Task;
+
+/**
+ * Graphe compilé et immuable d'un processus BPMN.
+ * Les identifiants des éléments sont convertis en indices entiers et les flux
+ * sortants/entrants de chaque nœud sont précalculés, de sorte que chaque pas de
+ * navigation du moteur se résume à une lecture de tableau.
+ */
+public final class ProcessGraph {
+
+    /** Indice retourné lorsqu'un élément n'existe pas dans le graphe */
+    public static final int NO_NODE = -1;
+
+    private static final int[] NO_FLOWS = new int[0];
+
+    private final String processId;
+
+    // Nœuds
+    private final String[] nodeIds;
+    private final String[] nodeNames;
+    private final NodeKind[] kinds;
+    private final Object[] elements;
+    private final Map<String, Integer> nodeIndex;
+
+    // Flux de séquence
+    private final SequenceFlow[] flows;
+    private final int[] flowSources;
+    private final int[] flowTargets;
+
+    // Listes d'adjacence (indices de flux)
+    private final int[][] outgoing;
+    private final int[][] incoming;
+    private final List<List<SequenceFlow>> outgoingFlowLists;
+
+    private final int[] startEvents;
+    private final int firstTask;
+
+    private ProcessGraph(Builder builder) {
+        this.processId = builder.processId;
+        int nodeCount = builder.nodeIds.size();
+        this.nodeIds = builder.nodeIds.toArray(new String[0]);
+        this.nodeNames = builder.nodeNames.toArray(new String[0]);
+        this.kinds = builder.kinds.toArray(new NodeKind[0]);
+        this.elements = builder.elements.toArray();
+        this.nodeIndex = Collections.unmodifiableMap(builder.nodeIndex);
+
+        int flowCount = builder.flows.size();
+        this.flows = builder.flows.toArray(new SequenceFlow[0]);
+        this.flowSources = new int[flowCount];
+        this.flowTargets = new int[flowCount];
+
+        int[] outDegrees = new int[nodeCount];
+        int[] inDegrees = new int[nodeCount];
+        for (int f = 0; f < flowCount; f++) {
+            flowSources[f] = builder.flowSources.get(f);
+            flowTargets[f] = builder.flowTargets.get(f);
+            if (flowSources[f] != NO_NODE) {
+                outDegrees[flowSources[f]]++;
+            }
+            if (flowTargets[f] != NO_NODE) {
+                inDegrees[flowTargets[f]]++;
+            }
+        }
+
+        this.outgoing = new int[nodeCount][];
+        this.incoming = new int[nodeCount][];
+        for (int n = 0; n < nodeCount; n++) {
+            outgoing[n] = outDegrees[n] == 0 ? NO_FLOWS : new int[outDegrees[n]];
+            incoming[n] = inDegrees[n] == 0 ? NO_FLOWS : new int[inDegrees[n]];
+            outDegrees[n] = 0;
+            inDegrees[n] = 0;
+        }
+        // Les flux sont rangés dans l'ordre de déclaration du processus
+        for (int f = 0; f < flowCount; f++) {
+            if (flowSources[f] != NO_NODE) {
+                outgoing[flowSources[f]][outDegrees[flowSources[f]]++] = f;
+            }
+            if (flowTargets[f] != NO_NODE) {
+                incoming[flowTargets[f]][inDegrees[flowTargets[f]]++] = f;
+            }
+        }
+
+        List<List<SequenceFlow>> flowLists = new ArrayList<>(nodeCount);
+        for (int n = 0; n < nodeCount; n++) {
+            List<SequenceFlow> nodeFlows = new ArrayList<>(outgoing[n].length);
+            for (int f : outgoing[n]) {
+                nodeFlows.add(flows[f]);
+            }
+            flowLists.add(Collections.unmodifiableList(nodeFlows));
+        }
+        this.outgoingFlowLists = Collections.unmodifiableList(flowLists);
+
+        this.startEvents = builder.startEvents.stream().mapToInt(Integer::intValue).toArray();
+        this.firstTask = builder.firstTask;
+    }
+
+    /**
+     * Compile un processus BPMN en graphe navigable
+     * @param process Processus BPMN
+     * @return Graphe compilé
+     */
+    public static ProcessGraph compile(BpmnProcess process) {
+        Builder builder = new Builder(process.getId());
+
+        if (process.getTasks() != null) {
+            for (Task task : process.getTasks()) {
+                int node = builder.addNode(task.getId(), task.getName(), NodeKind.of(task), task);
+                if (builder.firstTask == NO_NODE) {
+                    builder.firstTask = node;
+                }
+            }
+        }
+        if (process.getEvents() != null) {
+            for (Event event : process.getEvents()) {
+                NodeKind kind = NodeKind.of(event);
+                int node = builder.addNode(event.getId(), event.getName(), kind, event);
+                if (kind == NodeKind.START_EVENT) {
+                    builder.startEvents.add(node);
+                }
+            }
+        }
+        if (process.getGateways() != null) {
+            for (Gateway gateway : process.getGateways()) {
+                builder.addNode(gateway.getId(), gateway.getName(), NodeKind.of(gateway), gateway);
+            }
+        }
+        if (process.getSequenceFlows() != null) {
+            for (SequenceFlow flow : process.getSequenceFlows()) {
+                builder.addFlow(flow);
+            }
+        }
+
+        return new ProcessGraph(builder);
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    /**
+     * @return Nombre de nœuds du graphe
+     */
+    public int size() {
+        return nodeIds.length;
+    }
+
+    /**
+     * Retourne l'indice d'un élément à partir de son ID BPMN
+     * @param elementId ID de l'élément
+     * @return Indice du nœud, ou {@link #NO_NODE} si l'élément est inconnu
+     */
+    public int indexOf(String elementId) {
+        if (elementId == null) {
+            return NO_NODE;
+        }
+        Integer node = nodeIndex.get(elementId);
+        return node != null ? node : NO_NODE;
+    }
+
+    public String nodeId(int node) {
+        return nodeIds[node];
+    }
+
+    public String name(int node) {
+        return nodeNames[node];
+    }
+
+    public NodeKind kind(int node) {
+        return kinds[node];
+    }
+
+    public Task task(int node) {
+        return elements[node] instanceof Task ? (Task) elements[node] : null;
+    }
+
+    public Event event(int node) {
+        return elements[node] instanceof Event ? (Event) elements[node] : null;
+    }
+
+    public Gateway gateway(int node) {
+        return elements[node] instanceof Gateway ? (Gateway) elements[node] : null;
+    }
+
+    public int outDegree(int node) {
+        return outgoing[node].length;
+    }
+
+    public int inDegree(int node) {
+        return incoming[node].length;
+    }
+
+    /**
+     * Retourne l'indice du i-ème flux sortant d'un nœud
+     */
+    public int outgoingFlow(int node, int i) {
+        return outgoing[node][i];
+    }
+
+    /**
+     * Retourne l'indice du i-ème flux entrant d'un nœud
+     */
+    public int incomingFlow(int node, int i) {
+        return incoming[node][i];
+    }
+
+    /**
+     * Flux sortants d'un nœud, dans l'ordre de déclaration (liste non modifiable)
+     */
+    public List<SequenceFlow> outgoingFlows(int node) {
+        return outgoingFlowLists.get(node);
+    }
+
+    public SequenceFlow flow(int flow) {
+        return flows[flow];
+    }
+
+    public int flowSource(int flow) {
+        return flowSources[flow];
+    }
+
+    public int flowTarget(int flow) {
+        return flowTargets[flow];
+    }
+
+    /**
+     * Indique si un nœud peut atteindre un autre nœud en suivant les flux de séquence
+     * @param from Nœud de départ
+     * @param to Nœud cible
+     * @return true si un chemin existe de {@code from} vers {@code to}
+     */
+    public boolean canReach(int from, int to) {
+        if (from == NO_NODE || to == NO_NODE) {
+            return false;
+        }
+        boolean[] visited = new boolean[nodeIds.length];
+        int[] stack = new int[nodeIds.length];
+        int top = 0;
+        stack[top++] = from;
+        visited[from] = true;
+        while (top > 0) {
+            int node = stack[--top];
+            if (node == to) {
+                return true;
+            }
+            for (int f : outgoing[node]) {
+                int target = flowTargets[f];
+                if (target != NO_NODE && !visited[target]) {
+                    visited[target] = true;
+                    stack[top++] = target;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Nombre d'événements de démarrage
+     */
+    public int startEventCount() {
+        return startEvents.length;
+    }
+
+    public int startEvent(int i) {
+        return startEvents[i];
+    }
+
+    /**
+     * @return Première tâche déclarée dans le processus, ou {@link #NO_NODE}
+     */
+    public int firstTask() {
+        return firstTask;
+    }
+
+    private static final class Builder {
+        private final String processId;
+        private final List<String> nodeIds = new ArrayList<>();
+        private final List<String> nodeNames = new ArrayList<>();
+        private final List<NodeKind> kinds = new ArrayList<>();
+        private final List<Object> elements = new ArrayList<>();
+        private final Map<String, Integer> nodeIndex = new HashMap<>();
+        private final List<SequenceFlow> flows = new ArrayList<>();
+        private final List<Integer> flowSources = new ArrayList<>();
+        private final List<Integer> flowTargets = new ArrayList<>();
+        private final List<Integer> startEvents = new ArrayList<>();
+        private int firstTask = NO_NODE;
+
+        private Builder(String processId) {
+            this.processId = processId;
+        }
+
+        private int addNode(String id, String name, NodeKind kind, Object element) {
+            if (id == null) {
+                return NO_NODE;
+            }
+            Integer existing = nodeIndex.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            int node = nodeIds.size();
+            nodeIds.add(id);
+            nodeNames.add(name);
+            kinds.add(kind);
+            elements.add(element);
+            nodeIndex.put(id, node);
+            return node;
+        }
+
+        private void addFlow(SequenceFlow flow) {
+            // Les extrémités non déclarées (sous-processus, etc.) deviennent des nœuds inconnus
+            flows.add(flow);
+            flowSources.add(addNode(flow.getSourceRef(), null, NodeKind.UNKNOWN, null));
+            flowTargets.add(addNode(flow.getTargetRef(), null, NodeKind.UNKNOWN, null));
+        }
+    }
+}
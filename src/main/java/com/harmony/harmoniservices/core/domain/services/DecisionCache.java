@@ -0,0 +1,24 @@
+package com.harmony.harmoniservices.core.domain.services;
+
+import java.util.Optional;
+
+import com.harmony.harmoniservices.core.domain.decisions.CompiledDecision;
+
+/**
+ * Cache des tables de décision compilées
+ */
+public interface DecisionCache {
+    
+    /**
+     * Retourne une décision compilée, en la chargeant et en la compilant au premier accès
+     * @param decisionKey Clé de la décision
+     * @return Décision compilée, ou empty si aucune table n'est déployée sous cette clé
+     */
+    Optional<CompiledDecision> find(String decisionKey);
+    
+    /**
+     * Enregistre une décision compilée au déploiement de sa table
+     * @param decision Décision compilée
+     */
+    void put(CompiledDecision decision);
+}
@@ -11,11 +11,13 @@ import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
 public interface EventHandler {
     
     /**
-     * Enregistre un événement de type timer pour une instance de processus
+     * Enregistre un événement de type timer pour une instance de processus ;
+     * le timer est persisté et déclenché même après un redémarrage. Pour un cycle, un retour sur
+     * l'événement reprend après l'occurrence précédente et décompte les répétitions restantes.
      * @param processInstance Instance de processus
      * @param event Événement BPMN
      * @param variables Variables du processus
-     * @return ID de l'événement enregistré
+     * @return ID du timer enregistré, ou null si le cycle a épuisé ses répétitions
      */
     String scheduleTimerEvent(ProcessInstance processInstance, Event event, Map<String, Object> variables);
     
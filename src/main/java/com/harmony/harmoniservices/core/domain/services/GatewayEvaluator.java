@@ -1,5 +1,6 @@
 package com.harmony.harmoniservices.core.domain.services;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -16,18 +17,22 @@ public interface GatewayEvaluator {
      * @param gateway Passerelle à évaluer
      * @param outgoingFlows Flux sortants de la passerelle
      * @param variables Variables du processus pour évaluer les conditions
+     * @param processInstanceId ID de l'instance, pour mémoriser les résultats (null : pas de mémorisation)
      * @return La séquence à suivre (une seule pour XOR)
      */
-    SequenceFlow evaluateExclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables);
+    SequenceFlow evaluateExclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables,
+            Long processInstanceId);
     
     /**
      * Évalue une passerelle inclusive (OR) et retourne les séquences à suivre
      * @param gateway Passerelle à évaluer
      * @param outgoingFlows Flux sortants de la passerelle
      * @param variables Variables du processus pour évaluer les conditions
+     * @param processInstanceId ID de l'instance, pour mémoriser les résultats (null : pas de mémorisation)
      * @return Les séquences à suivre (une ou plusieurs pour OR)
      */
-    List<SequenceFlow> evaluateInclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables);
+    List<SequenceFlow> evaluateInclusiveGateway(Gateway gateway, List<SequenceFlow> outgoingFlows, Map<String, Object> variables,
+            Long processInstanceId);
     
     /**
      * Évalue une passerelle parallèle (AND) et retourne les séquences à suivre
@@ -41,7 +46,14 @@ public interface GatewayEvaluator {
      * Évalue une condition sur une séquence
      * @param sequenceFlow Séquence à évaluer
      * @param variables Variables du processus
+     * @param processInstanceId ID de l'instance, pour mémoriser le résultat (null : pas de mémorisation)
      * @return true si la condition est satisfaite, false sinon
      */
-    boolean evaluateCondition(SequenceFlow sequenceFlow, Map<String, Object> variables);
+    boolean evaluateCondition(SequenceFlow sequenceFlow, Map<String, Object> variables, Long processInstanceId);
+    
+    /**
+     * Compile à l'avance les conditions des séquences, au chargement d'un processus
+     * @param sequenceFlows Séquences du processus
+     */
+    void compileConditions(Collection<SequenceFlow> sequenceFlows);
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.harmony.harmoniservices.core.domain.services;
+
+import java.util.List;
+
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
+
+/**
+ * Écriture de l'historique d'exécution produit par le moteur
+ */
+public interface HistoryWriter {
+    
+    /**
+     * Enregistre des entrées d'historique. Selon la configuration, elles sont écrites dans la
+     * transaction courante ou transmises après son commit à un écrivain en arrière-plan.
+     * @param executions Entrées d'historique (instance déjà renseignée)
+     */
+    void write(List<ProcessExecution> executions);
+}
@@ -0,0 +1,23 @@
+package com.harmony.harmoniservices.core.domain.services;
+
+import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.graph.ProcessGraph;
+
+/**
+ * Cache des graphes compilés des processus BPMN
+ */
+public interface ProcessGraphCache {
+    
+    /**
+     * Retourne le graphe compilé d'un processus, en le compilant au premier accès
+     * @param process Processus BPMN
+     * @return Graphe compilé du processus
+     */
+    ProcessGraph get(BpmnProcess process);
+    
+    /**
+     * Retire le graphe d'un processus du cache (redéploiement, suppression)
+     * @param processId ID du processus
+     */
+    void evict(String processId);
+}
@@ -0,0 +1,28 @@
+package com.harmony.harmoniservices.core.domain.services;
+
+import java.util.Map;
+
+import com.harmony.harmoniservices.core.domain.entities.Task;
+
+/**
+ * Point d'extension pour le travail des tâches de service et de script.
+ * Chaque implémentation déclarée comme bean est exécutée de manière asynchrone
+ * par l'exécuteur de travaux, hors de toute transaction.
+ */
+public interface TaskDelegate {
+    
+    /**
+     * Indique si ce délégué prend en charge une tâche
+     * @param task Tâche BPMN
+     * @return true si le délégué exécute cette tâche
+     */
+    boolean supports(Task task);
+    
+    /**
+     * Exécute le travail de la tâche
+     * @param task Tâche BPMN
+     * @param variables Variables du processus (lecture seule)
+     * @return Variables de sortie à fusionner dans le processus
+     */
+    Map<String, Object> execute(Task task, Map<String, Object> variables);
+}
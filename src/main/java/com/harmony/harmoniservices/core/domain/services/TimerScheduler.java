@@ -0,0 +1,24 @@
+package com.harmony.harmoniservices.core.domain.services;
+
+import com.harmony.harmoniservices.core.domain.entities.Timer;
+
+/**
+ * Planification en mémoire des timers persistés.
+ * La table des timers fait foi : la planification n'est qu'une accélération, un timer
+ * perdu en mémoire (redémarrage, autre nœud) est rechargé depuis la base.
+ */
+public interface TimerScheduler {
+    
+    /**
+     * Prend en compte un timer qui vient d'être persisté ; il est chargé en mémoire au commit
+     * s'il échoit dans la fenêtre proche, sinon lors d'un prochain rechargement
+     * @param timer Timer sauvegardé
+     */
+    void schedule(Timer timer);
+    
+    /**
+     * Retire un timer annulé de la mémoire
+     * @param timerId ID du timer
+     */
+    void cancel(Long timerId);
+}
@@ -4,10 +4,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.harmony.harmoniservices.core.domain.commands.CompleteRequest;
+import com.harmony.harmoniservices.core.domain.commands.CompletionResult;
+import com.harmony.harmoniservices.core.domain.commands.StartRequest;
+import com.harmony.harmoniservices.core.domain.commands.TaskPage;
 import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
 import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
 import com.harmony.harmoniservices.core.domain.entities.TaskConfiguration;
 import com.harmony.harmoniservices.core.domain.entities.User;
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
 
 /**
  * Service pour l'automatisation des processus BPMN
@@ -24,6 +31,15 @@ public interface ProcessAutomationService {
      */
     ProcessInstance startProcess(String processId, User initiator, Map<String, Object> variables, String businessKey);
     
+    /**
+     * Démarre un lot d'instances d'un même processus
+     * @param processId ID du processus BPMN
+     * @param initiator Utilisateur qui démarre les instances
+     * @param requests Demandes de démarrage (clé métier et variables de chaque instance)
+     * @return IDs des instances créées, dans l'ordre des demandes
+     */
+    List<Long> startProcesses(String processId, User initiator, List<StartRequest> requests);
+    
     /**
      * Complète une tâche dans une instance de processus
      * @param processInstanceId ID de l'instance de processus
@@ -35,18 +51,50 @@ public interface ProcessAutomationService {
     ProcessInstance completeTask(Long processInstanceId, String taskId, User user, Map<String, Object> variables);
     
     /**
-     * Récupère les tâches assignées à un utilisateur
+     * Complète un lot de tâches, chacune dans son instance de processus
+     * @param user Utilisateur qui complète les tâches
+     * @param requests Tâches à compléter (instance, tâche et variables de sortie)
+     * @return Résultat de chaque demande, dans l'ordre des demandes ; une demande en échec porte sa cause
+     *         et le nombre de tentatives effectuées
+     */
+    List<CompletionResult> completeTasks(User user, List<CompleteRequest> requests);
+    
+    /**
+     * Termine un travail asynchrone et fait avancer l'instance au-delà de sa tâche.
+     * Le résultat est ignoré si le bail du travail n'est plus détenu par le nœud qui l'a exécuté.
+     * @param jobId ID du travail
+     * @param lockOwner Nœud qui a exécuté le travail
+     * @param variables Variables de sortie du travail
+     */
+    void completeJob(Long jobId, String lockOwner, Map<String, Object> variables);
+    
+    /**
+     * Déclenche un lot de timers échus dans une seule transaction : instances chargées et
+     * sauvegardées une fois pour tout le lot. Un timer, même cyclique, se termine avec l'attente du
+     * chemin qu'il réveille. Les timers des instances suspendues restent en attente. Si le lot échoue, chaque timer est rejoué dans sa propre transaction ;
+     * un timer en échec est repoussé.
+     * @param timerIds IDs des timers échus
+     * @return Nombre de timers déclenchés
+     */
+    int fireTimers(List<Long> timerIds);
+    
+    /**
+     * Récupère une page des tâches assignées à un utilisateur
      * @param userId ID de l'utilisateur
-     * @return Liste des instances de processus avec des tâches assignées à l'utilisateur
+     * @param after Curseur renvoyé par la page précédente (null pour la première page)
+     * @param size Taille de la page
+     * @return Page de résumés de tâches et curseur de la page suivante
      */
-    List<ProcessInstance> getUserTasks(Long userId);
+    TaskPage getUserTasks(Long userId, Long after, int size);
     
     /**
-     * Récupère les tâches disponibles pour un groupe
+     * Récupère une page des tâches disponibles pour un groupe
      * @param groupId ID du groupe
-     * @return Liste des instances de processus avec des tâches disponibles pour le groupe
+     * @param after Curseur renvoyé par la page précédente (null pour la première page)
+     * @param size Taille de la page
+     * @return Page de résumés de tâches et curseur de la page suivante
      */
-    List<ProcessInstance> getGroupTasks(Long groupId);
+    TaskPage getGroupTasks(Long groupId, Long after, int size);
     
     /**
      * Récupère une instance de processus
@@ -55,6 +103,15 @@ public interface ProcessAutomationService {
      */
     Optional<ProcessInstance> getProcessInstance(Long processInstanceId);
     
+    /**
+     * Récupère une page de l'historique d'exécution d'une instance de processus
+     * @param processInstanceId ID de l'instance de processus
+     * @param page Numéro de page (à partir de 0)
+     * @param size Taille de la page
+     * @return Exécutions de la page, par ordre chronologique
+     */
+    List<ProcessExecution> getExecutionHistory(Long processInstanceId, int page, int size);
+    
     /**
      * Récupère les instances actives d'un processus
      * @param processId ID du processus BPMN
@@ -111,9 +168,28 @@ public interface ProcessAutomationService {
      * Déploie un nouveau processus BPMN
      * @param processDefinition Définition du processus BPMN (XML)
      * @param name Nom du processus
+     * @param historyLevel Niveau d'historique du déploiement (null : niveau global du moteur)
      * @return Processus déployé
      */
-    BpmnProcess deployProcess(String processDefinition, String name);
+    BpmnProcess deployProcess(String processDefinition, String name, HistoryLevel historyLevel);
+    
+    /**
+     * Déploie une table de décision ; elle est compilée et indexée au déploiement
+     * et remplace une table existante de même clé
+     * @param table Définition de la table
+     * @return Table déployée
+     * @throws IllegalArgumentException si la définition est invalide
+     */
+    DecisionTable deployDecision(DecisionTable table);
+    
+    /**
+     * Évalue une table de décision déployée
+     * @param decisionKey Clé de la décision
+     * @param variables Variables d'entrée
+     * @return Variables produites par la décision
+     * @throws IllegalArgumentException si aucune table n'est déployée sous cette clé
+     */
+    Map<String, Object> evaluateDecision(String decisionKey, Map<String, Object> variables);
     
     /**
      * Déclenche un événement dans une instance de processus
@@ -0,0 +1,25 @@
+package com.harmony.harmoniservices.core.ports.repository;
+
+import java.util.Optional;
+
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+
+/**
+ * Repository des tables de décision
+ */
+public interface DecisionTableRepository {
+    
+    /**
+     * Sauvegarde une table de décision
+     * @param table Table à sauvegarder
+     * @return Table sauvegardée
+     */
+    DecisionTable save(DecisionTable table);
+    
+    /**
+     * Trouve une table par sa clé
+     * @param decisionKey Clé de la décision
+     * @return Table si trouvée, sinon empty
+     */
+    Optional<DecisionTable> findByDecisionKey(String decisionKey);
+}
@@ -0,0 +1,75 @@
+package com.harmony.harmoniservices.core.ports.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.harmony.harmoniservices.core.domain.entities.ExecutionToken;
+
+/**
+ * Repository pour les jetons d'exécution des instances de processus
+ */
+public interface ExecutionTokenRepository {
+    
+    /**
+     * Sauvegarde un ensemble de jetons
+     * @param tokens Jetons à sauvegarder
+     * @return Jetons sauvegardés
+     */
+    List<ExecutionToken> saveAll(List<ExecutionToken> tokens);
+    
+    /**
+     * Trouve les jetons actifs d'une instance de processus
+     * @param processInstanceId ID de l'instance de processus
+     * @return Liste des jetons actifs, par ordre de création
+     */
+    List<ExecutionToken> findActiveByProcessInstanceId(Long processInstanceId);
+    
+    /**
+     * Trouve et verrouille (verrou pessimiste de ligne) le jeton actif positionné sur un élément.
+     * Deux branches parallèles d'une même instance peuvent ainsi être complétées en même temps.
+     * @param processInstanceId ID de l'instance de processus
+     * @param elementId ID de l'élément BPMN
+     * @return Jeton verrouillé si trouvé, sinon empty
+     */
+    Optional<ExecutionToken> lockActiveToken(Long processInstanceId, String elementId);
+    
+    /**
+     * Indique si une instance possède au moins un jeton actif
+     * @param processInstanceId ID de l'instance de processus
+     * @return true si un jeton actif existe
+     */
+    boolean existsActiveToken(Long processInstanceId);
+    
+    /**
+     * Termine tous les jetons actifs d'une instance
+     * @param processInstanceId ID de l'instance de processus
+     */
+    void completeAll(Long processInstanceId);
+    
+    /**
+     * Incrémente atomiquement le compteur d'arrivées d'une passerelle convergente.
+     * La ligne du compteur reste verrouillée jusqu'à la fin de la transaction, ce qui
+     * sérialise les arrivées concurrentes sur une même jointure.
+     * @param processInstanceId ID de l'instance de processus
+     * @param gatewayId ID de la passerelle
+     * @return Nombre de jetons arrivés, y compris celui-ci
+     */
+    int incrementJoinCounter(Long processInstanceId, String gatewayId);
+    
+    /**
+     * Ajoute des arrivées au compteur d'une passerelle convergente (arrivées comptées en mémoire
+     * pendant le démarrage d'une instance, avant que son ID ne soit connu)
+     * @param processInstanceId ID de l'instance de processus
+     * @param gatewayId ID de la passerelle
+     * @param arrivals Nombre d'arrivées à ajouter
+     * @return Nombre de jetons arrivés
+     */
+    int addJoinArrivals(Long processInstanceId, String gatewayId, int arrivals);
+    
+    /**
+     * Remet à zéro le compteur d'une passerelle convergente une fois la jointure déclenchée
+     * @param processInstanceId ID de l'instance de processus
+     * @param gatewayId ID de la passerelle
+     */
+    void resetJoinCounter(Long processInstanceId, String gatewayId);
+}
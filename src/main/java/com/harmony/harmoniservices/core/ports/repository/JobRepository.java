@@ -0,0 +1,56 @@
+package com.harmony.harmoniservices.core.ports.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.harmony.harmoniservices.core.domain.entities.Job;
+
+/**
+ * Repository pour les travaux asynchrones
+ */
+public interface JobRepository {
+    
+    /**
+     * Sauvegarde un travail
+     * @param job Travail à sauvegarder
+     * @return Travail sauvegardé
+     */
+    Job save(Job job);
+    
+    /**
+     * Sauvegarde un ensemble de travaux
+     * @param jobs Travaux à sauvegarder
+     * @return Travaux sauvegardés
+     */
+    List<Job> saveAll(List<Job> jobs);
+    
+    /**
+     * Trouve un travail par son ID
+     * @param id ID du travail
+     * @return Travail si trouvé, sinon empty
+     */
+    Optional<Job> findById(Long id);
+    
+    /**
+     * Acquiert des travaux échus et les passe au statut RUNNING sous un bail.
+     * Les lignes déjà verrouillées par un autre exécuteur sont ignorées (SKIP LOCKED) :
+     * plusieurs nœuds peuvent interroger la table sans se bloquer ni exécuter deux fois un travail.
+     * Un travail RUNNING dont le bail a expiré est acquis de nouveau.
+     * Doit être appelée dans une transaction.
+     * @param owner Nœud qui prend le bail
+     * @param now Date de référence pour l'échéance
+     * @param leaseExpiresAt Fin du bail
+     * @param limit Nombre maximal de travaux à acquérir
+     * @return Travaux acquis
+     */
+    List<Job> acquireDueJobs(String owner, LocalDateTime now, LocalDateTime leaseExpiresAt, int limit);
+    
+    /**
+     * Annule les travaux en attente ou en cours d'une instance ; le résultat d'un travail
+     * déjà en cours d'exécution sera ignoré à son achèvement
+     * @param processInstanceId ID de l'instance de processus
+     * @return Nombre de travaux annulés
+     */
+    int cancelByProcessInstanceId(Long processInstanceId);
+}
@@ -17,6 +17,13 @@ public interface ProcessExecutionRepository {
      */
     ProcessExecution save(ProcessExecution processExecution);
     
+    /**
+     * Sauvegarde un lot d'exécutions en une seule opération
+     * @param processExecutions Exécutions à sauvegarder
+     * @return Exécutions sauvegardées
+     */
+    List<ProcessExecution> saveAll(List<ProcessExecution> processExecutions);
+    
     /**
      * Trouve une exécution par son ID
      * @param id ID de l'exécution
@@ -30,4 +37,13 @@ public interface ProcessExecutionRepository {
      * @return Liste des exécutions
      */
     List<ProcessExecution> findByProcessInstanceId(Long processInstanceId);
+    
+    /**
+     * Trouve une page des exécutions d'une instance de processus, par ordre chronologique
+     * @param processInstanceId ID de l'instance de processus
+     * @param page Numéro de page (à partir de 0)
+     * @param size Taille de la page
+     * @return Exécutions de la page
+     */
+    List<ProcessExecution> findByProcessInstanceId(Long processInstanceId, int page, int size);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.harmony.harmoniservices.core.ports.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,13 @@ public interface ProcessInstanceRepository {
      */
     ProcessInstance save(ProcessInstance processInstance);
     
+    /**
+     * Sauvegarde un lot d'instances de processus en une seule opération
+     * @param processInstances Instances à sauvegarder
+     * @return Instances sauvegardées, dans le même ordre
+     */
+    List<ProcessInstance> saveAll(List<ProcessInstance> processInstances);
+    
     /**
      * Trouve une instance de processus par son ID
      * @param id ID de l'instance
@@ -25,23 +33,22 @@ public interface ProcessInstanceRepository {
     Optional<ProcessInstance> findById(Long id);
     
     /**
-     * Trouve toutes les instances de processus actives pour un processus donné
-     * @param processId ID du processus
-     * @return Liste des instances actives
+     * Trouve des instances de processus par une liste d'IDs
+     * @param ids IDs des instances
+     * @return Instances trouvées (les IDs inconnus sont ignorés)
      */
-    List<ProcessInstance> findActiveInstancesByProcessId(String processId);
+    List<ProcessInstance> findAllById(Collection<Long> ids);
     
     /**
-     * Trouve toutes les instances de processus actives avec des tâches assignées à un utilisateur
-     * @param userId ID de l'utilisateur
-     * @return Liste des instances avec des tâches pour l'utilisateur
+     * Oublie les copies en mémoire des instances : leur prochaine lecture relit la base
+     * @param ids IDs des instances
      */
-    List<ProcessInstance> findActiveInstancesWithUserTasks(Long userId);
+    void evictAll(Collection<Long> ids);
     
     /**
-     * Trouve toutes les instances de processus actives avec des tâches disponibles pour un groupe
-     * @param groupId ID du groupe
-     * @return Liste des instances avec des tâches pour le groupe
+     * Trouve toutes les instances de processus actives pour un processus donné
+     * @param processId ID du processus
+     * @return Liste des instances actives
      */
-    List<ProcessInstance> findActiveInstancesWithGroupTasks(Long groupId);
+    List<ProcessInstance> findActiveInstancesByProcessId(String processId);
 } 
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.harmony.harmoniservices.core.ports.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.harmony.harmoniservices.core.domain.commands.TaskSummary;
+import com.harmony.harmoniservices.core.domain.entities.TaskAssignment;
+
+/**
+ * Repository de la liste de travail (tâches en attente par utilisateur et par groupe)
+ */
+public interface TaskAssignmentRepository {
+    
+    /**
+     * Sauvegarde un lot d'entrées en une seule opération
+     * @param assignments Entrées à sauvegarder
+     */
+    void saveAll(List<TaskAssignment> assignments);
+    
+    /**
+     * Lit une page des tâches en attente assignées à un utilisateur, dans l'ordre de mise en attente
+     * @param userId ID de l'utilisateur
+     * @param after Curseur : ID de la dernière entrée déjà lue (null pour la première page)
+     * @param limit Nombre maximal d'entrées
+     * @return Résumés des tâches (instances suspendues exclues)
+     */
+    List<TaskSummary> findUserTasks(Long userId, Long after, int limit);
+    
+    /**
+     * Lit une page des tâches en attente ouvertes à un groupe, dans l'ordre de mise en attente
+     * @param groupId ID du groupe
+     * @param after Curseur : ID de la dernière entrée déjà lue (null pour la première page)
+     * @param limit Nombre maximal d'entrées
+     * @return Résumés des tâches (instances suspendues exclues)
+     */
+    List<TaskSummary> findGroupTasks(Long groupId, Long after, int limit);
+    
+    /**
+     * Supprime les entrées des jetons qui ont quitté leur tâche
+     * @param processInstanceId ID de l'instance de processus
+     * @param tokenIds IDs des jetons
+     */
+    void deleteByTokenIds(Long processInstanceId, Collection<Long> tokenIds);
+    
+    /**
+     * Supprime toutes les entrées d'une instance (instance terminée)
+     * @param processInstanceId ID de l'instance de processus
+     */
+    void deleteByProcessInstanceId(Long processInstanceId);
+    
+    /**
+     * Masque ou rétablit les entrées d'une instance suspendue ou reprise
+     * @param processInstanceId ID de l'instance de processus
+     * @param suspended true si l'instance est suspendue
+     */
+    void setSuspended(Long processInstanceId, boolean suspended);
+    
+    /**
+     * Recalcule les entrées d'une tâche après modification de sa configuration
+     * @param taskId ID de la tâche BPMN
+     */
+    void rebuildForTask(String taskId);
+}
@@ -0,0 +1,112 @@
+package com.harmony.harmoniservices.core.ports.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.harmony.harmoniservices.core.domain.entities.Timer;
+
+/**
+ * Repository des timers BPMN
+ */
+public interface TimerRepository {
+    
+    /**
+     * Sauvegarde un timer
+     * @param timer Timer à sauvegarder
+     * @return Timer sauvegardé
+     */
+    Timer save(Timer timer);
+    
+    /**
+     * Sauvegarde un ensemble de timers
+     * @param timers Timers à sauvegarder
+     * @return Timers sauvegardés
+     */
+    List<Timer> saveAll(List<Timer> timers);
+    
+    /**
+     * Prend le bail d'une page de timers en attente échus avant un horizon, dans l'ordre (échéance, ID).
+     * Seuls les timers sans bail, au bail expiré ou déjà détenus par le nœud sont retenus ; les lignes
+     * verrouillées par un autre nœud sont ignorées (SKIP LOCKED), comme les timers des instances
+     * suspendues, repris après la reprise de l'instance. La pagination par curseur suit
+     * l'index des échéances, sans décalage. Chaque page est prise dans sa propre transaction.
+     * @param owner Nœud qui prend le bail
+     * @param now Date de référence pour l'expiration des baux
+     * @param horizon Échéance maximale (exclue)
+     * @param leaseExpiresAt Fin du bail
+     * @param afterDueDate Échéance du dernier timer de la page précédente
+     * @param afterId ID du dernier timer de la page précédente
+     * @param limit Taille de la page
+     * @return Timers dont le nœud détient le bail
+     */
+    List<Timer> leasePending(String owner, LocalDateTime now, LocalDateTime horizon, LocalDateTime leaseExpiresAt,
+            LocalDateTime afterDueDate, long afterId, int limit);
+    
+    /**
+     * Prend le bail d'un timer en attente (timer créé par le nœud dans sa fenêtre chargée)
+     * @param id ID du timer
+     * @param owner Nœud qui prend le bail
+     * @param leaseExpiresAt Fin du bail
+     * @return true si le timer était en attente
+     */
+    boolean lease(Long id, String owner, LocalDateTime leaseExpiresAt);
+    
+    /**
+     * Prolonge les baux des timers en attente détenus par un nœud
+     * @param owner Nœud
+     * @param leaseExpiresAt Nouvelle fin des baux
+     * @return Nombre de baux prolongés
+     */
+    int renewLeases(String owner, LocalDateTime leaseExpiresAt);
+    
+    /**
+     * Libère les baux des timers en attente détenus par un nœud (arrêt du nœud)
+     * @param owner Nœud
+     * @return Nombre de baux libérés
+     */
+    int releaseLeases(String owner);
+    
+    /**
+     * Verrouille les timers en attente et échus parmi un lot.
+     * Les timers déjà verrouillés par une autre transaction sont ignorés (SKIP LOCKED) : si plusieurs
+     * nœuds ont chargé le même timer, un seul le déclenche, et une seule fois. Un timer repoussé après
+     * un échec n'est plus échu. Doit être appelée dans une transaction.
+     * @param ids IDs des timers
+     * @param now Date de référence pour l'échéance
+     * @return Timers verrouillés
+     */
+    List<Timer> lockDue(Collection<Long> ids, LocalDateTime now);
+    
+    /**
+     * Repousse l'échéance d'un timer en attente (nouvelle tentative après un échec)
+     * @param id ID du timer
+     * @param dueDate Nouvelle échéance
+     */
+    void reschedule(Long id, LocalDateTime dueDate);
+    
+    /**
+     * Annule un timer en attente
+     * @param id ID du timer
+     * @return true si le timer était en attente
+     */
+    boolean cancel(Long id);
+    
+    /**
+     * Annule les timers en attente d'une instance ; ceux déjà chargés en mémoire
+     * ne seront plus déclenchés, {@link #lockDue} les ignorant
+     * @param processInstanceId ID de l'instance de processus
+     * @return Nombre de timers annulés
+     */
+    int cancelByProcessInstanceId(Long processInstanceId);
+    
+    /**
+     * Trouve le dernier timer non annulé d'un élément dans une instance : occurrence précédente
+     * d'un cycle lorsqu'un chemin revient attendre sur l'élément
+     * @param processInstanceId ID de l'instance de processus
+     * @param elementId ID de l'événement BPMN
+     * @return Dernier timer programmé, sinon empty
+     */
+    Optional<Timer> findLatest(Long processInstanceId, String elementId);
+}
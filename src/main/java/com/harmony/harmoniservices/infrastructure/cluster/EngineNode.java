@@ -0,0 +1,40 @@
+package com.harmony.harmoniservices.infrastructure.cluster;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Identité du nœud dans un déploiement à plusieurs répliques.
+ * Sert de propriétaire des baux posés sur les travaux et les timers : un bail expiré
+ * (nœud arrêté ou bloqué) peut être repris par n'importe quel autre nœud.
+ */
+@Component
+@Slf4j
+@Getter
+public class EngineNode {
+
+    private final String id;
+
+    public EngineNode(@Value("${harmony.engine.node-id:}") String nodeId) {
+        // Sans identifiant configuré : hôte, processus et suffixe aléatoire, unique à chaque démarrage
+        this.id = nodeId != null && !nodeId.isBlank()
+                ? nodeId
+                : hostName() + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        log.info("Nœud du moteur: {}", id);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -5,7 +5,6 @@ import java.util.List;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.harmony.harmoniservices.core.domain.events.SignalEvent;
 import com.harmony.harmoniservices.core.domain.events.SignalSubscription;
@@ -32,7 +31,6 @@ public class SignalEventListener {
      */
     @EventListener
     @Async
-    @Transactional
     public void handleSignalEvent(SignalEvent event) {
         log.info("Réception d'un événement de signal: {} (id: {})", event.getSignalName(), event.getId());
         
@@ -57,6 +55,7 @@ public class SignalEventListener {
             }
             
             try {
+                // Chaque déclenchement a sa propre transaction : un échec n'annule pas les autres souscriptions
                 // Déclencher l'événement dans l'instance de processus
                 log.debug("Déclenchement de l'événement {} dans l'instance {}", 
                         subscription.getEventId(), subscription.getProcessInstanceId());
@@ -0,0 +1,183 @@
+package com.harmony.harmoniservices.infrastructure.history;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintenance des partitions mensuelles de process_executions.
+ * Crée à l'avance les partitions des mois à venir, puis détache les partitions plus anciennes
+ * que la rétention, les archive en CSV compressé sur le disque local et les supprime.
+ */
+@Component
+@Slf4j
+public class HistoryPartitionMaintenance {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("process_executions_y(\\d{4})m(\\d{2})");
+
+    private static final String LIST_PARTITIONS =
+            "SELECT t.tablename, EXISTS (SELECT 1 FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE c.relname = t.tablename AND p.relname = 'process_executions') AS attached "
+            + "FROM pg_tables t WHERE t.tablename ~ '^process_executions_y[0-9]{4}m[0-9]{2}$'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Path archiveDirectory;
+
+    public HistoryPartitionMaintenance(JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            @Value("${harmony.engine.history.partitions.enabled:true}") boolean enabled,
+            @Value("${harmony.engine.history.partitions.months-ahead:2}") int monthsAhead,
+            @Value("${harmony.engine.history.partitions.retention-months:12}") int retentionMonths,
+            @Value("${harmony.engine.history.partitions.archive-dir:archive/history}") String archiveDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Lecture par curseur pour exporter une partition sans la charger en mémoire
+        this.exportTemplate = new JdbcTemplate(dataSource);
+        this.exportTemplate.setFetchSize(1000);
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveDirectory = Paths.get(archiveDirectory);
+    }
+
+    @Scheduled(cron = "${harmony.engine.history.partitions.cron:0 30 2 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.execute("SELECT ensure_process_executions_partitions(" + monthsAhead + ")");
+
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+        List<Partition> partitions = jdbcTemplate.query(LIST_PARTITIONS,
+                (rs, rowNum) -> new Partition(rs.getString("tablename"), rs.getBoolean("attached")));
+        for (Partition partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition.name());
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                archive(partition);
+            } catch (RuntimeException e) {
+                // Une partition détachée mais non archivée est reprise au passage suivant
+                log.error("Erreur lors de l'archivage de la partition {}", partition.name(), e);
+            }
+        }
+    }
+
+    // Méthodes utilitaires privées
+
+    private void archive(Partition partition) {
+        // Le nom a été validé par l'expression régulière : il peut être concaténé sans risque
+        if (partition.attached()) {
+            jdbcTemplate.execute("ALTER TABLE process_executions DETACH PARTITION " + partition.name());
+            log.info("Partition {} détachée de process_executions", partition.name());
+        }
+
+        Path target = archiveDirectory.resolve(partition.name() + "_" + LocalDate.now() + ".csv.gz");
+        Path temporary = null;
+        try {
+            Files.createDirectories(archiveDirectory);
+            temporary = Files.createTempFile(archiveDirectory, partition.name(), ".tmp");
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8))) {
+                export(partition.name(), writer);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archivage impossible vers " + target, e);
+        } finally {
+            // Export interrompu : le fichier partiel ne doit pas rester dans le répertoire d'archives
+            deleteQuietly(temporary);
+        }
+
+        jdbcTemplate.execute("DROP TABLE " + partition.name());
+        log.info("Partition {} archivée dans {} puis supprimée", partition.name(), target);
+    }
+
+    private void export(String table, Writer writer) {
+        // En-tête tiré des métadonnées avant la première ligne : une partition vide garde ses colonnes
+        ResultSetExtractor<Void> csvExport = rs -> {
+            try {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columns = metaData.getColumnCount();
+                for (int c = 1; c <= columns; c++) {
+                    writer.write(c > 1 ? "," : "");
+                    writer.write(metaData.getColumnName(c));
+                }
+                writer.write('\n');
+                while (rs.next()) {
+                    for (int c = 1; c <= columns; c++) {
+                        writer.write(c > 1 ? "," : "");
+                        writer.write(csv(rs.getString(c)));
+                    }
+                    writer.write('\n');
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        transactionTemplate.executeWithoutResult(status -> exportTemplate.query("SELECT * FROM " + table + " ORDER BY id", csvExport));
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Impossible de supprimer le fichier temporaire {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private record Partition(String name, boolean attached) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.harmony.harmoniservices.infrastructure.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
+import com.harmony.harmoniservices.core.domain.services.HistoryWriter;
+import com.harmony.harmoniservices.core.ports.repository.ProcessExecutionRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Écrivain de l'historique d'exécution.
+ * En mode {@code async}, les entrées sont placées dans une file bornée après le commit de la
+ * transaction du moteur, puis insérées par lots JDBC dans leur propre transaction par un thread
+ * dédié : la table d'historique sort du chemin critique de chaque étape. Si la file est pleine,
+ * l'appelant écrit lui-même le lot (de la latence plutôt qu'un rejet).
+ * Ce mode garantit une écriture au plus une fois : un lot en échec est repris ligne par ligne pour
+ * isoler l'entrée fautive, et les entrées qui échouent encore sont abandonnées et comptées
+ * ({@code harmony.history.dropped}) ; la file en mémoire est perdue si le nœud s'arrête brutalement.
+ * En mode {@code sync}, l'historique est écrit dans la transaction du moteur et partage son commit.
+ */
+@Component
+@Slf4j
+public class HistoryWriterImpl implements HistoryWriter {
+
+    private final ProcessExecutionRepository processExecutionRepository;
+    private final TransactionTemplate writeTransaction;
+    private final Counter dropped;
+
+    private final boolean async;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<ProcessExecution> queue;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public HistoryWriterImpl(ProcessExecutionRepository processExecutionRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${harmony.engine.history.mode:async}") String mode,
+            @Value("${harmony.engine.history.queue-capacity:10000}") int queueCapacity,
+            @Value("${harmony.engine.history.batch-size:500}") int batchSize,
+            @Value("${harmony.engine.history.flush-interval-ms:200}") long flushIntervalMs) {
+        if (!"async".equalsIgnoreCase(mode) && !"sync".equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("Mode d'écriture de l'historique inconnu: " + mode);
+        }
+        this.processExecutionRepository = processExecutionRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dropped = Counter.builder("harmony.history.dropped")
+                .description("Entrées d'historique abandonnées après un échec d'écriture")
+                .register(meterRegistry);
+        this.async = "async".equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "history-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        // Vider ce qui reste dans la file avant l'arrêt
+        flush();
+    }
+
+    @Override
+    public void write(List<ProcessExecution> executions) {
+        if (executions.isEmpty()) {
+            return;
+        }
+        if (!async) {
+            processExecutionRepository.saveAll(executions);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Une étape annulée ne doit laisser aucune trace dans l'historique
+            List<ProcessExecution> pending = new ArrayList<>(executions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pending);
+                }
+            });
+        } else {
+            enqueue(executions);
+        }
+    }
+
+    // Méthodes utilitaires privées
+
+    private void enqueue(List<ProcessExecution> executions) {
+        List<ProcessExecution> overflow = null;
+        for (ProcessExecution execution : executions) {
+            if (!queue.offer(execution)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(execution);
+            }
+        }
+        if (overflow != null) {
+            log.warn("File d'historique pleine, écriture directe de {} entrée(s)", overflow.size());
+            writeBatch(overflow);
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                ProcessExecution first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<ProcessExecution> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush() {
+        List<ProcessExecution> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void writeBatch(List<ProcessExecution> batch) {
+        try {
+            writeTransaction.executeWithoutResult(status -> processExecutionRepository.saveAll(batch));
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                drop(batch.get(0), e);
+                return;
+            }
+            // Lot annulé en entier : reprise ligne par ligne, seule l'entrée fautive est abandonnée
+            log.warn("Échec de l'écriture de {} entrée(s) d'historique ({}), reprise ligne par ligne",
+                    batch.size(), e.getMessage());
+            for (ProcessExecution execution : batch) {
+                try {
+                    writeTransaction.executeWithoutResult(status -> processExecutionRepository.saveAll(List.of(execution)));
+                } catch (Exception rowError) {
+                    drop(execution, rowError);
+                }
+            }
+        }
+    }
+
+    private void drop(ProcessExecution execution, Exception e) {
+        dropped.increment();
+        log.error("Entrée d'historique abandonnée: instance {}, tâche {}", execution.getProcessInstanceId(),
+                execution.getTaskId(), e);
+    }
+}
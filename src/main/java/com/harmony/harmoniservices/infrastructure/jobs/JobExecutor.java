@@ -0,0 +1,183 @@
+package com.harmony.harmoniservices.infrastructure.jobs;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.harmony.harmoniservices.core.cases.TaskDelegateRegistry;
+import com.harmony.harmoniservices.core.domain.entities.Job;
+import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
+import com.harmony.harmoniservices.core.domain.entities.Task;
+import com.harmony.harmoniservices.core.domain.graph.ProcessGraph;
+import com.harmony.harmoniservices.core.domain.services.ProcessGraphCache;
+import com.harmony.harmoniservices.core.domain.services.TaskDelegate;
+import com.harmony.harmoniservices.core.ports.cases.ProcessAutomationService;
+import com.harmony.harmoniservices.core.ports.repository.JobRepository;
+import com.harmony.harmoniservices.core.ports.repository.ProcessInstanceRepository;
+import com.harmony.harmoniservices.infrastructure.cluster.EngineNode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exécuteur des travaux asynchrones (tâches de service et de script).
+ * Interroge périodiquement la table des travaux, acquiert les travaux échus sans bloquer
+ * les autres nœuds (SKIP LOCKED) et les exécute sur un pool borné, hors transaction.
+ * Le résultat est ensuite appliqué à l'instance dans sa propre transaction.
+ * Chaque travail acquis porte un bail au nom du nœud : si le nœud s'arrête pendant l'exécution,
+ * le travail est repris par un autre nœud à l'expiration du bail. La durée du bail doit donc
+ * dépasser celle du plus long travail.
+ */
+@Component
+@Slf4j
+public class JobExecutor {
+
+    private final JobRepository jobRepository;
+    private final ProcessInstanceRepository processInstanceRepository;
+    private final ProcessGraphCache processGraphCache;
+    private final TaskDelegateRegistry taskDelegates;
+    private final ProcessAutomationService processAutomationService;
+    private final TransactionTemplate transactionTemplate;
+    private final EngineNode node;
+
+    private final boolean enabled;
+    private final int concurrency;
+    private final long retryDelaySeconds;
+    private final long leaseSeconds;
+    private final ExecutorService workers;
+    private final AtomicInteger running = new AtomicInteger();
+
+    public JobExecutor(JobRepository jobRepository,
+            ProcessInstanceRepository processInstanceRepository,
+            ProcessGraphCache processGraphCache,
+            TaskDelegateRegistry taskDelegates,
+            ProcessAutomationService processAutomationService,
+            TransactionTemplate transactionTemplate,
+            EngineNode node,
+            @Value("${harmony.engine.jobs.enabled:true}") boolean enabled,
+            @Value("${harmony.engine.jobs.concurrency:8}") int concurrency,
+            @Value("${harmony.engine.jobs.retry-delay-seconds:30}") long retryDelaySeconds,
+            @Value("${harmony.engine.jobs.lease-seconds:300}") long leaseSeconds) {
+        this.jobRepository = jobRepository;
+        this.processInstanceRepository = processInstanceRepository;
+        this.processGraphCache = processGraphCache;
+        this.taskDelegates = taskDelegates;
+        this.processAutomationService = processAutomationService;
+        this.transactionTemplate = transactionTemplate;
+        this.node = node;
+        this.enabled = enabled;
+        this.concurrency = concurrency;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.leaseSeconds = leaseSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "job-executor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${harmony.engine.jobs.poll-interval-ms:1000}")
+    public void acquireAndExecute() {
+        if (!enabled) {
+            return;
+        }
+
+        // N'acquérir que ce que le pool peut exécuter immédiatement
+        int available = concurrency - running.get();
+        if (available <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> jobs = transactionTemplate.execute(status ->
+                jobRepository.acquireDueJobs(node.getId(), now, now.plusSeconds(leaseSeconds), available));
+        if (jobs == null || jobs.isEmpty()) {
+            return;
+        }
+
+        log.debug("{} travail(aux) acquis", jobs.size());
+        for (Job job : jobs) {
+            running.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    execute(job);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void execute(Job job) {
+        try {
+            ProcessInstance instance = processInstanceRepository.findById(job.getProcessInstanceId())
+                    .orElseThrow(() -> new IllegalStateException("Instance de processus non trouvée: " + job.getProcessInstanceId()));
+            ProcessGraph graph = processGraphCache.get(instance.getProcess());
+            int taskIndex = graph.indexOf(job.getElementId());
+            Task task = taskIndex != ProcessGraph.NO_NODE ? graph.task(taskIndex) : null;
+            TaskDelegate delegate = taskDelegates.find(task)
+                    .orElseThrow(() -> new IllegalStateException("Aucun délégué pour la tâche " + job.getElementId()));
+
+            // Travail métier hors transaction : aucune connexion n'est retenue pendant l'appel
+            Map<String, Object> output = delegate.execute(task, Collections.unmodifiableMap(instance.getProcessVariables()));
+
+            processAutomationService.completeJob(job.getId(), node.getId(), output);
+            log.debug("Travail {} terminé pour la tâche {} de l'instance {}",
+                    job.getId(), job.getElementId(), job.getProcessInstanceId());
+        } catch (Exception e) {
+            log.error("Erreur lors de l'exécution du travail {} (tâche {}): {}",
+                    job.getId(), job.getElementId(), e.getMessage(), e);
+            fail(job, e);
+        }
+    }
+
+    private void fail(Job acquired, Exception e) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Relu avant l'écriture : un autre nœud a pu reprendre le travail après expiration du bail
+            Job job = jobRepository.findById(acquired.getId()).orElse(null);
+            if (job == null || !"RUNNING".equals(job.getStatus()) || !Objects.equals(node.getId(), job.getLockOwner())) {
+                log.warn("Échec du travail {} ignoré: bail détenu par un autre nœud", acquired.getId());
+                return;
+            }
+
+            int retries = job.getRetries() != null ? job.getRetries() - 1 : 0;
+            LocalDateTime now = LocalDateTime.now();
+
+            job.setRetries(retries);
+            job.setErrorMessage(e.getMessage());
+            job.setLockedAt(null);
+            job.setLockOwner(null);
+            job.setLockExpiresAt(null);
+            job.setUpdatedAt(now);
+            if (retries > 0) {
+                job.setStatus("PENDING");
+                job.setDueDate(now.plusSeconds(retryDelaySeconds));
+            } else {
+                job.setStatus("FAILED");
+                log.warn("Travail {} en échec définitif après épuisement des tentatives", job.getId());
+            }
+            jobRepository.save(job);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.harmony.harmoniservices.infrastructure.persistance.blob;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stockage de contenus adressés par leur empreinte SHA-256 sur le système de fichiers local.
+ * Un contenu identique n'est écrit qu'une fois ; les fichiers sont répartis en sous-répertoires
+ * selon les premiers caractères de l'empreinte.
+ */
+@Component
+public class FileSystemBlobStore {
+
+    private final Path root;
+
+    public FileSystemBlobStore(@Value("${harmony.engine.variables.blob-store.directory:data/blobs}") String directory) {
+        this.root = Paths.get(directory);
+    }
+
+    /**
+     * Enregistre un contenu
+     * @param content Contenu
+     * @return Empreinte SHA-256 (hexadécimale) du contenu
+     */
+    public String put(byte[] content) {
+        String hash = sha256(content);
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            return hash;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), hash, ".tmp");
+            Files.write(temporary, content);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Écrit entre-temps par un autre appel : même contenu
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'écriture du contenu " + hash, e);
+        }
+        return hash;
+    }
+
+    /**
+     * Ouvre un contenu en lecture
+     * @param hash Empreinte du contenu
+     * @return Flux de lecture, à fermer par l'appelant
+     */
+    public InputStream open(String hash) {
+        try {
+            return new BufferedInputStream(Files.newInputStream(pathOf(hash)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Contenu introuvable: " + hash, e);
+        }
+    }
+
+    // Méthodes utilitaires privées
+
+    private Path pathOf(String hash) {
+        if (!hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Empreinte invalide: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+}
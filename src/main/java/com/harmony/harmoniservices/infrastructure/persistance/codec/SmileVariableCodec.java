@@ -0,0 +1,124 @@
+package com.harmony.harmoniservices.infrastructure.persistance.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Codec Smile (JSON binaire) des variables de processus.
+ * Un octet de type précède la valeur encodée : les dates et les grands nombres, que JSON
+ * réduit à des chaînes ou des doubles, sont relus avec leur type d'origine.
+ * Les valeurs imbriquées (maps, listes) conservent les types numériques distingués par Smile ;
+ * les dates imbriquées sont écrites en ISO 8601, comme par l'ObjectMapper de l'application.
+ */
+@Component
+public class SmileVariableCodec implements VariableCodec {
+
+    private static final byte GENERIC = 0;
+    private static final byte LOCAL_DATE = 1;
+    private static final byte LOCAL_DATE_TIME = 2;
+    private static final byte OFFSET_DATE_TIME = 3;
+    private static final byte INSTANT = 4;
+    private static final byte BIG_DECIMAL = 5;
+    private static final byte BIG_INTEGER = 6;
+
+    // Mêmes modules que l'ObjectMapper de l'application (java.time, Optional...) et dates au format ISO
+    private final SmileMapper smileMapper = SmileMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Override
+    public byte[] encode(Object value) {
+        if (value instanceof LocalDate) {
+            return tagged(LOCAL_DATE, value.toString());
+        }
+        if (value instanceof LocalDateTime) {
+            return tagged(LOCAL_DATE_TIME, value.toString());
+        }
+        if (value instanceof OffsetDateTime) {
+            return tagged(OFFSET_DATE_TIME, value.toString());
+        }
+        if (value instanceof Instant) {
+            return tagged(INSTANT, value.toString());
+        }
+        if (value instanceof BigDecimal) {
+            return tagged(BIG_DECIMAL, ((BigDecimal) value).toPlainString());
+        }
+        if (value instanceof BigInteger) {
+            return tagged(BIG_INTEGER, value.toString());
+        }
+        return tagged(GENERIC, value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return convert(bytes[0], smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors du décodage d'une variable de processus", e);
+        }
+    }
+
+    @Override
+    public Object decode(InputStream input) {
+        try {
+            int tag = input.read();
+            if (tag < 0) {
+                return null;
+            }
+            return convert((byte) tag, smileMapper.readValue(input, Object.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors du décodage d'une variable de processus", e);
+        }
+    }
+
+    // Méthodes utilitaires privées
+
+    private static Object convert(byte tag, Object payload) {
+        switch (tag) {
+            case GENERIC:
+                return payload;
+            case LOCAL_DATE:
+                return LocalDate.parse((String) payload);
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.parse((String) payload);
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.parse((String) payload);
+            case INSTANT:
+                return Instant.parse((String) payload);
+            case BIG_DECIMAL:
+                return new BigDecimal((String) payload);
+            case BIG_INTEGER:
+                return new BigInteger((String) payload);
+            default:
+                throw new IllegalArgumentException("Type de variable encodée inconnu: " + tag);
+        }
+    }
+
+    private byte[] tagged(byte tag, Object payload) {
+        try {
+            byte[] encoded = smileMapper.writeValueAsBytes(payload);
+            byte[] bytes = new byte[encoded.length + 1];
+            bytes[0] = tag;
+            System.arraycopy(encoded, 0, bytes, 1, encoded.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'encodage d'une variable de processus", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.harmony.harmoniservices.infrastructure.persistance.codec;
+
+import java.io.InputStream;
+
+/**
+ * Encodage binaire d'une variable de processus (colonne process_variables.value_bin)
+ */
+public interface VariableCodec {
+
+    /**
+     * Encode une valeur de variable
+     * @param value Valeur (éventuellement null)
+     * @return Représentation binaire
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Décode une valeur encodée par {@link #encode(Object)}
+     * @param bytes Représentation binaire
+     * @return Valeur, avec son type d'origine
+     */
+    Object decode(byte[] bytes);
+
+    /**
+     * Décode une valeur lue depuis un flux (variables stockées hors de la base)
+     * @param input Flux contenant une valeur encodée par {@link #encode(Object)}
+     * @return Valeur, avec son type d'origine
+     */
+    Object decode(InputStream input);
+}
@@ -0,0 +1,50 @@
+package com.harmony.harmoniservices.infrastructure.persistance.entitites;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.harmony.harmoniservices.core.domain.enums.HitPolicy;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity pour les tables de décision ; entrées, sorties et règles sont stockées en JSON
+ */
+@Entity
+@Table(name = "decision_tables")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class DecisionTableEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "decision_key", nullable = false, unique = true)
+    private String decisionKey;
+    
+    @Column(name = "name")
+    private String name;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "hit_policy", nullable = false, length = 20)
+    private HitPolicy hitPolicy;
+    
+    @Column(name = "definition", nullable = false, columnDefinition = "TEXT")
+    private String definition;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
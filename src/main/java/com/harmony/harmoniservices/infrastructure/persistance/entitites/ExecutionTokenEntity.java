@@ -0,0 +1,48 @@
+package com.harmony.harmoniservices.infrastructure.persistance.entitites;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity pour les jetons d'exécution (un par chemin actif d'une instance)
+ */
+@Entity
+@Table(name = "execution_tokens", indexes = {
+    @Index(name = "idx_execution_tokens_instance_status", columnList = "process_instance_id, status"),
+    @Index(name = "idx_execution_tokens_instance_element", columnList = "process_instance_id, element_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ExecutionTokenEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "execution_tokens_seq")
+    @SequenceGenerator(name = "execution_tokens_seq", sequenceName = "execution_tokens_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "process_instance_id", nullable = false)
+    private Long processInstanceId;
+    
+    @Column(name = "element_id")
+    private String elementId;
+    
+    @Column(name = "status", nullable = false)
+    private String status;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.harmony.harmoniservices.infrastructure.persistance.entitites;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entity pour les compteurs de synchronisation des passerelles convergentes
+ */
+@Entity
+@Table(name = "gateway_join_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_gateway_join_counters", columnNames = {"process_instance_id", "gateway_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GatewayJoinCounterEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "process_instance_id", nullable = false)
+    private Long processInstanceId;
+    
+    @Column(name = "gateway_id", nullable = false)
+    private String gatewayId;
+    
+    @Column(name = "arrived", nullable = false)
+    private Integer arrived;
+}
@@ -0,0 +1,70 @@
+package com.harmony.harmoniservices.infrastructure.persistance.entitites;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity pour les travaux asynchrones
+ */
+@Entity
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_status_due_date", columnList = "status, due_date"),
+    @Index(name = "idx_jobs_status_lock_expires_at", columnList = "status, lock_expires_at"),
+    @Index(name = "idx_jobs_instance", columnList = "process_instance_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class JobEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "process_instance_id", nullable = false)
+    private Long processInstanceId;
+    
+    @Column(name = "element_id", nullable = false)
+    private String elementId;
+    
+    @Column(name = "type", nullable = false)
+    private String type;
+    
+    @Column(name = "status", nullable = false)
+    private String status;
+    
+    @Column(name = "retries")
+    private Integer retries;
+    
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+    
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+    
+    @Column(name = "lock_owner")
+    private String lockOwner;
+    
+    @Column(name = "lock_expires_at")
+    private LocalDateTime lockExpiresAt;
+    
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
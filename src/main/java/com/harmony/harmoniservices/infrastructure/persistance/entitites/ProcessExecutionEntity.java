@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
  * Entity pour les exécutions de tâches dans un processus BPMN
  */
 @Entity
-@Table(name = "process_executions")
+@Table(name = "process_executions", indexes = {
+    @Index(name = "idx_process_executions_instance", columnList = "process_instance_id, start_time, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +23,8 @@ import java.time.LocalDateTime;
 public class ProcessExecutionEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "process_executions_seq")
+    @SequenceGenerator(name = "process_executions_seq", sequenceName = "process_executions_seq", allocationSize = 50)
     private Long id;
     
     // Références
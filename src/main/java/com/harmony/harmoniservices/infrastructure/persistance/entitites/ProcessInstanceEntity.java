@@ -9,7 +9,6 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.harmony.harmoniservices.infrastructure.persistance.entitites.bpmn.BpmnProcess;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Entity pour les instances de processus BPMN
@@ -24,8 +23,10 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class ProcessInstanceEntity {
     
+    // Identifiants pré-alloués par blocs de 50 : les insertions peuvent être regroupées en lots JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "process_instances_seq")
+    @SequenceGenerator(name = "process_instances_seq", sequenceName = "process_instances_seq", allocationSize = 50)
     private Long id;
     
     // Référence au processus BPMN
@@ -46,13 +47,9 @@ public class ProcessInstanceEntity {
     @Column(name = "current_task_id")
     private String currentTaskId;
     
-    // Historique d'exécution
-    @OneToMany(mappedBy = "processInstanceId", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<ProcessExecutionEntity> executionHistory;
+    // L'historique d'exécution (process_executions) est lu page par page, jamais avec l'instance
     
-    // Variables du processus (stockées sous forme JSON)
-    @Column(name = "process_variables", columnDefinition = "TEXT")
-    private String processVariablesJson;
+    // Les variables du processus sont stockées une par ligne dans process_variables
     
     // Informations sur le démarreur
     @ManyToOne
@@ -73,4 +70,9 @@ public class ProcessInstanceEntity {
     @LastModifiedDate
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+    
+    // Verrouillage optimiste : une mise à jour concurrente est rejetée au lieu d'être écrasée
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 } 
\ No newline at end of file
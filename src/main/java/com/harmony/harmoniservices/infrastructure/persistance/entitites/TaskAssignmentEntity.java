@@ -0,0 +1,50 @@
+package com.harmony.harmoniservices.infrastructure.persistance.entitites;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity de la liste de travail dénormalisée (tâches en attente par utilisateur et par groupe).
+ * Les index partiels de lecture sont créés par la migration V9.
+ */
+@Entity
+@Table(name = "task_assignments", indexes = {
+    @Index(name = "idx_task_assignments_token", columnList = "token_id"),
+    @Index(name = "idx_task_assignments_instance", columnList = "process_instance_id"),
+    @Index(name = "idx_task_assignments_task", columnList = "task_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskAssignmentEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_assignments_seq")
+    @SequenceGenerator(name = "task_assignments_seq", sequenceName = "task_assignments_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "token_id")
+    private Long tokenId;
+    
+    @Column(name = "process_instance_id", nullable = false)
+    private Long processInstanceId;
+    
+    @Column(name = "task_id", nullable = false)
+    private String taskId;
+    
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "group_id")
+    private Long groupId;
+    
+    @Column(name = "suspended", nullable = false)
+    private boolean suspended;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
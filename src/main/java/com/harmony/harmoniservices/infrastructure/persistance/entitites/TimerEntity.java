@@ -0,0 +1,57 @@
+package com.harmony.harmoniservices.infrastructure.persistance.entitites;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity des timers BPMN.
+ * L'index partiel des échéances en attente est créé par la migration V12.
+ */
+@Entity
+@Table(name = "timers", indexes = {
+    @Index(name = "idx_timers_instance", columnList = "process_instance_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimerEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timers_seq")
+    @SequenceGenerator(name = "timers_seq", sequenceName = "timers_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "process_instance_id", nullable = false)
+    private Long processInstanceId;
+    
+    @Column(name = "element_id", nullable = false)
+    private String elementId;
+    
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+    
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "cycle")
+    private String cycle;
+    
+    @Column(name = "repeats_remaining")
+    private Integer repeatsRemaining;
+    
+    @Column(name = "lock_owner")
+    private String lockOwner;
+    
+    @Column(name = "lock_expires_at")
+    private LocalDateTime lockExpiresAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
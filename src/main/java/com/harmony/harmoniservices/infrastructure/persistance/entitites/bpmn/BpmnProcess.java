@@ -7,6 +7,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
+
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -29,6 +31,10 @@ public class BpmnProcess {
     @Column(name = "is_executable")
     private Boolean isExecutable;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "history_level", length = 16)
+    private HistoryLevel historyLevel;
+
 
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
@@ -27,6 +27,12 @@ public class Task {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    @Column(name = "decision_ref")
+    private String decisionRef;
+
+    @Column(name = "result_variable")
+    private String resultVariable;
+
     @ManyToOne
     @JoinColumn(name = "process_id", referencedColumnName = "id")
     private BpmnProcess process;
@@ -16,6 +16,7 @@ public class BpmnProcessMapper {
             .id(process.getId())
             .name(process.getName())
             .isExecutable(process.getIsExecutable())
+            .historyLevel(process.getHistoryLevel())
             .description(process.getDescription())
             .keywords(process.getKeywords())
             .imagePaths(process.getImagePaths())
@@ -34,6 +35,7 @@ public class BpmnProcessMapper {
             .id(entity.getId())
             .name(entity.getName())
             .isExecutable(entity.getIsExecutable())
+            .historyLevel(entity.getHistoryLevel())
             .description(entity.getDescription())
             .keywords(entity.getKeywords())
             .imagePaths(entity.getImagePaths())
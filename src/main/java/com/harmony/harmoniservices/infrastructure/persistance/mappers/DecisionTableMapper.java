@@ -0,0 +1,75 @@
+package com.harmony.harmoniservices.infrastructure.persistance.mappers;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.harmony.harmoniservices.core.domain.entities.DecisionRule;
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.DecisionTableEntity;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DecisionTableMapper {
+    
+    private final ObjectMapper objectMapper;
+    
+    public DecisionTableEntity toEntity(DecisionTable table) {
+        if (table == null) {
+            return null;
+        }
+        
+        return DecisionTableEntity.builder()
+            .id(table.getId())
+            .decisionKey(table.getDecisionKey())
+            .name(table.getName())
+            .hitPolicy(table.getHitPolicy())
+            .definition(toJson(new Definition(table.getInputs(), table.getOutputs(), table.getRules())))
+            .createdAt(table.getCreatedAt())
+            .updatedAt(table.getUpdatedAt())
+            .build();
+    }
+    
+    public DecisionTable toDomain(DecisionTableEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        Definition definition = fromJson(entity.getDefinition());
+        return DecisionTable.builder()
+            .id(entity.getId())
+            .decisionKey(entity.getDecisionKey())
+            .name(entity.getName())
+            .hitPolicy(entity.getHitPolicy())
+            .inputs(definition.inputs())
+            .outputs(definition.outputs())
+            .rules(definition.rules())
+            .createdAt(entity.getCreatedAt())
+            .updatedAt(entity.getUpdatedAt())
+            .build();
+    }
+    
+    private String toJson(Definition definition) {
+        try {
+            return objectMapper.writeValueAsString(definition);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Sérialisation impossible de la table de décision", e);
+        }
+    }
+    
+    private Definition fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, Definition.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Définition de table de décision illisible", e);
+        }
+    }
+    
+    // Contenu de la colonne definition
+    private record Definition(List<String> inputs, List<String> outputs, List<DecisionRule> rules) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.harmony.harmoniservices.infrastructure.persistance.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.harmony.harmoniservices.core.domain.entities.ExecutionToken;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.ExecutionTokenEntity;
+
+@Component
+public class ExecutionTokenMapper {
+    
+    public ExecutionTokenEntity toEntity(ExecutionToken token) {
+        if (token == null) {
+            return null;
+        }
+        
+        return ExecutionTokenEntity.builder()
+            .id(token.getId())
+            .processInstanceId(token.getProcessInstanceId())
+            .elementId(token.getElementId())
+            .status(token.getStatus())
+            .createdAt(token.getCreatedAt())
+            .updatedAt(token.getUpdatedAt())
+            .build();
+    }
+    
+    public ExecutionToken toDomain(ExecutionTokenEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        return ExecutionToken.builder()
+            .id(entity.getId())
+            .processInstanceId(entity.getProcessInstanceId())
+            .elementId(entity.getElementId())
+            .status(entity.getStatus())
+            .createdAt(entity.getCreatedAt())
+            .updatedAt(entity.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.harmony.harmoniservices.infrastructure.persistance.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.harmony.harmoniservices.core.domain.entities.Job;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.JobEntity;
+
+@Component
+public class JobMapper {
+    
+    public JobEntity toEntity(Job job) {
+        if (job == null) {
+            return null;
+        }
+        
+        return JobEntity.builder()
+            .id(job.getId())
+            .processInstanceId(job.getProcessInstanceId())
+            .elementId(job.getElementId())
+            .type(job.getType())
+            .status(job.getStatus())
+            .retries(job.getRetries())
+            .dueDate(job.getDueDate())
+            .lockedAt(job.getLockedAt())
+            .lockOwner(job.getLockOwner())
+            .lockExpiresAt(job.getLockExpiresAt())
+            .errorMessage(job.getErrorMessage())
+            .createdAt(job.getCreatedAt())
+            .updatedAt(job.getUpdatedAt())
+            .build();
+    }
+    
+    public Job toDomain(JobEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        return Job.builder()
+            .id(entity.getId())
+            .processInstanceId(entity.getProcessInstanceId())
+            .elementId(entity.getElementId())
+            .type(entity.getType())
+            .status(entity.getStatus())
+            .retries(entity.getRetries())
+            .dueDate(entity.getDueDate())
+            .lockedAt(entity.getLockedAt())
+            .lockOwner(entity.getLockOwner())
+            .lockExpiresAt(entity.getLockExpiresAt())
+            .errorMessage(entity.getErrorMessage())
+            .createdAt(entity.getCreatedAt())
+            .updatedAt(entity.getUpdatedAt())
+            .build();
+    }
+}
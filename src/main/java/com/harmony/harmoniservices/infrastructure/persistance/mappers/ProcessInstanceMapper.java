@@ -1,34 +1,27 @@
 package com.harmony.harmoniservices.infrastructure.persistance.mappers;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
 import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
 import com.harmony.harmoniservices.core.domain.entities.User;
-import com.harmony.harmoniservices.infrastructure.persistance.entitites.ProcessExecutionEntity;
 import com.harmony.harmoniservices.infrastructure.persistance.entitites.ProcessInstanceEntity;
 import com.harmony.harmoniservices.infrastructure.persistance.entitites.UserEntity;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Mapper des instances de processus. Les variables et l'historique ne font pas partie de
+ * l'entité : ils sont lus et écrits séparément.
+ */
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class ProcessInstanceMapper {
     
     private final UserMapper userMapper;
-    private final ProcessExecutionMapper processExecutionMapper;
     private final BpmnProcessMapper bpmnProcessMapper;
-    private final ObjectMapper objectMapper;
     
     public ProcessInstanceEntity toEntity(ProcessInstance instance) {
         if (instance == null) {
@@ -40,23 +33,6 @@ public class ProcessInstanceMapper {
             initiatorEntity = userMapper.toEntity(instance.getInitiator());
         }
         
-        List<ProcessExecutionEntity> executionHistoryEntities = null;
-        if (instance.getExecutionHistory() != null) {
-            executionHistoryEntities = instance.getExecutionHistory().stream()
-                .map(processExecutionMapper::toEntity)
-                .collect(Collectors.toList());
-        }
-        
-        String processVariablesJson = null;
-        if (instance.getProcessVariables() != null) {
-            try {
-                processVariablesJson = objectMapper.writeValueAsString(instance.getProcessVariables());
-            } catch (JsonProcessingException e) {
-                log.error("Erreur lors de la conversion des variables de processus en JSON", e);
-                processVariablesJson = "{}";
-            }
-        }
-        
         return ProcessInstanceEntity.builder()
             .id(instance.getId())
             .process(bpmnProcessMapper.toEntity(instance.getProcess()))
@@ -64,17 +40,20 @@ public class ProcessInstanceMapper {
             .startTime(instance.getStartTime())
             .endTime(instance.getEndTime())
             .currentTaskId(instance.getCurrentTaskId())
-            .executionHistory(executionHistoryEntities)
-            .processVariablesJson(processVariablesJson)
             .initiator(initiatorEntity)
             .businessKey(instance.getBusinessKey())
             .description(instance.getDescription())
             .createdAt(instance.getCreatedAt())
             .updatedAt(instance.getUpdatedAt())
+            .version(instance.getVersion())
             .build();
     }
     
     public ProcessInstance toDomain(ProcessInstanceEntity entity) {
+        return toDomain(entity, new HashMap<>());
+    }
+    
+    public ProcessInstance toDomain(ProcessInstanceEntity entity, Map<String, Object> processVariables) {
         if (entity == null) {
             return null;
         }
@@ -84,25 +63,6 @@ public class ProcessInstanceMapper {
             initiator = userMapper.toDomain(entity.getInitiator());
         }
         
-        List<ProcessExecution> executionHistory = null;
-        if (entity.getExecutionHistory() != null) {
-            executionHistory = entity.getExecutionHistory().stream()
-                .map(processExecutionMapper::toDomain)
-                .collect(Collectors.toList());
-        }
-        
-        Map<String, Object> processVariables = new HashMap<>();
-        if (entity.getProcessVariablesJson() != null && !entity.getProcessVariablesJson().isEmpty()) {
-            try {
-                processVariables = objectMapper.readValue(
-                    entity.getProcessVariablesJson(),
-                    new TypeReference<Map<String, Object>>() {}
-                );
-            } catch (JsonProcessingException e) {
-                log.error("Erreur lors de la conversion du JSON en variables de processus", e);
-            }
-        }
-        
         return ProcessInstance.builder()
             .id(entity.getId())
             .process(bpmnProcessMapper.toDomain(entity.getProcess()))
@@ -110,13 +70,13 @@ public class ProcessInstanceMapper {
             .startTime(entity.getStartTime())
             .endTime(entity.getEndTime())
             .currentTaskId(entity.getCurrentTaskId())
-            .executionHistory(executionHistory)
             .processVariables(processVariables)
             .initiator(initiator)
             .businessKey(entity.getBusinessKey())
             .description(entity.getDescription())
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
+            .version(entity.getVersion())
             .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.harmony.harmoniservices.infrastructure.persistance.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.harmony.harmoniservices.core.domain.entities.TaskAssignment;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TaskAssignmentEntity;
+
+@Component
+public class TaskAssignmentMapper {
+    
+    public TaskAssignmentEntity toEntity(TaskAssignment assignment) {
+        if (assignment == null) {
+            return null;
+        }
+        
+        return TaskAssignmentEntity.builder()
+            .id(assignment.getId())
+            .tokenId(assignment.getTokenId())
+            .processInstanceId(assignment.getProcessInstanceId())
+            .taskId(assignment.getTaskId())
+            .userId(assignment.getUserId())
+            .groupId(assignment.getGroupId())
+            .suspended(assignment.isSuspended())
+            .createdAt(assignment.getCreatedAt())
+            .build();
+    }
+    
+    public TaskAssignment toDomain(TaskAssignmentEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        return TaskAssignment.builder()
+            .id(entity.getId())
+            .tokenId(entity.getTokenId())
+            .processInstanceId(entity.getProcessInstanceId())
+            .taskId(entity.getTaskId())
+            .userId(entity.getUserId())
+            .groupId(entity.getGroupId())
+            .suspended(entity.isSuspended())
+            .createdAt(entity.getCreatedAt())
+            .build();
+    }
+}
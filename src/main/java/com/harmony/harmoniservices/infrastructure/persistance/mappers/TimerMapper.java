@@ -0,0 +1,50 @@
+package com.harmony.harmoniservices.infrastructure.persistance.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.harmony.harmoniservices.core.domain.entities.Timer;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TimerEntity;
+
+@Component
+public class TimerMapper {
+    
+    public TimerEntity toEntity(Timer timer) {
+        if (timer == null) {
+            return null;
+        }
+        
+        return TimerEntity.builder()
+            .id(timer.getId())
+            .processInstanceId(timer.getProcessInstanceId())
+            .elementId(timer.getElementId())
+            .dueDate(timer.getDueDate())
+            .status(timer.getStatus())
+            .cycle(timer.getCycle())
+            .repeatsRemaining(timer.getRepeatsRemaining())
+            .lockOwner(timer.getLockOwner())
+            .lockExpiresAt(timer.getLockExpiresAt())
+            .createdAt(timer.getCreatedAt())
+            .updatedAt(timer.getUpdatedAt())
+            .build();
+    }
+    
+    public Timer toDomain(TimerEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        return Timer.builder()
+            .id(entity.getId())
+            .processInstanceId(entity.getProcessInstanceId())
+            .elementId(entity.getElementId())
+            .dueDate(entity.getDueDate())
+            .status(entity.getStatus())
+            .cycle(entity.getCycle())
+            .repeatsRemaining(entity.getRepeatsRemaining())
+            .lockOwner(entity.getLockOwner())
+            .lockExpiresAt(entity.getLockExpiresAt())
+            .createdAt(entity.getCreatedAt())
+            .updatedAt(entity.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.impl;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+import com.harmony.harmoniservices.core.ports.repository.DecisionTableRepository;
+import com.harmony.harmoniservices.infrastructure.persistance.mappers.DecisionTableMapper;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.DecisionTableRepositoryJpa;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DecisionTableRepositoryImpl implements DecisionTableRepository {
+
+    private final DecisionTableRepositoryJpa jpaRepository;
+    private final DecisionTableMapper mapper;
+
+    @Override
+    public DecisionTable save(DecisionTable table) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(table)));
+    }
+
+    @Override
+    public Optional<DecisionTable> findByDecisionKey(String decisionKey) {
+        return jpaRepository.findByDecisionKey(decisionKey).map(mapper::toDomain);
+    }
+}
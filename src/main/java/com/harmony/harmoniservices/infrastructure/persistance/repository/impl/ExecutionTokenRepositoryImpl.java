@@ -0,0 +1,75 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import com.harmony.harmoniservices.core.domain.entities.ExecutionToken;
+import com.harmony.harmoniservices.core.ports.repository.ExecutionTokenRepository;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.ExecutionTokenEntity;
+import com.harmony.harmoniservices.infrastructure.persistance.mappers.ExecutionTokenMapper;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.ExecutionTokenRepositoryJpa;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ExecutionTokenRepositoryImpl implements ExecutionTokenRepository {
+
+    private final ExecutionTokenRepositoryJpa jpaRepository;
+    private final ExecutionTokenMapper mapper;
+
+    @Override
+    public List<ExecutionToken> saveAll(List<ExecutionToken> tokens) {
+        List<ExecutionTokenEntity> entities = tokens.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        List<ExecutionTokenEntity> saved = jpaRepository.saveAll(entities);
+        // Reporter les IDs générés sur les objets du domaine
+        for (int i = 0; i < tokens.size(); i++) {
+            tokens.get(i).setId(saved.get(i).getId());
+        }
+        return tokens;
+    }
+
+    @Override
+    public List<ExecutionToken> findActiveByProcessInstanceId(Long processInstanceId) {
+        return jpaRepository.findByProcessInstanceIdAndStatusOrderByIdAsc(processInstanceId, "ACTIVE")
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<ExecutionToken> lockActiveToken(Long processInstanceId, String elementId) {
+        return jpaRepository.findFirstByProcessInstanceIdAndElementIdAndStatusOrderByIdAsc(processInstanceId, elementId, "ACTIVE")
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean existsActiveToken(Long processInstanceId) {
+        return jpaRepository.existsByProcessInstanceIdAndStatus(processInstanceId, "ACTIVE");
+    }
+
+    @Override
+    public void completeAll(Long processInstanceId) {
+        jpaRepository.completeAll(processInstanceId);
+    }
+
+    @Override
+    public int incrementJoinCounter(Long processInstanceId, String gatewayId) {
+        return jpaRepository.addJoinArrivals(processInstanceId, gatewayId, 1);
+    }
+
+    @Override
+    public int addJoinArrivals(Long processInstanceId, String gatewayId, int arrivals) {
+        return jpaRepository.addJoinArrivals(processInstanceId, gatewayId, arrivals);
+    }
+
+    @Override
+    public void resetJoinCounter(Long processInstanceId, String gatewayId) {
+        jpaRepository.resetJoinCounter(processInstanceId, gatewayId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.harmony.harmoniservices.core.domain.entities.Job;
+import com.harmony.harmoniservices.core.ports.repository.JobRepository;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.JobEntity;
+import com.harmony.harmoniservices.infrastructure.persistance.mappers.JobMapper;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.JobRepositoryJpa;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JobRepositoryImpl implements JobRepository {
+
+    private final JobRepositoryJpa jpaRepository;
+    private final JobMapper mapper;
+
+    @Override
+    public Job save(Job job) {
+        JobEntity entity = mapper.toEntity(job);
+        entity = jpaRepository.save(entity);
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    public List<Job> saveAll(List<Job> jobs) {
+        List<JobEntity> entities = jobs.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return jpaRepository.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Job> findById(Long id) {
+        return jpaRepository.findById(id)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Job> acquireDueJobs(String owner, LocalDateTime now, LocalDateTime leaseExpiresAt, int limit) {
+        // Les entités verrouillées sont gérées : le changement de statut est écrit au commit
+        List<JobEntity> entities = jpaRepository.lockDueJobs(now, limit);
+        for (JobEntity entity : entities) {
+            entity.setStatus("RUNNING");
+            entity.setLockedAt(now);
+            entity.setLockOwner(owner);
+            entity.setLockExpiresAt(leaseExpiresAt);
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int cancelByProcessInstanceId(Long processInstanceId) {
+        return jpaRepository.cancelByProcessInstanceId(processInstanceId, LocalDateTime.now());
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
@@ -28,6 +29,17 @@ public class ProcessExecutionRepositoryImpl implements ProcessExecutionRepositor
         return mapper.toDomain(entity);
     }
 
+    @Override
+    public List<ProcessExecution> saveAll(List<ProcessExecution> processExecutions) {
+        List<ProcessExecutionEntity> entities = processExecutions.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return jpaRepository.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<ProcessExecution> findById(Long id) {
         return jpaRepository.findById(id)
@@ -41,4 +53,12 @@ public class ProcessExecutionRepositoryImpl implements ProcessExecutionRepositor
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<ProcessExecution> findByProcessInstanceId(Long processInstanceId, int page, int size) {
+        return jpaRepository.findByProcessInstanceIdOrderByStartTimeAscIdAsc(processInstanceId, PageRequest.of(page, size))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
 } 
\ No newline at end of file
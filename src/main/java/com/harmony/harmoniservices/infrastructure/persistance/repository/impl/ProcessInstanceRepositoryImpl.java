@@ -1,60 +1,214 @@
 package com.harmony.harmoniservices.infrastructure.persistance.repository.impl;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.harmony.harmoniservices.core.domain.entities.LazyVariableMap;
 import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
+import com.harmony.harmoniservices.core.ports.repository.ProcessExecutionRepository;
 import com.harmony.harmoniservices.core.ports.repository.ProcessInstanceRepository;
 import com.harmony.harmoniservices.infrastructure.persistance.entitites.ProcessInstanceEntity;
 import com.harmony.harmoniservices.infrastructure.persistance.mappers.ProcessInstanceMapper;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jdbc.ProcessVariableJdbcRepository;
 import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.ProcessInstanceRepositoryJpa;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+/**
+ * Repository des instances de processus, avec un cache borné des instances déjà mappées.
+ * Le cache évite la requête et la désérialisation des variables lors des lectures répétées ;
+ * chaque écriture invalide l'entrée, une fois la transaction terminée.
+ * Les variables sont stockées à part et seules les variables modifiées sont réécrites.
+ */
 @Repository
-@RequiredArgsConstructor
 public class ProcessInstanceRepositoryImpl implements ProcessInstanceRepository {
 
     private final ProcessInstanceRepositoryJpa jpaRepository;
     private final ProcessInstanceMapper mapper;
+    private final ProcessVariableJdbcRepository variableRepository;
+    private final ProcessExecutionRepository executionRepository;
+    private final Cache<Long, ProcessInstance> instances;
+
+    public ProcessInstanceRepositoryImpl(ProcessInstanceRepositoryJpa jpaRepository,
+            ProcessInstanceMapper mapper,
+            ProcessVariableJdbcRepository variableRepository,
+            ProcessExecutionRepository executionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${harmony.engine.instance-cache.max-weight:200000}") long maxWeight,
+            @Value("${harmony.engine.instance-cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.variableRepository = variableRepository;
+        this.executionRepository = executionRepository;
+        this.instances = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long id, ProcessInstance instance) -> weigh(instance))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, instances, "process-instances");
+    }
 
     @Override
     public ProcessInstance save(ProcessInstance processInstance) {
         ProcessInstanceEntity entity = mapper.toEntity(processInstance);
-        entity = jpaRepository.save(entity);
-        return mapper.toDomain(entity);
+        try {
+            entity = jpaRepository.save(entity);
+        } catch (OptimisticLockingFailureException e) {
+            // La copie en cache est périmée : la nouvelle tentative doit relire la base
+            evict(processInstance.getId());
+            throw e;
+        }
+        saveVariables(List.of(processInstance), List.of(entity));
+        evictAfterCompletion(entity.getId());
+        return withHistory(mapper.toDomain(entity, variablesOf(processInstance)));
+    }
+
+    @Override
+    public List<ProcessInstance> saveAll(List<ProcessInstance> processInstances) {
+        List<ProcessInstanceEntity> entities = processInstances.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        List<ProcessInstanceEntity> saved = jpaRepository.saveAll(entities);
+        saveVariables(processInstances, saved);
+        saved.forEach(entity -> evictAfterCompletion(entity.getId()));
+        List<ProcessInstance> result = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            result.add(withHistory(mapper.toDomain(saved.get(i), variablesOf(processInstances.get(i)))));
+        }
+        return result;
     }
 
     @Override
     public Optional<ProcessInstance> findById(Long id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        ProcessInstance cached = instances.get(id, key -> jpaRepository.findById(key)
+                .map(entity -> withHistory(mapper.toDomain(entity, variableRepository.findByInstanceId(key))))
+                .orElse(null));
+        return Optional.ofNullable(cached).map(this::copy);
     }
 
     @Override
-    public List<ProcessInstance> findActiveInstancesByProcessId(String processId) {
-        return jpaRepository.findActiveInstancesByProcessId(processId)
+    public List<ProcessInstance> findAllById(Collection<Long> ids) {
+        // Une seule requête pour toutes les instances absentes du cache
+        Map<Long, ProcessInstance> found = instances.getAll(ids, missing -> toDomain(jpaRepository.findAllById(new ArrayList<>(missing)))
                 .stream()
-                .map(mapper::toDomain)
+                .collect(Collectors.toMap(ProcessInstance::getId, Function.identity())));
+        return found.values().stream()
+                .map(this::copy)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<ProcessInstance> findActiveInstancesWithUserTasks(Long userId) {
-        return jpaRepository.findActiveInstancesWithUserTasks(userId)
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public void evictAll(Collection<Long> ids) {
+        instances.invalidateAll(ids);
     }
 
     @Override
-    public List<ProcessInstance> findActiveInstancesWithGroupTasks(Long groupId) {
-        return jpaRepository.findActiveInstancesWithGroupTasks(groupId)
-                .stream()
-                .map(mapper::toDomain)
+    public List<ProcessInstance> findActiveInstancesByProcessId(String processId) {
+        return toDomain(jpaRepository.findActiveInstancesByProcessId(processId));
+    }
+
+    // Méthodes utilitaires privées
+
+    private List<ProcessInstance> toDomain(List<ProcessInstanceEntity> entities) {
+        // Variables de toutes les instances chargées en une seule requête
+        Map<Long, Map<String, Object>> variables = variableRepository.findByInstanceIds(entities.stream()
+                .map(ProcessInstanceEntity::getId)
+                .collect(Collectors.toList()));
+        return entities.stream()
+                .map(entity -> withHistory(mapper.toDomain(entity, variables.getOrDefault(entity.getId(), new HashMap<>()))))
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    private void saveVariables(List<ProcessInstance> processInstances, List<ProcessInstanceEntity> saved) {
+        Map<Long, Map<String, Object>> variables = new HashMap<>();
+        Map<Long, Set<String>> changedNames = new HashMap<>();
+        for (int i = 0; i < saved.size(); i++) {
+            ProcessInstance instance = processInstances.get(i);
+            Long id = saved.get(i).getId();
+            Map<String, Object> values = variablesOf(instance);
+            // Une nouvelle instance écrit toutes ses variables, une instance existante seulement celles modifiées
+            Set<String> names = instance.getId() == null ? values.keySet() : instance.dirtyVariableNames();
+            if (!names.isEmpty()) {
+                variables.put(id, values);
+                changedNames.put(id, names);
+            }
+        }
+        variableRepository.saveChanges(variables, changedNames);
+        processInstances.forEach(ProcessInstance::markVariablesClean);
+    }
+
+    private static Map<String, Object> variablesOf(ProcessInstance instance) {
+        return instance.getProcessVariables() != null ? LazyVariableMap.copyOf(instance.getProcessVariables()) : new HashMap<>();
+    }
+
+    private void evict(Long id) {
+        if (id != null) {
+            instances.invalidate(id);
+        }
+    }
+
+    private void evictAfterCompletion(Long id) {
+        evict(id);
+        if (id != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Une lecture concurrente a pu remettre l'état précédent en cache avant le commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    private ProcessInstance copy(ProcessInstance instance) {
+        // Les appelants modifient l'instance (variables, statut) : ne jamais exposer l'objet en cache
+        return withHistory(ProcessInstance.builder()
+                .id(instance.getId())
+                .process(instance.getProcess())
+                .status(instance.getStatus())
+                .startTime(instance.getStartTime())
+                .endTime(instance.getEndTime())
+                .currentTaskId(instance.getCurrentTaskId())
+                .processVariables(LazyVariableMap.copyOf(instance.getProcessVariables()))
+                .initiator(instance.getInitiator())
+                .businessKey(instance.getBusinessKey())
+                .description(instance.getDescription())
+                .createdAt(instance.getCreatedAt())
+                .updatedAt(instance.getUpdatedAt())
+                .version(instance.getVersion())
+                .build());
+    }
+
+    private ProcessInstance withHistory(ProcessInstance instance) {
+        // L'historique n'est lu que si l'appelant le demande, page par page
+        instance.attachHistory(executionRepository::findByProcessInstanceId);
+        return instance;
+    }
+
+    private static int weigh(ProcessInstance instance) {
+        // Poids approximatif : l'instance elle-même et ses variables
+        int weight = 1;
+        if (instance.getProcessVariables() != null) {
+            weight += instance.getProcessVariables().size();
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,79 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import com.harmony.harmoniservices.core.domain.commands.TaskSummary;
+import com.harmony.harmoniservices.core.domain.entities.TaskAssignment;
+import com.harmony.harmoniservices.core.ports.repository.TaskAssignmentRepository;
+import com.harmony.harmoniservices.infrastructure.persistance.mappers.TaskAssignmentMapper;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.TaskAssignmentRepositoryJpa;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.TaskSummaryView;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskAssignmentRepositoryImpl implements TaskAssignmentRepository {
+
+    private final TaskAssignmentRepositoryJpa jpaRepository;
+    private final TaskAssignmentMapper mapper;
+
+    @Override
+    public void saveAll(List<TaskAssignment> assignments) {
+        jpaRepository.saveAll(assignments.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<TaskSummary> findUserTasks(Long userId, Long after, int limit) {
+        return toSummaries(jpaRepository.findUserPage(userId, after != null ? after : 0L, limit));
+    }
+
+    @Override
+    public List<TaskSummary> findGroupTasks(Long groupId, Long after, int limit) {
+        return toSummaries(jpaRepository.findGroupPage(groupId, after != null ? after : 0L, limit));
+    }
+
+    @Override
+    public void deleteByTokenIds(Long processInstanceId, Collection<Long> tokenIds) {
+        // IN () est invalide en SQL : une valeur impossible remplace une liste vide
+        jpaRepository.deleteByTokenIds(processInstanceId, tokenIds.isEmpty() ? List.of(-1L) : tokenIds);
+    }
+
+    @Override
+    public void deleteByProcessInstanceId(Long processInstanceId) {
+        jpaRepository.deleteByProcessInstanceId(processInstanceId);
+    }
+
+    @Override
+    public void setSuspended(Long processInstanceId, boolean suspended) {
+        jpaRepository.updateSuspended(processInstanceId, suspended);
+    }
+
+    @Override
+    public void rebuildForTask(String taskId) {
+        jpaRepository.deleteByTaskId(taskId);
+        jpaRepository.rebuildForTask(taskId);
+    }
+
+    // Méthodes utilitaires privées
+
+    private static List<TaskSummary> toSummaries(List<TaskSummaryView> views) {
+        return views.stream()
+                .map(view -> TaskSummary.builder()
+                        .assignmentId(view.getAssignmentId())
+                        .processInstanceId(view.getProcessInstanceId())
+                        .taskId(view.getTaskId())
+                        .taskName(view.getTaskName())
+                        .priority(view.getPriority())
+                        .dueDate(view.getDueDate())
+                        .createdAt(view.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
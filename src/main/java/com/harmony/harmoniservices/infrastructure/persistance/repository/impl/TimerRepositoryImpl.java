@@ -0,0 +1,113 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.impl;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.harmony.harmoniservices.core.domain.entities.Timer;
+import com.harmony.harmoniservices.core.ports.repository.TimerRepository;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TimerEntity;
+import com.harmony.harmoniservices.infrastructure.persistance.mappers.TimerMapper;
+import com.harmony.harmoniservices.infrastructure.persistance.repository.jpa.TimerRepositoryJpa;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TimerRepositoryImpl implements TimerRepository {
+
+    private final TimerRepositoryJpa jpaRepository;
+    private final TimerMapper mapper;
+
+    @Override
+    public Timer save(Timer timer) {
+        TimerEntity entity = mapper.toEntity(timer);
+        entity = jpaRepository.save(entity);
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    public List<Timer> saveAll(List<Timer> timers) {
+        List<TimerEntity> entities = timers.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return jpaRepository.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public List<Timer> leasePending(String owner, LocalDateTime now, LocalDateTime horizon, LocalDateTime leaseExpiresAt,
+            LocalDateTime afterDueDate, long afterId, int limit) {
+        // Les entités verrouillées sont gérées : le bail est écrit au commit
+        List<TimerEntity> entities = jpaRepository.lockLeasable(owner, now, horizon, afterDueDate, afterId, limit);
+        for (TimerEntity entity : entities) {
+            entity.setLockOwner(owner);
+            entity.setLockExpiresAt(leaseExpiresAt);
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public boolean lease(Long id, String owner, LocalDateTime leaseExpiresAt) {
+        return jpaRepository.lease(id, owner, leaseExpiresAt) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int renewLeases(String owner, LocalDateTime leaseExpiresAt) {
+        return jpaRepository.renewLeases(owner, leaseExpiresAt);
+    }
+
+    @Override
+    @Transactional
+    public int releaseLeases(String owner) {
+        return jpaRepository.releaseLeases(owner);
+    }
+
+    @Override
+    public List<Timer> lockDue(Collection<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.lockDue(ids, now)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void reschedule(Long id, LocalDateTime dueDate) {
+        jpaRepository.reschedule(id, dueDate, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public boolean cancel(Long id) {
+        return jpaRepository.cancel(id, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int cancelByProcessInstanceId(Long processInstanceId) {
+        return jpaRepository.cancelByProcessInstanceId(processInstanceId, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<Timer> findLatest(Long processInstanceId, String elementId) {
+        return jpaRepository.findFirstByProcessInstanceIdAndElementIdAndStatusNotOrderByIdDesc(processInstanceId,
+                        elementId, "CANCELLED")
+                .map(mapper::toDomain);
+    }
+}
@@ -0,0 +1,152 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.harmony.harmoniservices.core.domain.entities.LazyVariableMap;
+import com.harmony.harmoniservices.infrastructure.persistance.blob.FileSystemBlobStore;
+import com.harmony.harmoniservices.infrastructure.persistance.codec.VariableCodec;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stockage des variables de processus, une ligne par variable (table process_variables).
+ * Seules les variables modifiées sont écrites, par lots JDBC : une étape qui change un champ
+ * d'un formulaire ne réécrit plus l'ensemble des variables de l'instance.
+ * Les valeurs sont écrites au format binaire du {@link VariableCodec} ; les lignes encore au
+ * format JSON (value_json) sont relues telles quelles et converties à leur prochaine écriture.
+ * Au-delà d'un seuil, la valeur encodée est placée dans le stockage de contenus et la ligne ne
+ * garde que son empreinte ; elle n'est lue qu'au premier accès à la variable.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessVariableJdbcRepository {
+
+    private static final String SELECT_BY_INSTANCES =
+            "SELECT instance_id, name, value_bin, value_json, blob_hash FROM process_variables WHERE instance_id IN (:ids)";
+
+    private static final String UPSERT =
+            "INSERT INTO process_variables (instance_id, name, value_bin, value_json, blob_hash) "
+            + "VALUES (:instanceId, :name, :value, NULL, :blobHash) "
+            + "ON CONFLICT (instance_id, name) DO UPDATE SET value_bin = EXCLUDED.value_bin, value_json = NULL, "
+            + "blob_hash = EXCLUDED.blob_hash";
+
+    private static final String DELETE =
+            "DELETE FROM process_variables WHERE instance_id = :instanceId AND name = :name";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final VariableCodec variableCodec;
+    private final FileSystemBlobStore blobStore;
+
+    @Value("${harmony.engine.variables.blob-threshold-bytes:65536}")
+    private int blobThresholdBytes;
+
+    /**
+     * Charge les variables d'une instance
+     * @param instanceId ID de l'instance
+     * @return Variables de l'instance (vide si aucune)
+     */
+    public Map<String, Object> findByInstanceId(Long instanceId) {
+        return findByInstanceIds(List.of(instanceId)).getOrDefault(instanceId, new HashMap<>());
+    }
+
+    /**
+     * Charge en une requête les variables de plusieurs instances
+     * @param instanceIds IDs des instances
+     * @return Variables par ID d'instance (les instances sans variable sont absentes)
+     */
+    public Map<Long, Map<String, Object>> findByInstanceIds(Collection<Long> instanceIds) {
+        Map<Long, Map<String, Object>> variables = new HashMap<>();
+        if (instanceIds.isEmpty()) {
+            return variables;
+        }
+        jdbcTemplate.query(SELECT_BY_INSTANCES, new MapSqlParameterSource("ids", instanceIds), rs -> {
+            LazyVariableMap instanceVariables = (LazyVariableMap) variables.computeIfAbsent(rs.getLong("instance_id"),
+                    id -> new LazyVariableMap());
+            String blobHash = rs.getString("blob_hash");
+            if (blobHash != null) {
+                instanceVariables.putDeferred(rs.getString("name"), () -> readBlob(blobHash));
+            } else {
+                instanceVariables.put(rs.getString("name"), readValue(rs.getBytes("value_bin"), rs.getString("value_json")));
+            }
+        });
+        return variables;
+    }
+
+    /**
+     * Écrit les variables modifiées de plusieurs instances : une variable présente est insérée
+     * ou mise à jour, une variable absente de la map est supprimée
+     * @param variables Variables courantes par ID d'instance
+     * @param changedNames Noms des variables à écrire par ID d'instance
+     */
+    public void saveChanges(Map<Long, Map<String, Object>> variables, Map<Long, ? extends Collection<String>> changedNames) {
+        List<SqlParameterSource> upserts = new ArrayList<>();
+        List<SqlParameterSource> deletes = new ArrayList<>();
+        changedNames.forEach((instanceId, names) -> {
+            Map<String, Object> values = variables.getOrDefault(instanceId, Map.of());
+            for (String name : names) {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("instanceId", instanceId)
+                        .addValue("name", name);
+                if (values.containsKey(name)) {
+                    byte[] encoded = variableCodec.encode(values.get(name));
+                    if (encoded.length > blobThresholdBytes) {
+                        params.addValue("value", null, Types.BINARY).addValue("blobHash", blobStore.put(encoded));
+                    } else {
+                        params.addValue("value", encoded, Types.BINARY).addValue("blobHash", null, Types.VARCHAR);
+                    }
+                    upserts.add(params);
+                } else {
+                    deletes.add(params);
+                }
+            }
+        });
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, upserts.toArray(new SqlParameterSource[0]));
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE, deletes.toArray(new SqlParameterSource[0]));
+        }
+    }
+
+    private Object readBlob(String hash) {
+        try (InputStream input = blobStore.open(hash)) {
+            return variableCodec.decode(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture de la variable " + hash, e);
+        }
+    }
+
+    private Object readValue(byte[] bytes, String json) {
+        if (bytes != null) {
+            return variableCodec.decode(bytes);
+        }
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            log.error("Erreur lors de la conversion du JSON en variable de processus", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.DecisionTableEntity;
+
+public interface DecisionTableRepositoryJpa extends JpaRepository<DecisionTableEntity, Long> {
+    
+    Optional<DecisionTableEntity> findByDecisionKey(String decisionKey);
+}
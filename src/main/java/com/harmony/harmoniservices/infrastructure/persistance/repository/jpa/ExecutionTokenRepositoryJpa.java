@@ -0,0 +1,44 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.ExecutionTokenEntity;
+
+import jakarta.persistence.LockModeType;
+
+public interface ExecutionTokenRepositoryJpa extends JpaRepository<ExecutionTokenEntity, Long> {
+    
+    List<ExecutionTokenEntity> findByProcessInstanceIdAndStatusOrderByIdAsc(Long processInstanceId, String status);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ExecutionTokenEntity> findFirstByProcessInstanceIdAndElementIdAndStatusOrderByIdAsc(
+            Long processInstanceId, String elementId, String status);
+    
+    boolean existsByProcessInstanceIdAndStatus(Long processInstanceId, String status);
+    
+    @Modifying
+    @Query("UPDATE ExecutionTokenEntity t SET t.status = 'COMPLETED' WHERE t.processInstanceId = :processInstanceId AND t.status = 'ACTIVE'")
+    int completeAll(@Param("processInstanceId") Long processInstanceId);
+    
+    @Query(value = """
+        INSERT INTO gateway_join_counters (process_instance_id, gateway_id, arrived)
+        VALUES (:processInstanceId, :gatewayId, :arrivals)
+        ON CONFLICT (process_instance_id, gateway_id)
+        DO UPDATE SET arrived = gateway_join_counters.arrived + :arrivals
+        RETURNING arrived
+    """, nativeQuery = true)
+    int addJoinArrivals(@Param("processInstanceId") Long processInstanceId, @Param("gatewayId") String gatewayId,
+            @Param("arrivals") int arrivals);
+    
+    @Modifying
+    @Query(value = "DELETE FROM gateway_join_counters WHERE process_instance_id = :processInstanceId AND gateway_id = :gatewayId",
+            nativeQuery = true)
+    int resetJoinCounter(@Param("processInstanceId") Long processInstanceId, @Param("gatewayId") String gatewayId);
+}
@@ -0,0 +1,33 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.JobEntity;
+
+public interface JobRepositoryJpa extends JpaRepository<JobEntity, Long> {
+    
+    // Travaux échus, et travaux en cours dont le bail a expiré (nœud arrêté pendant l'exécution)
+    @Query(value = """
+        SELECT * FROM jobs
+        WHERE (status = 'PENDING' AND due_date <= :now)
+           OR (status = 'RUNNING' AND lock_expires_at < :now)
+        ORDER BY due_date
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<JobEntity> lockDueJobs(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    // Un travail RUNNING annulé est ignoré à son achèvement : completeJob exige le statut RUNNING
+    @Modifying
+    @Query("""
+        UPDATE JobEntity j SET j.status = 'CANCELLED', j.lockOwner = NULL, j.lockExpiresAt = NULL, j.updatedAt = :now
+        WHERE j.processInstanceId = :processInstanceId AND j.status IN ('PENDING', 'RUNNING')
+    """)
+    int cancelByProcessInstanceId(@Param("processInstanceId") Long processInstanceId, @Param("now") LocalDateTime now);
+}
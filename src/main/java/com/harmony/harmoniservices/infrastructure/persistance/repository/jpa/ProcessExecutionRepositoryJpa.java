@@ -2,6 +2,7 @@ package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.harmony.harmoniservices.infrastructure.persistance.entitites.ProcessExecutionEntity;
@@ -9,4 +10,6 @@ import com.harmony.harmoniservices.infrastructure.persistance.entitites.ProcessE
 public interface ProcessExecutionRepositoryJpa extends JpaRepository<ProcessExecutionEntity, Long> {
     
     List<ProcessExecutionEntity> findByProcessInstanceId(Long processInstanceId);
+    
+    List<ProcessExecutionEntity> findByProcessInstanceIdOrderByStartTimeAscIdAsc(Long processInstanceId, Pageable pageable);
 } 
\ No newline at end of file
@@ -12,19 +12,4 @@ public interface ProcessInstanceRepositoryJpa extends JpaRepository<ProcessInsta
     
     @Query("SELECT p FROM ProcessInstanceEntity p WHERE p.process.id = :processId AND p.status = 'ACTIVE'")
     List<ProcessInstanceEntity> findActiveInstancesByProcessId(@Param("processId") String processId);
-    
-    @Query("""
-        SELECT DISTINCT p FROM ProcessInstanceEntity p 
-        JOIN TaskConfigurationEntity tc ON p.currentTaskId = tc.taskId 
-        WHERE p.status = 'ACTIVE' AND tc.assignedUser.id = :userId
-    """)
-    List<ProcessInstanceEntity> findActiveInstancesWithUserTasks(@Param("userId") Long userId);
-    
-    @Query("""
-        SELECT DISTINCT p FROM ProcessInstanceEntity p 
-        JOIN TaskConfigurationEntity tc ON p.currentTaskId = tc.taskId 
-        JOIN tc.authorizedGroups g 
-        WHERE p.status = 'ACTIVE' AND g.id = :groupId
-    """)
-    List<ProcessInstanceEntity> findActiveInstancesWithGroupTasks(@Param("groupId") Long groupId);
 } 
\ No newline at end of file
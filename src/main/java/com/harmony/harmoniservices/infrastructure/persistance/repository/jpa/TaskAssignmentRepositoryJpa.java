@@ -0,0 +1,83 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TaskAssignmentEntity;
+
+public interface TaskAssignmentRepositoryJpa extends JpaRepository<TaskAssignmentEntity, Long> {
+    
+    // Pages lues par curseur sur les index partiels (user_id|group_id, id) WHERE NOT suspended ;
+    // l'échéance vient de la configuration, ou à défaut de la durée maximale depuis la mise en attente
+    @Query(value = """
+        SELECT a.id AS assignmentId, a.process_instance_id AS processInstanceId, a.task_id AS taskId,
+               t.name AS taskName, tc.priority AS priority,
+               COALESCE(tc.end_date, a.created_at + tc.max_duration_minutes * INTERVAL '1 minute') AS dueDate,
+               a.created_at AS createdAt
+        FROM task_assignments a
+        LEFT JOIN tasks t ON t.id = a.task_id
+        LEFT JOIN task_configurations tc ON tc.task_id = a.task_id
+        WHERE a.user_id = :userId AND NOT a.suspended AND a.id > :after
+        ORDER BY a.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<TaskSummaryView> findUserPage(@Param("userId") Long userId, @Param("after") long after, @Param("limit") int limit);
+    
+    @Query(value = """
+        SELECT a.id AS assignmentId, a.process_instance_id AS processInstanceId, a.task_id AS taskId,
+               t.name AS taskName, tc.priority AS priority,
+               COALESCE(tc.end_date, a.created_at + tc.max_duration_minutes * INTERVAL '1 minute') AS dueDate,
+               a.created_at AS createdAt
+        FROM task_assignments a
+        LEFT JOIN tasks t ON t.id = a.task_id
+        LEFT JOIN task_configurations tc ON tc.task_id = a.task_id
+        WHERE a.group_id = :groupId AND NOT a.suspended AND a.id > :after
+        ORDER BY a.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<TaskSummaryView> findGroupPage(@Param("groupId") Long groupId, @Param("after") long after, @Param("limit") int limit);
+    
+    // Les entrées sans jeton proviennent d'instances antérieures aux jetons d'exécution
+    @Modifying
+    @Query("""
+        DELETE FROM TaskAssignmentEntity a
+        WHERE a.tokenId IN :tokenIds OR (a.processInstanceId = :processInstanceId AND a.tokenId IS NULL)
+    """)
+    int deleteByTokenIds(@Param("processInstanceId") Long processInstanceId, @Param("tokenIds") Collection<Long> tokenIds);
+    
+    @Modifying
+    @Query("DELETE FROM TaskAssignmentEntity a WHERE a.processInstanceId = :processInstanceId")
+    int deleteByProcessInstanceId(@Param("processInstanceId") Long processInstanceId);
+    
+    @Modifying
+    @Query("UPDATE TaskAssignmentEntity a SET a.suspended = :suspended WHERE a.processInstanceId = :processInstanceId")
+    int updateSuspended(@Param("processInstanceId") Long processInstanceId, @Param("suspended") boolean suspended);
+    
+    @Modifying
+    @Query("DELETE FROM TaskAssignmentEntity a WHERE a.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") String taskId);
+    
+    // Reconstruit les entrées d'une tâche à partir des jetons actifs et de sa configuration courante
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_assignments (id, token_id, process_instance_id, task_id, user_id, group_id, suspended, created_at)
+        SELECT nextval('task_assignments_seq'), t.id, t.process_instance_id, t.element_id, r.user_id, r.group_id,
+               p.status = 'SUSPENDED', now()
+        FROM execution_tokens t
+        JOIN process_instances p ON p.id = t.process_instance_id
+        JOIN (
+            SELECT tc.task_id, tc.assigned_user_id AS user_id, CAST(NULL AS BIGINT) AS group_id
+            FROM task_configurations tc WHERE tc.assigned_user_id IS NOT NULL
+            UNION ALL
+            SELECT tc.task_id, NULL, tag.group_id
+            FROM task_configurations tc JOIN task_authorized_groups tag ON tag.task_configuration_id = tc.id
+        ) r ON r.task_id = t.element_id
+        WHERE t.element_id = :taskId AND t.status = 'ACTIVE'
+    """, nativeQuery = true)
+    int rebuildForTask(@Param("taskId") String taskId);
+}
@@ -0,0 +1,16 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection des requêtes de boîte de réception : seules les colonnes affichées sont lues
+ */
+public interface TaskSummaryView {
+    Long getAssignmentId();
+    Long getProcessInstanceId();
+    String getTaskId();
+    String getTaskName();
+    Integer getPriority();
+    LocalDateTime getDueDate();
+    LocalDateTime getCreatedAt();
+}
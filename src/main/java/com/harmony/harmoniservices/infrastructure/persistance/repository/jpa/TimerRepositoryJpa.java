@@ -0,0 +1,76 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TimerEntity;
+
+public interface TimerRepositoryJpa extends JpaRepository<TimerEntity, Long> {
+    
+    // Parcours de l'index partiel (due_date, id) des timers en attente ; les timers dont un autre nœud
+    // détient un bail valide, ou qu'il verrouille en ce moment, sont ignorés, comme ceux des instances
+    // suspendues (rechargés après la reprise)
+    @Query(value = """
+        SELECT * FROM timers
+        WHERE status = 'PENDING' AND due_date < :horizon
+          AND (due_date, id) > (:afterDueDate, :afterId)
+          AND (lock_owner IS NULL OR lock_owner = :owner OR lock_expires_at < :now)
+          AND NOT EXISTS (SELECT 1 FROM process_instances p
+                          WHERE p.id = timers.process_instance_id AND p.status = 'SUSPENDED')
+        ORDER BY due_date, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<TimerEntity> lockLeasable(@Param("owner") String owner, @Param("now") LocalDateTime now,
+            @Param("horizon") LocalDateTime horizon, @Param("afterDueDate") LocalDateTime afterDueDate,
+            @Param("afterId") long afterId, @Param("limit") int limit);
+    
+    // Les timers déjà pris par une autre transaction sont ignorés, sans attente
+    @Query(value = """
+        SELECT * FROM timers
+        WHERE id IN (:ids) AND status = 'PENDING' AND due_date <= :now
+        ORDER BY id
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<TimerEntity> lockDue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("""
+        UPDATE TimerEntity t SET t.lockOwner = :owner, t.lockExpiresAt = :expiresAt
+        WHERE t.id = :id AND t.status = 'PENDING'
+    """)
+    int lease(@Param("id") Long id, @Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Modifying
+    @Query("UPDATE TimerEntity t SET t.lockExpiresAt = :expiresAt WHERE t.lockOwner = :owner AND t.status = 'PENDING'")
+    int renewLeases(@Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Modifying
+    @Query("UPDATE TimerEntity t SET t.lockOwner = NULL, t.lockExpiresAt = NULL WHERE t.lockOwner = :owner AND t.status = 'PENDING'")
+    int releaseLeases(@Param("owner") String owner);
+    
+    @Modifying
+    @Query("UPDATE TimerEntity t SET t.dueDate = :dueDate, t.updatedAt = :now WHERE t.id = :id AND t.status = 'PENDING'")
+    int reschedule(@Param("id") Long id, @Param("dueDate") LocalDateTime dueDate, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE TimerEntity t SET t.status = 'CANCELLED', t.updatedAt = :now WHERE t.id = :id AND t.status = 'PENDING'")
+    int cancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("""
+        UPDATE TimerEntity t SET t.status = 'CANCELLED', t.updatedAt = :now
+        WHERE t.processInstanceId = :processInstanceId AND t.status = 'PENDING'
+    """)
+    int cancelByProcessInstanceId(@Param("processInstanceId") Long processInstanceId, @Param("now") LocalDateTime now);
+    
+    Optional<TimerEntity> findFirstByProcessInstanceIdAndElementIdAndStatusNotOrderByIdDesc(Long processInstanceId,
+            String elementId, String status);
+}
@@ -0,0 +1,282 @@
+package com.harmony.harmoniservices.infrastructure.timers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.harmony.harmoniservices.core.domain.entities.Timer;
+import com.harmony.harmoniservices.core.domain.services.TimerScheduler;
+import com.harmony.harmoniservices.core.ports.cases.ProcessAutomationService;
+import com.harmony.harmoniservices.core.ports.repository.TimerRepository;
+import com.harmony.harmoniservices.infrastructure.cluster.EngineNode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Planificateur des timers persistés, adossé à une roue temporelle hiérarchique.
+ * Seuls les timers échus dans la fenêtre proche sont en mémoire : la fenêtre est rechargée
+ * périodiquement depuis la table, par parcours de l'index des échéances en attente. Les timers
+ * lointains ne coûtent donc qu'une ligne en base, et survivent aux redémarrages.
+ * Les timers échus au même tick sont regroupés en lots, chacun déclenché dans une seule
+ * transaction ; si plusieurs nœuds ont chargé un timer, un seul en verrouille la ligne.
+ * <p>
+ * En déploiement à plusieurs nœuds, un timer n'est chargé que par le nœud qui en prend le bail
+ * au rechargement : les nœuds se répartissent les timers au lieu de tous les charger. Les baux sont
+ * prolongés à chaque rechargement ; ceux d'un nœud arrêté expirent et ses timers sont repris par les
+ * autres. Le nombre de timers chargés par nœud est plafonné, le surplus revenant aux autres nœuds.
+ */
+@Component
+@Slf4j
+public class TimerWheelScheduler implements TimerScheduler {
+
+    // Curseur initial du parcours des échéances
+    private static final LocalDateTime FIRST_DUE_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TimerRepository timerRepository;
+    private final EngineNode node;
+    // Résolu à l'usage : le service dépend lui-même du planificateur
+    private final ObjectProvider<ProcessAutomationService> processAutomationService;
+
+    private final boolean enabled;
+    private final long tickMillis;
+    private final long windowMillis;
+    private final long refillIntervalMillis;
+    private final int refillBatchSize;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxLoaded;
+    private final TimingWheel wheel;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService workers;
+
+    // Fin de la fenêtre chargée : les timers échus avant sont en mémoire
+    private volatile long loadedUntilMillis;
+
+    public TimerWheelScheduler(TimerRepository timerRepository,
+            EngineNode node,
+            ObjectProvider<ProcessAutomationService> processAutomationService,
+            @Value("${harmony.engine.timers.enabled:true}") boolean enabled,
+            @Value("${harmony.engine.timers.tick-ms:100}") long tickMillis,
+            @Value("${harmony.engine.timers.wheel-size:64}") int wheelSize,
+            @Value("${harmony.engine.timers.window-seconds:300}") long windowSeconds,
+            @Value("${harmony.engine.timers.refill-interval-seconds:60}") long refillIntervalSeconds,
+            @Value("${harmony.engine.timers.refill-batch-size:1000}") int refillBatchSize,
+            @Value("${harmony.engine.timers.batch-size:100}") int batchSize,
+            @Value("${harmony.engine.timers.concurrency:4}") int concurrency,
+            @Value("${harmony.engine.timers.lease-seconds:180}") long leaseSeconds,
+            @Value("${harmony.engine.timers.max-loaded:10000}") int maxLoaded) {
+        if (refillIntervalSeconds >= windowSeconds) {
+            throw new IllegalArgumentException("L'intervalle de rechargement des timers (" + refillIntervalSeconds
+                    + " s) doit être inférieur à la fenêtre (" + windowSeconds + " s)");
+        }
+        if (leaseSeconds <= refillIntervalSeconds) {
+            throw new IllegalArgumentException("La durée du bail des timers (" + leaseSeconds
+                    + " s) doit dépasser l'intervalle de rechargement (" + refillIntervalSeconds + " s)");
+        }
+        this.timerRepository = timerRepository;
+        this.node = node;
+        this.processAutomationService = processAutomationService;
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.refillIntervalMillis = TimeUnit.SECONDS.toMillis(refillIntervalSeconds);
+        this.refillBatchSize = refillBatchSize;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxLoaded = maxLoaded;
+        this.wheel = new TimingWheel(tickMillis, wheelSize, windowMillis, System.currentTimeMillis());
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timer-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "timer-executor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Le rechargement et la rotation partagent le même thread : la roue n'a qu'un seul rédacteur régulier
+        ticker.scheduleWithFixedDelay(this::refill, 0, refillIntervalMillis, TimeUnit.MILLISECONDS);
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        ticker.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        if (enabled) {
+            try {
+                // Timers repris par les autres nœuds dès leur prochain rechargement, sans attendre l'expiration
+                int released = timerRepository.releaseLeases(node.getId());
+                log.info("{} bail(aux) de timer libéré(s) à l'arrêt du nœud {}", released, node.getId());
+            } catch (Exception e) {
+                log.warn("Impossible de libérer les baux des timers du nœud {}: {}", node.getId(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void schedule(Timer timer) {
+        if (!enabled || timer.getId() == null || toMillis(timer.getDueDate()) >= loadedUntilMillis
+                || loadedCount() >= maxLoaded) {
+            // Hors de la fenêtre chargée ou nœud saturé : le prochain rechargement d'un nœud le prendra en compte
+            return;
+        }
+        // Bail pris dans la transaction de création : aucun autre nœud ne charge le timer
+        if (!timerRepository.lease(timer.getId(), node.getId(), LocalDateTime.now().plusSeconds(leaseSeconds))) {
+            return;
+        }
+        TimingWheel.Entry entry = toEntry(timer);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Avant le commit, le déclenchement ne verrait pas encore la ligne
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    load(entry);
+                }
+            });
+        } else {
+            load(entry);
+        }
+    }
+
+    @Override
+    public void cancel(Long timerId) {
+        synchronized (wheel) {
+            wheel.remove(timerId);
+        }
+    }
+
+    private void tick() {
+        try {
+            List<TimingWheel.Entry> expired = new ArrayList<>();
+            synchronized (wheel) {
+                wheel.advance(System.currentTimeMillis(), expired::add);
+            }
+            submit(expired);
+        } catch (Exception e) {
+            // Une exception arrêterait la rotation planifiée
+            log.error("Erreur lors de la rotation de la roue des timers: {}", e.getMessage(), e);
+        }
+    }
+
+    private void refill() {
+        try {
+            long nowMillis = System.currentTimeMillis();
+            long horizonMillis = nowMillis + windowMillis;
+            LocalDateTime now = toLocalDateTime(nowMillis);
+            LocalDateTime horizon = toLocalDateTime(horizonMillis);
+            LocalDateTime leaseExpiresAt = now.plusSeconds(leaseSeconds);
+            // Baux des timers déjà chargés prolongés avant que d'autres nœuds ne puissent les prendre
+            timerRepository.renewLeases(node.getId(), leaseExpiresAt);
+
+            LocalDateTime afterDueDate = FIRST_DUE_DATE;
+            long afterId = 0;
+            int loaded = 0;
+            List<Timer> page;
+            do {
+                if (loadedCount() >= maxLoaded) {
+                    // Nœud saturé : les timers restants sont laissés aux autres nœuds
+                    break;
+                }
+                page = timerRepository.leasePending(node.getId(), now, horizon, leaseExpiresAt,
+                        afterDueDate, afterId, refillBatchSize);
+                // Timers déjà échus (redémarrage, retard) : déclenchés par lots dès la page chargée
+                List<TimingWheel.Entry> expired = new ArrayList<>();
+                synchronized (wheel) {
+                    for (Timer timer : page) {
+                        if (wheel.add(toEntry(timer), expired::add)) {
+                            loaded++;
+                        }
+                    }
+                }
+                submit(expired);
+                if (!page.isEmpty()) {
+                    Timer last = page.get(page.size() - 1);
+                    afterDueDate = last.getDueDate();
+                    afterId = last.getId();
+                }
+            } while (page.size() == refillBatchSize);
+            loadedUntilMillis = horizonMillis;
+            if (loaded > 0) {
+                log.debug("{} timer(s) chargé(s) jusqu'à {} ({} en mémoire)", loaded, horizon, loadedCount());
+            }
+        } catch (Exception e) {
+            log.error("Erreur lors du rechargement des timers: {}", e.getMessage(), e);
+        }
+    }
+
+    private int loadedCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void load(TimingWheel.Entry entry) {
+        List<TimingWheel.Entry> expired = new ArrayList<>(1);
+        synchronized (wheel) {
+            wheel.add(entry, expired::add);
+        }
+        submit(expired);
+    }
+
+    private void submit(List<TimingWheel.Entry> expired) {
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> batch = new ArrayList<>(Math.min(batchSize, expired.size() - from));
+            for (TimingWheel.Entry entry : expired.subList(from, Math.min(from + batchSize, expired.size()))) {
+                batch.add(entry.id());
+            }
+            workers.execute(() -> fire(batch));
+        }
+    }
+
+    private void fire(List<Long> batch) {
+        try {
+            int fired = processAutomationService.getObject().fireTimers(batch);
+            log.debug("{} timer(s) déclenché(s) sur un lot de {}", fired, batch.size());
+        } catch (Exception e) {
+            // Les timers restent en attente en base : le prochain rechargement les reprend
+            log.error("Erreur lors du déclenchement d'un lot de {} timers: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private TimingWheel.Entry toEntry(Timer timer) {
+        return new TimingWheel.Entry(timer.getId(), wheel.tickOf(toMillis(timer.getDueDate())));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
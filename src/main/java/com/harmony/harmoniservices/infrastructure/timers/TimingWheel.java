@@ -0,0 +1,145 @@
+package com.harmony.harmoniservices.infrastructure.timers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Roue temporelle hiérarchique.
+ * Le niveau 0 compte des ticks, chaque niveau supérieur des tours complets du niveau inférieur ;
+ * un timer est rangé au niveau le plus bas qui couvre son délai, puis redescend d'un niveau
+ * chaque fois que la roue inférieure fait un tour. Ajout et expiration en temps constant,
+ * quel que soit le nombre de timers chargés.
+ * Non thread-safe : l'appelant synchronise les accès.
+ */
+final class TimingWheel {
+
+    /**
+     * Timer chargé en mémoire
+     */
+    record Entry(long id, long dueTick) {
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Entry>[][] slots;
+    private final long[] tickUnits;
+    private final Set<Long> loaded = new HashSet<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis Durée d'un tick
+     * @param wheelSize Nombre d'emplacements par niveau
+     * @param horizonMillis Délai maximal à couvrir ; fixe le nombre de niveaux
+     * @param nowMillis Instant initial
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, long horizonMillis, long nowMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Roue temporelle invalide: tick " + tickMillis + " ms, " + wheelSize + " emplacements");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+
+        // Autant de niveaux que nécessaire pour couvrir l'horizon
+        List<Long> units = new ArrayList<>();
+        long unit = 1;
+        long horizonTicks = Math.max(1, horizonMillis / tickMillis);
+        do {
+            units.add(unit);
+            unit = Math.multiplyExact(unit, wheelSize);
+        } while (unit <= horizonTicks);
+        this.tickUnits = units.stream().mapToLong(Long::longValue).toArray();
+        this.slots = new List[tickUnits.length][wheelSize];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Charge un timer
+     * @param entry Timer, son échéance convertie par {@link #tickOf}
+     * @return false si le timer est déjà chargé ; un timer échu est passé immédiatement à l'expiration
+     */
+    boolean add(Entry entry, Consumer<Entry> expired) {
+        if (!loaded.add(entry.id())) {
+            return false;
+        }
+        place(entry, expired);
+        return true;
+    }
+
+    /**
+     * Retire un timer ; son emplacement est purgé paresseusement à l'expiration
+     */
+    void remove(long id) {
+        loaded.remove(id);
+    }
+
+    int size() {
+        return loaded.size();
+    }
+
+    /**
+     * Tick d'une échéance, arrondi au tick supérieur : un timer n'expire jamais avant son échéance
+     */
+    long tickOf(long epochMillis) {
+        return (epochMillis + tickMillis - 1) / tickMillis;
+    }
+
+    /**
+     * Fait tourner la roue jusqu'à un instant et transmet les timers échus
+     * @param nowMillis Instant courant
+     * @param expired Reçoit chaque timer échu (encore chargé)
+     */
+    void advance(long nowMillis, Consumer<Entry> expired) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+            // Cascade du niveau le plus haut vers le bas : un timer peut descendre de plusieurs niveaux en un tick
+            for (int level = tickUnits.length - 1; level > 0; level--) {
+                if (currentTick % tickUnits[level] == 0) {
+                    for (Entry entry : drain(level, (int) ((currentTick / tickUnits[level]) % wheelSize))) {
+                        if (loaded.contains(entry.id())) {
+                            place(entry, expired);
+                        }
+                    }
+                }
+            }
+            for (Entry entry : drain(0, (int) (currentTick % wheelSize))) {
+                if (loaded.contains(entry.id())) {
+                    place(entry, expired);
+                }
+            }
+        }
+    }
+
+    private void place(Entry entry, Consumer<Entry> expired) {
+        long delay = entry.dueTick() - currentTick;
+        if (delay <= 0) {
+            loaded.remove(entry.id());
+            expired.accept(entry);
+            return;
+        }
+        int level = 0;
+        while (level < tickUnits.length - 1 && delay >= tickUnits[level + 1]) {
+            level++;
+        }
+        int slot = (int) ((entry.dueTick() / tickUnits[level]) % wheelSize);
+        List<Entry> bucket = slots[level][slot];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            slots[level][slot] = bucket;
+        }
+        bucket.add(entry);
+    }
+
+    private List<Entry> drain(int level, int slot) {
+        List<Entry> bucket = slots[level][slot];
+        if (bucket == null) {
+            return List.of();
+        }
+        slots[level][slot] = null;
+        return bucket;
+    }
+}
@@ -8,10 +8,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.harmony.harmoniservices.core.domain.commands.CompleteRequest;
+import com.harmony.harmoniservices.core.domain.commands.CompletionResult;
+import com.harmony.harmoniservices.core.domain.commands.StartRequest;
+import com.harmony.harmoniservices.core.domain.commands.TaskPage;
 import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
 import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
 import com.harmony.harmoniservices.core.domain.entities.TaskConfiguration;
 import com.harmony.harmoniservices.core.domain.entities.User;
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
 import com.harmony.harmoniservices.core.ports.cases.ProcessAutomationService;
 import com.harmony.harmoniservices.core.ports.cases.UserService;
 import com.harmony.harmoniservices.presentation.dto.responses.ApiResponse;
@@ -32,10 +39,11 @@ public class ProcessController {
     @PostMapping("/deploy")
     public ResponseEntity<ApiResponse<BpmnProcess>> deployProcess(
             @RequestParam("file") MultipartFile file,
-            @RequestParam("name") String name) {
+            @RequestParam("name") String name,
+            @RequestParam(value = "historyLevel", required = false) HistoryLevel historyLevel) {
         try {
             String processDefinition = new String(file.getBytes());
-            BpmnProcess process = processAutomationService.deployProcess(processDefinition, name);
+            BpmnProcess process = processAutomationService.deployProcess(processDefinition, name, historyLevel);
             return ResponseEntity
                     .status(HttpStatus.CREATED)
                     .body(ApiResponse.success("Processus déployé avec succès", process));
@@ -70,6 +78,29 @@ public class ProcessController {
         }
     }
 
+    /**
+     * Démarre un lot d'instances d'un même processus
+     */
+    @PostMapping("/{processId}/start/bulk")
+    public ResponseEntity<ApiResponse<List<Long>>> startProcesses(
+            @PathVariable("processId") String processId,
+            @RequestParam("userId") Long userId,
+            @RequestBody List<StartRequest> requests) {
+        try {
+            User user = userService.findUser(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("Utilisateur non trouvé: " + userId));
+            
+            List<Long> instanceIds = processAutomationService.startProcesses(processId, user, requests);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(instanceIds.size() + " instances de processus démarrées avec succès", instanceIds));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail("Erreur lors du démarrage des instances de processus: " + e.getMessage()));
+        }
+    }
+
     /**
      * Complète une tâche dans une instance de processus
      */
@@ -93,13 +124,42 @@ public class ProcessController {
     }
 
     /**
-     * Récupère les tâches assignées à un utilisateur
+     * Complète un lot de tâches et rapporte le résultat de chacune
+     */
+    @PostMapping("/tasks/complete/bulk")
+    public ResponseEntity<ApiResponse<List<CompletionResult>>> completeTasks(
+            @RequestParam("userId") Long userId,
+            @RequestBody List<CompleteRequest> requests) {
+        try {
+            User user = userService.findUser(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("Utilisateur non trouvé: " + userId));
+            
+            List<CompletionResult> results = processAutomationService.completeTasks(user, requests);
+            long completed = results.stream().filter(CompletionResult::isSuccess).count();
+            return ResponseEntity.ok(ApiResponse.success(
+                    completed + " tâche(s) sur " + results.size() + " complétée(s)", results));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail("Erreur lors de l'achèvement des tâches: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Récupère une page des tâches assignées à un utilisateur (pagination par curseur)
      */
     @GetMapping("/tasks/user/{userId}")
-    public ResponseEntity<ApiResponse<List<ProcessInstance>>> getUserTasks(@PathVariable("userId") Long userId) {
+    public ResponseEntity<ApiResponse<TaskPage>> getUserTasks(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         try {
-            List<ProcessInstance> instances = processAutomationService.getUserTasks(userId);
-            return ResponseEntity.ok(ApiResponse.success("Tâches utilisateur récupérées avec succès", instances));
+            TaskPage tasks = processAutomationService.getUserTasks(userId, after, size);
+            return ResponseEntity.ok(ApiResponse.success("Tâches utilisateur récupérées avec succès", tasks));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -108,13 +168,20 @@ public class ProcessController {
     }
 
     /**
-     * Récupère les tâches disponibles pour un groupe
+     * Récupère une page des tâches disponibles pour un groupe (pagination par curseur)
      */
     @GetMapping("/tasks/group/{groupId}")
-    public ResponseEntity<ApiResponse<List<ProcessInstance>>> getGroupTasks(@PathVariable("groupId") Long groupId) {
+    public ResponseEntity<ApiResponse<TaskPage>> getGroupTasks(
+            @PathVariable("groupId") Long groupId,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         try {
-            List<ProcessInstance> instances = processAutomationService.getGroupTasks(groupId);
-            return ResponseEntity.ok(ApiResponse.success("Tâches groupe récupérées avec succès", instances));
+            TaskPage tasks = processAutomationService.getGroupTasks(groupId, after, size);
+            return ResponseEntity.ok(ApiResponse.success("Tâches groupe récupérées avec succès", tasks));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -140,6 +207,28 @@ public class ProcessController {
         }
     }
 
+    /**
+     * Récupère une page de l'historique d'exécution d'une instance de processus
+     */
+    @GetMapping("/instance/{instanceId}/history")
+    public ResponseEntity<ApiResponse<List<ProcessExecution>>> getExecutionHistory(
+            @PathVariable("instanceId") Long instanceId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        try {
+            List<ProcessExecution> history = processAutomationService.getExecutionHistory(instanceId, page, size);
+            return ResponseEntity.ok(ApiResponse.success("Historique d'exécution récupéré avec succès", history));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("Erreur lors de la récupération de l'historique d'exécution: " + e.getMessage()));
+        }
+    }
+
     /**
      * Configure une tâche dans un processus
      */
@@ -222,4 +311,46 @@ public class ProcessController {
                     .body(ApiResponse.fail("Erreur lors de l'arrêt de l'instance de processus: " + e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Déploie une table de décision (tâches de règle métier)
+     */
+    @PostMapping("/decisions")
+    public ResponseEntity<ApiResponse<DecisionTable>> deployDecision(@RequestBody DecisionTable table) {
+        try {
+            DecisionTable deployed = processAutomationService.deployDecision(table);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("Table de décision déployée avec succès", deployed));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail("Table de décision invalide: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("Erreur lors du déploiement de la table de décision: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Évalue une table de décision déployée
+     */
+    @PostMapping("/decisions/{decisionKey}/evaluate")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> evaluateDecision(
+            @PathVariable("decisionKey") String decisionKey,
+            @RequestBody(required = false) Map<String, Object> variables) {
+        try {
+            Map<String, Object> result = processAutomationService.evaluateDecision(decisionKey, variables);
+            return ResponseEntity.ok(ApiResponse.success("Décision évaluée avec succès", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.fail(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.fail("Erreur lors de l'évaluation de la décision: " + e.getMessage()));
+        }
+    }
+}
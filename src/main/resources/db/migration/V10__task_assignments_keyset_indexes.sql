@@ -0,0 +1,9 @@
+-- Boîtes de réception paginées par curseur sur l'ID de l'entrée : (destinataire, id) remplace
+-- (destinataire, instance) pour que chaque page soit un parcours d'index borné
+DROP INDEX IF EXISTS idx_task_assignments_user;
+DROP INDEX IF EXISTS idx_task_assignments_group;
+
+CREATE INDEX IF NOT EXISTS idx_task_assignments_user_keyset
+    ON task_assignments (user_id, id) WHERE user_id IS NOT NULL AND NOT suspended;
+CREATE INDEX IF NOT EXISTS idx_task_assignments_group_keyset
+    ON task_assignments (group_id, id) WHERE group_id IS NOT NULL AND NOT suspended;
@@ -0,0 +1,10 @@
+-- Tables de décision des tâches de règle métier ; la définition (entrées, sorties, règles) est en JSON
+CREATE TABLE IF NOT EXISTS decision_tables (
+    id BIGSERIAL PRIMARY KEY,
+    decision_key VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255),
+    hit_policy VARCHAR(20) NOT NULL,
+    definition TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
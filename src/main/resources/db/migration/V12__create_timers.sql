@@ -0,0 +1,16 @@
+-- Timers BPMN persistés : seuls ceux de la fenêtre proche sont chargés en mémoire,
+-- par parcours de l'index partiel des échéances en attente
+CREATE SEQUENCE IF NOT EXISTS timers_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS timers (
+    id BIGINT PRIMARY KEY,
+    process_instance_id BIGINT NOT NULL,
+    element_id VARCHAR(255) NOT NULL,
+    due_date TIMESTAMP(6) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_timers_pending_due ON timers (due_date, id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_timers_instance ON timers (process_instance_id);
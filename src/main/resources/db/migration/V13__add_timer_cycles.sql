@@ -0,0 +1,3 @@
+-- Timers cycliques (ISO 8601 R[n]/... ou cron) : la même ligne est replanifiée à chaque occurrence
+ALTER TABLE timers ADD COLUMN IF NOT EXISTS cycle VARCHAR(255);
+ALTER TABLE timers ADD COLUMN IF NOT EXISTS repeats_remaining INTEGER;
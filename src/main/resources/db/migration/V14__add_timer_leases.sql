@@ -0,0 +1,7 @@
+-- Baux des timers : en déploiement à plusieurs nœuds, chaque timer en attente n'est chargé que par
+-- le nœud qui détient le bail ; un bail expiré (nœud arrêté) est repris par un autre nœud
+ALTER TABLE timers ADD COLUMN IF NOT EXISTS lock_owner VARCHAR(255);
+ALTER TABLE timers ADD COLUMN IF NOT EXISTS lock_expires_at TIMESTAMP(6);
+
+-- Renouvellement et libération des baux d'un nœud
+CREATE INDEX IF NOT EXISTS idx_timers_pending_lock_owner ON timers (lock_owner) WHERE status = 'PENDING';
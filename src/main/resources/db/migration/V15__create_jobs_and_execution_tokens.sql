@@ -0,0 +1,53 @@
+-- Tables d'exécution créées jusqu'ici par Hibernate (ddl-auto) : jetons d'exécution, compteurs
+-- des jointures et travaux asynchrones. Sur une base existante, seules les colonnes et les index
+-- manquants sont ajoutés.
+CREATE SEQUENCE IF NOT EXISTS execution_tokens_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS execution_tokens (
+    id BIGINT PRIMARY KEY,
+    process_instance_id BIGINT NOT NULL,
+    element_id VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_execution_tokens_instance_status ON execution_tokens (process_instance_id, status);
+CREATE INDEX IF NOT EXISTS idx_execution_tokens_instance_element ON execution_tokens (process_instance_id, element_id);
+
+-- Compteurs d'arrivées des passerelles convergentes, incrémentés par upsert sur la clé unique
+CREATE TABLE IF NOT EXISTS gateway_join_counters (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    process_instance_id BIGINT NOT NULL,
+    gateway_id VARCHAR(255) NOT NULL,
+    arrived INTEGER NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_gateway_join_counters ON gateway_join_counters (process_instance_id, gateway_id);
+
+-- Travaux asynchrones, acquis sous bail (lock_owner, lock_expires_at) avec FOR UPDATE SKIP LOCKED
+CREATE SEQUENCE IF NOT EXISTS jobs_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id BIGINT PRIMARY KEY,
+    process_instance_id BIGINT NOT NULL,
+    element_id VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    retries INTEGER,
+    due_date TIMESTAMP(6) NOT NULL,
+    locked_at TIMESTAMP(6),
+    lock_owner VARCHAR(255),
+    lock_expires_at TIMESTAMP(6),
+    error_message TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS lock_owner VARCHAR(255);
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS lock_expires_at TIMESTAMP(6);
+
+-- Acquisition : travaux PENDING échus et travaux RUNNING au bail expiré
+CREATE INDEX IF NOT EXISTS idx_jobs_status_due_date ON jobs (status, due_date);
+CREATE INDEX IF NOT EXISTS idx_jobs_status_lock_expires_at ON jobs (status, lock_expires_at);
+CREATE INDEX IF NOT EXISTS idx_jobs_instance ON jobs (process_instance_id);
@@ -0,0 +1,8 @@
+-- Colonne de version pour le verrouillage optimiste des instances de processus.
+-- Sur une base neuve, la table est créée ensuite par Hibernate avec la colonne.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'process_instances') THEN
+        ALTER TABLE process_instances ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+    END IF;
+END $$;
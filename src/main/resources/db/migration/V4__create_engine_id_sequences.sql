@@ -0,0 +1,23 @@
+-- Séquences d'identifiants du moteur, incrémentées par 50 (allocationSize des entités).
+-- Sur une base existante, elles reprennent après le plus grand identifiant déjà attribué.
+CREATE SEQUENCE IF NOT EXISTS process_instances_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS process_executions_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS execution_tokens_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+DECLARE
+    max_id BIGINT;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'process_instances') THEN
+        SELECT COALESCE(MAX(id), 0) INTO max_id FROM process_instances;
+        PERFORM setval('process_instances_seq', max_id + 50, false);
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'process_executions') THEN
+        SELECT COALESCE(MAX(id), 0) INTO max_id FROM process_executions;
+        PERFORM setval('process_executions_seq', max_id + 50, false);
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'execution_tokens') THEN
+        SELECT COALESCE(MAX(id), 0) INTO max_id FROM execution_tokens;
+        PERFORM setval('execution_tokens_seq', max_id + 50, false);
+    END IF;
+END $$;
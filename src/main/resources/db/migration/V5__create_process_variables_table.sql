@@ -0,0 +1,25 @@
+-- Variables de processus stockées une ligne par variable, à la place du blob JSON
+-- de process_instances.process_variables réécrit en entier à chaque étape.
+CREATE TABLE IF NOT EXISTS process_variables (
+    instance_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value_json TEXT,
+    PRIMARY KEY (instance_id, name)
+);
+
+-- Reprise des variables existantes, puis suppression de l'ancienne colonne
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'process_instances' AND column_name = 'process_variables') THEN
+        INSERT INTO process_variables (instance_id, name, value_json)
+        SELECT pi.id, kv.key, kv.value::text
+        FROM process_instances pi,
+             jsonb_each(pi.process_variables::jsonb) kv
+        WHERE pi.process_variables IS NOT NULL
+          AND left(btrim(pi.process_variables), 1) = '{'
+        ON CONFLICT (instance_id, name) DO NOTHING;
+
+        ALTER TABLE process_instances DROP COLUMN process_variables;
+    END IF;
+END $$;
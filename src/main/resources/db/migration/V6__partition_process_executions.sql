@@ -0,0 +1,84 @@
+-- Historique d'exécution partitionné par mois sur created_at.
+-- Les partitions anciennes sont détachées et archivées par HistoryPartitionMaintenance ;
+-- le volume interrogé ne dépend ainsi que de la période de rétention.
+
+-- Crée (si besoin) la partition du mois commençant à month_start
+CREATE OR REPLACE FUNCTION create_process_executions_partition(month_start DATE) RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF process_executions FOR VALUES FROM (%L) TO (%L)',
+        'process_executions_' || to_char(month_start, '"y"YYYY"m"MM'),
+        month_start,
+        (month_start + INTERVAL '1 month')::date);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Crée les partitions du mois courant et des months_ahead mois suivants
+CREATE OR REPLACE FUNCTION ensure_process_executions_partitions(months_ahead INT) RETURNS VOID AS $$
+DECLARE
+    current_month DATE := date_trunc('month', now())::date;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        PERFORM create_process_executions_partition((current_month + make_interval(months => i))::date);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    legacy BOOLEAN := FALSE;
+    month_start DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table pt
+               JOIN pg_class c ON c.oid = pt.partrelid
+               WHERE c.relname = 'process_executions') THEN
+        RETURN;
+    END IF;
+
+    -- Table existante non partitionnée : elle est renommée puis recopiée
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'process_executions') THEN
+        ALTER TABLE process_executions RENAME TO process_executions_legacy;
+        ALTER INDEX IF EXISTS process_executions_pkey RENAME TO process_executions_legacy_pkey;
+        DROP INDEX IF EXISTS idx_process_executions_instance;
+        legacy := TRUE;
+    END IF;
+
+    -- La clé primaire d'une table partitionnée doit inclure la clé de partitionnement
+    CREATE TABLE process_executions (
+        id BIGINT NOT NULL,
+        task_id VARCHAR(255),
+        task_name VARCHAR(255),
+        process_instance_id BIGINT,
+        status VARCHAR(255),
+        start_time TIMESTAMP(6),
+        end_time TIMESTAMP(6),
+        duration_millis BIGINT,
+        executor_id BIGINT,
+        result TEXT,
+        error_message TEXT,
+        input_variables TEXT,
+        output_variables TEXT,
+        created_at TIMESTAMP(6) NOT NULL,
+        PRIMARY KEY (id, created_at)
+    ) PARTITION BY RANGE (created_at);
+
+    -- Filet de sécurité pour les lignes hors des partitions mensuelles
+    CREATE TABLE process_executions_default PARTITION OF process_executions DEFAULT;
+
+    IF legacy THEN
+        FOR month_start IN SELECT DISTINCT date_trunc('month', created_at)::date FROM process_executions_legacy LOOP
+            PERFORM create_process_executions_partition(month_start);
+        END LOOP;
+        INSERT INTO process_executions (id, task_id, task_name, process_instance_id, status, start_time, end_time,
+                duration_millis, executor_id, result, error_message, input_variables, output_variables, created_at)
+        SELECT id, task_id, task_name, process_instance_id, status, start_time, end_time,
+                duration_millis, executor_id, result, error_message, input_variables, output_variables, created_at
+        FROM process_executions_legacy;
+        DROP TABLE process_executions_legacy;
+    END IF;
+END $$;
+
+SELECT ensure_process_executions_partitions(2);
+
+-- Index déclaré sur la table mère : chaque partition, présente ou future, reçoit le sien
+CREATE INDEX IF NOT EXISTS idx_process_executions_instance
+    ON process_executions (process_instance_id, start_time, id);
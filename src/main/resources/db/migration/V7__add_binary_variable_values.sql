@@ -0,0 +1,3 @@
+-- Valeurs des variables au format binaire (Smile avec octet de type).
+-- Les lignes existantes gardent leur JSON (value_json) et sont converties à leur prochaine écriture.
+ALTER TABLE process_variables ADD COLUMN IF NOT EXISTS value_bin BYTEA;
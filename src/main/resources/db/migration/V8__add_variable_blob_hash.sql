@@ -0,0 +1,2 @@
+-- Variables volumineuses stockées hors de la base : la ligne ne garde que l'empreinte SHA-256
+ALTER TABLE process_variables ADD COLUMN IF NOT EXISTS blob_hash VARCHAR(64);
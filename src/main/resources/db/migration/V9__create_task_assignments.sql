@@ -0,0 +1,59 @@
+-- Liste de travail dénormalisée : une ligne par tâche en attente et par destinataire.
+-- Les boîtes de réception sont lues par des parcours d'index seuls, sans jointure sur les instances.
+CREATE SEQUENCE IF NOT EXISTS task_assignments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task_assignments (
+    id BIGINT PRIMARY KEY,
+    token_id BIGINT,
+    process_instance_id BIGINT NOT NULL,
+    task_id VARCHAR(255) NOT NULL,
+    user_id BIGINT,
+    group_id BIGINT,
+    suspended BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_assignments_user
+    ON task_assignments (user_id, process_instance_id) WHERE user_id IS NOT NULL AND NOT suspended;
+CREATE INDEX IF NOT EXISTS idx_task_assignments_group
+    ON task_assignments (group_id, process_instance_id) WHERE group_id IS NOT NULL AND NOT suspended;
+CREATE INDEX IF NOT EXISTS idx_task_assignments_token ON task_assignments (token_id);
+CREATE INDEX IF NOT EXISTS idx_task_assignments_instance ON task_assignments (process_instance_id);
+CREATE INDEX IF NOT EXISTS idx_task_assignments_task ON task_assignments (task_id);
+
+-- Reprise des tâches en attente des instances existantes : jetons actifs, ou tâche courante
+-- pour les instances antérieures aux jetons d'exécution
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'process_instances')
+       AND EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'task_configurations')
+       AND EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'task_authorized_groups') THEN
+        CREATE TEMPORARY TABLE pending_tasks (token_id BIGINT, process_instance_id BIGINT, task_id VARCHAR(255), suspended BOOLEAN)
+            ON COMMIT DROP;
+
+        IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'execution_tokens') THEN
+            INSERT INTO pending_tasks
+            SELECT t.id, p.id, t.element_id, p.status = 'SUSPENDED'
+            FROM execution_tokens t JOIN process_instances p ON p.id = t.process_instance_id
+            WHERE t.status = 'ACTIVE' AND p.status IN ('ACTIVE', 'SUSPENDED');
+        END IF;
+
+        INSERT INTO pending_tasks
+        SELECT NULL, p.id, p.current_task_id, p.status = 'SUSPENDED'
+        FROM process_instances p
+        WHERE p.status IN ('ACTIVE', 'SUSPENDED') AND p.current_task_id IS NOT NULL
+          AND NOT EXISTS (SELECT 1 FROM pending_tasks pt WHERE pt.process_instance_id = p.id);
+
+        INSERT INTO task_assignments (id, token_id, process_instance_id, task_id, user_id, group_id, suspended, created_at)
+        SELECT nextval('task_assignments_seq'), pt.token_id, pt.process_instance_id, pt.task_id, r.user_id, r.group_id,
+               pt.suspended, now()
+        FROM pending_tasks pt
+        JOIN (
+            SELECT tc.task_id, tc.assigned_user_id AS user_id, CAST(NULL AS BIGINT) AS group_id
+            FROM task_configurations tc WHERE tc.assigned_user_id IS NOT NULL
+            UNION ALL
+            SELECT tc.task_id, NULL, tag.group_id
+            FROM task_configurations tc JOIN task_authorized_groups tag ON tag.task_configuration_id = tc.id
+        ) r ON r.task_id = pt.task_id;
+    END IF;
+END $$;
@@ -0,0 +1,155 @@
+package com.harmony.harmoniservices.core.cases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.harmony.harmoniservices.core.domain.entities.Event;
+import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
+import com.harmony.harmoniservices.core.domain.entities.Timer;
+import com.harmony.harmoniservices.core.domain.services.TimerScheduler;
+import com.harmony.harmoniservices.core.ports.repository.TimerRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CamundaEventHandlerImplTest {
+
+    private static final Long INSTANCE_ID = 42L;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TimerRepository timerRepository;
+    @Mock
+    private TimerScheduler timerScheduler;
+
+    // Table des timers simulée : les IDs suivent l'ordre d'insertion
+    private final List<Timer> timers = new ArrayList<>();
+
+    private CamundaEventHandlerImpl eventHandler;
+
+    @BeforeEach
+    void setUp() {
+        eventHandler = new CamundaEventHandlerImpl(eventPublisher, timerRepository, timerScheduler);
+        lenient().when(timerRepository.save(any())).thenAnswer(invocation -> {
+            Timer timer = invocation.getArgument(0);
+            timer.setId((long) timers.size() + 1);
+            timers.add(timer);
+            return timer;
+        });
+        lenient().when(timerRepository.findLatest(anyLong(), anyString())).thenAnswer(invocation -> timers.stream()
+                .filter(timer -> Objects.equals(timer.getProcessInstanceId(), invocation.getArgument(0))
+                        && timer.getElementId().equals(invocation.getArgument(1))
+                        && !"CANCELLED".equals(timer.getStatus()))
+                .reduce((first, second) -> second));
+    }
+
+    @Test
+    void firesABoundedCycleOncePerRepetitionWhenTheTokenLoopsBack() {
+        Event relance = timerEvent("relance", "R3/PT10H");
+
+        // Trois retours du chemin sur l'événement : une occurrence chacun, dix heures après la précédente
+        Timer first = timer(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>()));
+        assertThat(first.getRepeatsRemaining()).isEqualTo(2);
+        assertThat(first.getDueDate()).isCloseTo(LocalDateTime.now().plusHours(10), within(1, ChronoUnit.MINUTES));
+        fire(first);
+
+        Timer second = timer(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>()));
+        assertThat(second.getRepeatsRemaining()).isEqualTo(1);
+        assertThat(second.getDueDate()).isEqualTo(first.getDueDate().plusHours(10));
+        fire(second);
+
+        Timer third = timer(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>()));
+        assertThat(third.getRepeatsRemaining()).isZero();
+        assertThat(third.getDueDate()).isEqualTo(second.getDueDate().plusHours(10));
+        fire(third);
+
+        // Répétitions épuisées : plus aucun timer
+        assertThat(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>())).isNull();
+        assertThat(timers).hasSize(3);
+    }
+
+    @Test
+    void keepsUnboundedCyclesRunning() {
+        Event relance = timerEvent("relance", "R/PT10M");
+
+        Timer previous = timer(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>()));
+        for (int occurrence = 0; occurrence < 5; occurrence++) {
+            fire(previous);
+            Timer next = timer(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>()));
+            assertThat(next.getRepeatsRemaining()).isNull();
+            assertThat(next.getDueDate()).isEqualTo(previous.getDueDate().plusMinutes(10));
+            previous = next;
+        }
+    }
+
+    @Test
+    void catchesUpAMissedOccurrenceOnlyOnce() {
+        Event relance = timerEvent("relance", "R5/PT10M");
+        LocalDateTime missed = LocalDateTime.now().minusHours(2);
+        timers.add(Timer.builder().id(1L).processInstanceId(INSTANCE_ID).elementId("relance")
+                .dueDate(missed).status("FIRED").cycle("R5/PT10M").repeatsRemaining(3).build());
+
+        Timer next = timer(eventHandler.scheduleTimerEvent(instance(), relance, new HashMap<>()));
+
+        assertThat(next.getRepeatsRemaining()).isEqualTo(2);
+        assertThat(next.getDueDate()).isAfter(missed.plusMinutes(10)).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    void restartsTheCountWhenThePreviousTimerWasCancelledOrHadAnotherCycle() {
+        timers.add(Timer.builder().id(1L).processInstanceId(INSTANCE_ID).elementId("relance")
+                .dueDate(LocalDateTime.now()).status("FIRED").cycle("R2/PT1H").repeatsRemaining(0).build());
+        timers.add(Timer.builder().id(2L).processInstanceId(INSTANCE_ID).elementId("relance")
+                .dueDate(LocalDateTime.now()).status("CANCELLED").cycle("R3/PT10H").repeatsRemaining(1).build());
+
+        Timer timer = timer(eventHandler.scheduleTimerEvent(instance(), timerEvent("relance", "R3/PT10H"),
+                new HashMap<>()));
+
+        assertThat(timer.getRepeatsRemaining()).isEqualTo(2);
+        assertThat(timer.getCycle()).isEqualTo("R3/PT10H");
+    }
+
+    private static Event timerEvent(String id, String cycle) {
+        return Event.builder()
+                .id(id)
+                .eventDefinition("TimerEventDefinition: Cycle=" + cycle)
+                .build();
+    }
+
+    private static ProcessInstance instance() {
+        return ProcessInstance.builder()
+                .id(INSTANCE_ID)
+                .status("ACTIVE")
+                .build();
+    }
+
+    private Timer timer(String timerId) {
+        assertThat(timerId).isNotNull();
+        Optional<Timer> timer = timers.stream().filter(t -> t.getId().equals(Long.valueOf(timerId))).findFirst();
+        assertThat(timer).isPresent();
+        assertThat(timer.get().getStatus()).isEqualTo("PENDING");
+        return timer.get();
+    }
+
+    private static void fire(Timer timer) {
+        timer.setStatus("FIRED");
+    }
+}
@@ -0,0 +1,125 @@
+package com.harmony.harmoniservices.core.cases;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comparaison de l'évaluation d'une passerelle exclusive à cinq flux sortants : analyse de chaque
+ * condition à chaque appel (comportement d'origine), conditions en cache interprétées (OFF) ou
+ * compilées en bytecode (MIXED), et résultats mémorisés pour une instance dont les variables ne
+ * changent pas. Les variables retenues font évaluer les quatre conditions avant le choix du flux.
+ * Lancement : exécuter {@link #main} depuis le classpath de test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayEvaluatorBenchmark {
+
+    private static final Long PROCESS_INSTANCE_ID = 1L;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final Gateway gateway = Gateway.builder().id("montant").build();
+
+    private List<SequenceFlow> flows;
+    private Map<String, Object> variables;
+    private GatewayEvaluatorImpl interpreted;
+    private GatewayEvaluatorImpl mixed;
+
+    @Setup
+    public void setUp() {
+        flows = List.of(
+                flow("direction", "#montant > 100000"),
+                flow("siege", "#montant > 50000 and #region == 'EU'"),
+                flow("manager", "#montant > 10000 or #client['risque'] == 'eleve'"),
+                flow("controle", "#montant gt 1000 and #client['anciennete'] lt 2"),
+                flow("automatique", null));
+        variables = new HashMap<>();
+        variables.put("montant", 5000);
+        variables.put("region", "EU");
+        variables.put("client", Map.of("risque", "faible", "anciennete", 1));
+        interpreted = evaluator(SpelCompilerMode.OFF);
+        mixed = evaluator(SpelCompilerMode.MIXED);
+        interpreted.compileConditions(flows);
+        mixed.compileConditions(flows);
+    }
+
+    @Benchmark
+    public SequenceFlow uncached() {
+        // Avant le cache : contexte complet recopié, nettoyage et analyse de chaque condition à chaque appel
+        for (SequenceFlow flow : flows) {
+            String condition = flow.getConditionExpression();
+            if (condition == null) {
+                continue;
+            }
+            EvaluationContext context = new StandardEvaluationContext();
+            for (Map.Entry<String, Object> entry : variables.entrySet()) {
+                context.setVariable(entry.getKey(), entry.getValue());
+            }
+            String cleaned = condition.replace(" gt ", " > ").replace(" lt ", " < ")
+                    .replace(" and ", " && ").replace(" or ", " || ");
+            if (Boolean.TRUE.equals(parser.parseExpression(cleaned).getValue(context, Boolean.class))) {
+                return flow;
+            }
+        }
+        return flows.get(flows.size() - 1);
+    }
+
+    @Benchmark
+    public SequenceFlow cachedInterpreted() {
+        return interpreted.evaluateExclusiveGateway(gateway, flows, variables, null);
+    }
+
+    @Benchmark
+    public SequenceFlow cachedMixed() {
+        return mixed.evaluateExclusiveGateway(gateway, flows, variables, null);
+    }
+
+    @Benchmark
+    public SequenceFlow memoizedMixed() {
+        return mixed.evaluateExclusiveGateway(gateway, flows, variables, PROCESS_INSTANCE_ID);
+    }
+
+    private static GatewayEvaluatorImpl evaluator(SpelCompilerMode compilerMode) {
+        return new GatewayEvaluatorImpl(new SimpleMeterRegistry(), compilerMode, 10_000, 100_000, 30);
+    }
+
+    private static SequenceFlow flow(String id, String conditionExpression) {
+        return SequenceFlow.builder()
+                .id(id)
+                .conditionExpression(conditionExpression)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GatewayEvaluatorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
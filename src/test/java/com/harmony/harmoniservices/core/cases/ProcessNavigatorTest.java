@@ -0,0 +1,258 @@
+package com.harmony.harmoniservices.core.cases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.entities.Event;
+import com.harmony.harmoniservices.core.domain.entities.ExecutionToken;
+import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
+import com.harmony.harmoniservices.core.domain.entities.ProcessInstance;
+import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
+import com.harmony.harmoniservices.core.domain.entities.Task;
+import com.harmony.harmoniservices.core.domain.enums.HistoryLevel;
+import com.harmony.harmoniservices.core.domain.enums.TypeEvent;
+import com.harmony.harmoniservices.core.domain.enums.TypeGateway;
+import com.harmony.harmoniservices.core.domain.enums.TypeTask;
+import com.harmony.harmoniservices.core.domain.graph.ProcessGraph;
+import com.harmony.harmoniservices.core.domain.services.DecisionCache;
+import com.harmony.harmoniservices.core.domain.services.GatewayEvaluator;
+import com.harmony.harmoniservices.core.domain.services.HistoryWriter;
+import com.harmony.harmoniservices.core.ports.repository.ExecutionTokenRepository;
+import com.harmony.harmoniservices.core.ports.repository.JobRepository;
+import com.harmony.harmoniservices.core.ports.repository.TaskAssignmentRepository;
+import com.harmony.harmoniservices.core.ports.repository.TaskConfigurationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessNavigatorTest {
+
+    private static final Long INSTANCE_ID = 42L;
+
+    @Mock
+    private GatewayEvaluator gatewayEvaluator;
+    @Mock
+    private DecisionCache decisionCache;
+    @Mock
+    private ExecutionTokenRepository executionTokenRepository;
+    @Mock
+    private HistoryWriter historyWriter;
+    @Mock
+    private TaskAssignmentRepository taskAssignmentRepository;
+    @Mock
+    private TaskConfigurationRepository taskConfigurationRepository;
+    @Mock
+    private JobRepository jobRepository;
+    @Mock
+    private TaskDelegateRegistry taskDelegates;
+
+    private ProcessNavigator navigator;
+
+    @BeforeEach
+    void setUp() {
+        navigator = new ProcessNavigator(gatewayEvaluator, decisionCache, executionTokenRepository, historyWriter,
+                taskAssignmentRepository, taskConfigurationRepository, jobRepository, taskDelegates, new ObjectMapper());
+        ReflectionTestUtils.setField(navigator, "jobMaxRetries", 3);
+        ReflectionTestUtils.setField(navigator, "defaultHistoryLevel", HistoryLevel.NONE);
+        // Passerelle parallèle : tous les flux sortants sont suivis
+        lenient().when(gatewayEvaluator.evaluateParallelGateway(any(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    void forksOneTokenPerBranchWhenStarting() {
+        // start -> fork -> (a, b)
+        ProcessGraph graph = ProcessGraph.compile(process(
+                flow("start", "fork"), flow("fork", "a"), flow("fork", "b")));
+        ProcessNavigator.Step step = navigator.begin(newInstance(), graph);
+
+        navigator.start(step);
+        navigator.updateInstanceState(step);
+
+        assertThat(step.getReached()).extracting(ExecutionToken::getElementId).containsExactlyInAnyOrder("a", "b");
+        assertThat(step.getTokens()).filteredOn(ExecutionToken::isActive).hasSize(2);
+        assertThat(step.getInstance().getStatus()).isEqualTo("ACTIVE");
+        assertThat(step.getJoinArrivals()).isEmpty();
+    }
+
+    @Test
+    void countsJoinArrivalsReachedAtStartAndPersistsThem() {
+        // start -> fork -> (a, join) ; a -> join -> end : une branche atteint la jointure dès le démarrage
+        ProcessGraph graph = ProcessGraph.compile(process(
+                flow("start", "fork"), flow("fork", "a"), flow("fork", "join"),
+                flow("a", "join"), flow("join", "end")));
+        ProcessNavigator.Step step = navigator.begin(newInstance(), graph);
+
+        navigator.start(step);
+
+        assertThat(step.getReached()).extracting(ExecutionToken::getElementId).containsExactly("a");
+        assertThat(step.getJoinArrivals()).containsEntry("join", 1);
+        verify(executionTokenRepository, never()).incrementJoinCounter(any(), any());
+
+        when(executionTokenRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        navigator.persist(step, INSTANCE_ID);
+
+        verify(executionTokenRepository).addJoinArrivals(INSTANCE_ID, "join", 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsTheInitialVariablesOfANewInstanceAtFullLevel() {
+        ReflectionTestUtils.setField(navigator, "defaultHistoryLevel", HistoryLevel.FULL);
+        ProcessGraph graph = ProcessGraph.compile(process(flow("start", "a")));
+        ProcessInstance instance = newInstance();
+        instance.getProcessVariables().put("montant", 1500);
+        ProcessNavigator.Step step = navigator.begin(instance, graph);
+        step.record(ProcessExecution.builder().taskId("start").build(), Map.of("montant", 1500));
+        navigator.start(step);
+        when(executionTokenRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Sauvegarde de l'instance avant persist : ses variables sont marquées comme écrites
+        instance.setId(INSTANCE_ID);
+        instance.markVariablesClean();
+        navigator.persist(step, INSTANCE_ID);
+
+        ArgumentCaptor<List<ProcessExecution>> history = ArgumentCaptor.forClass(List.class);
+        verify(historyWriter).write(history.capture());
+        assertThat(history.getValue()).singleElement().satisfies(execution -> {
+            assertThat(execution.getProcessInstanceId()).isEqualTo(INSTANCE_ID);
+            assertThat(execution.getInputVariables()).isEqualTo("{\"montant\":1500}");
+            assertThat(execution.getOutputVariables()).isEqualTo("{\"montant\":1500}");
+        });
+    }
+
+    @Test
+    void firesTheJoinWhenTheLastBranchArrives() {
+        ProcessGraph graph = ProcessGraph.compile(process(
+                flow("start", "fork"), flow("fork", "a"), flow("fork", "join"),
+                flow("a", "join"), flow("join", "end")));
+        ProcessNavigator.Step step = navigator.begin(existingInstance(), graph);
+        ExecutionToken token = activeToken(7L, "a");
+        when(executionTokenRepository.incrementJoinCounter(INSTANCE_ID, "join")).thenReturn(2);
+        when(executionTokenRepository.findActiveByProcessInstanceId(INSTANCE_ID)).thenReturn(List.of());
+
+        navigator.leave(step, token);
+        navigator.updateInstanceState(step);
+
+        verify(executionTokenRepository).resetJoinCounter(INSTANCE_ID, "join");
+        assertThat(token.getElementId()).isEqualTo("end");
+        assertThat(token.isActive()).isFalse();
+        assertThat(step.getInstance().getStatus()).isEqualTo("COMPLETED");
+        assertThat(step.getInstance().getCurrentTaskId()).isNull();
+    }
+
+    @Test
+    void consumesTheTokenWhileOtherBranchesAreMissing() {
+        // start -> fork -> (a, b) -> join -> end
+        ProcessGraph graph = ProcessGraph.compile(process(
+                flow("start", "fork"), flow("fork", "a"), flow("fork", "b"),
+                flow("a", "join"), flow("b", "join"), flow("join", "end")));
+        ProcessNavigator.Step step = navigator.begin(existingInstance(), graph);
+        ExecutionToken token = activeToken(7L, "a");
+        when(executionTokenRepository.incrementJoinCounter(INSTANCE_ID, "join")).thenReturn(1);
+        when(executionTokenRepository.findActiveByProcessInstanceId(INSTANCE_ID))
+                .thenReturn(List.of(token, activeToken(8L, "b")));
+
+        navigator.leave(step, token);
+        navigator.updateInstanceState(step);
+
+        verify(executionTokenRepository, never()).resetJoinCounter(any(), any());
+        assertThat(token.getElementId()).isEqualTo("join");
+        assertThat(token.isActive()).isFalse();
+        assertThat(step.getReached()).isEmpty();
+        assertThat(step.getInstance().getStatus()).isEqualTo("ACTIVE");
+        assertThat(step.getInstance().getCurrentTaskId()).isEqualTo("b");
+    }
+
+    @Test
+    void fallsBackOnTheCurrentTaskForInstancesStartedBeforeTokens() {
+        ProcessInstance instance = existingInstance();
+        instance.setCurrentTaskId("a");
+        when(executionTokenRepository.lockActiveToken(INSTANCE_ID, "a")).thenReturn(Optional.empty());
+        when(executionTokenRepository.existsActiveToken(INSTANCE_ID)).thenReturn(false);
+
+        ExecutionToken token = navigator.acquire(instance, "a");
+
+        assertThat(token).isNotNull();
+        assertThat(token.getId()).isNull();
+        assertThat(token.getElementId()).isEqualTo("a");
+    }
+
+    @Test
+    void refusesTheFallbackOnceTheInstanceIsNoLongerActive() {
+        ProcessInstance instance = existingInstance();
+        instance.setStatus("TERMINATED");
+        instance.setCurrentTaskId("a");
+        when(executionTokenRepository.lockActiveToken(INSTANCE_ID, "a")).thenReturn(Optional.empty());
+
+        assertThat(navigator.acquire(instance, "a")).isNull();
+        verify(executionTokenRepository, never()).existsActiveToken(any());
+    }
+
+    private static BpmnProcess process(SequenceFlow... flows) {
+        return BpmnProcess.builder()
+                .id("commande")
+                .tasks(List.of(
+                        Task.builder().id("a").typeTask(TypeTask.USER).build(),
+                        Task.builder().id("b").typeTask(TypeTask.USER).build()))
+                .events(List.of(
+                        Event.builder().id("start").typeEvent(TypeEvent.START).build(),
+                        Event.builder().id("end").typeEvent(TypeEvent.END).build()))
+                .gateways(List.of(
+                        Gateway.builder().id("fork").typeGateway(TypeGateway.PARALLEL).build(),
+                        Gateway.builder().id("join").typeGateway(TypeGateway.PARALLEL).build()))
+                .sequenceFlows(List.of(flows))
+                .build();
+    }
+
+    private static SequenceFlow flow(String source, String target) {
+        return SequenceFlow.builder()
+                .id(source + "-" + target)
+                .source(Task.builder().id(source).build())
+                .target(Task.builder().id(target).build())
+                .build();
+    }
+
+    private static ProcessInstance newInstance() {
+        return ProcessInstance.builder()
+                .status("ACTIVE")
+                .processVariables(new HashMap<>())
+                .build();
+    }
+
+    private static ProcessInstance existingInstance() {
+        ProcessInstance instance = newInstance();
+        instance.setId(INSTANCE_ID);
+        return instance;
+    }
+
+    private static ExecutionToken activeToken(Long id, String elementId) {
+        return ExecutionToken.builder()
+                .id(id)
+                .processInstanceId(INSTANCE_ID)
+                .elementId(elementId)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
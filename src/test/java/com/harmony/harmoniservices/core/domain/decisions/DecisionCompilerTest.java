@@ -0,0 +1,162 @@
+package com.harmony.harmoniservices.core.domain.decisions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.harmony.harmoniservices.core.domain.entities.DecisionRule;
+import com.harmony.harmoniservices.core.domain.entities.DecisionTable;
+import com.harmony.harmoniservices.core.domain.enums.HitPolicy;
+
+class DecisionCompilerTest {
+
+    @Test
+    void returnsTheSingleMatchingRuleWithUniquePolicy() {
+        CompiledDecision decision = DecisionCompiler.compile(remise(HitPolicy.UNIQUE,
+                rule(List.of("'EU'", "< 1000"), "0"),
+                rule(List.of("'EU'", ">= 1000"), "0.1"),
+                rule(List.of("'US','CA'", "-"), "0.05")));
+
+        assertThat(decision.getHitPolicy()).isEqualTo(HitPolicy.UNIQUE);
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 1500)))
+                .containsExactly(Map.of("taux", new BigDecimal("0.1")));
+        assertThat(decision.evaluate(Map.of("region", "CA", "amount", 10)))
+                .containsExactly(Map.of("taux", new BigDecimal("0.05")));
+        assertThat(decision.evaluate(Map.of("region", "JP", "amount", 10))).isEmpty();
+    }
+
+    @Test
+    void failsWhenSeveralRulesMatchWithUniquePolicy() {
+        CompiledDecision decision = DecisionCompiler.compile(remise(HitPolicy.UNIQUE,
+                rule(List.of("'EU'", "-"), "0"),
+                rule(List.of("-", "> 100"), "0.1")));
+
+        assertThatThrownBy(() -> decision.evaluate(Map.of("region", "EU", "amount", 500)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("remise");
+    }
+
+    @Test
+    void keepsTheFirstMatchInTableOrderWithFirstPolicy() {
+        CompiledDecision decision = DecisionCompiler.compile(remise(HitPolicy.FIRST,
+                rule(List.of("-", "[1000..5000]"), "0.1"),
+                rule(List.of("'EU'", "-"), "0.02"),
+                rule(List.of("-", "-"), "0")));
+
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 2000)))
+                .containsExactly(Map.of("taux", new BigDecimal("0.1")));
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 10)))
+                .containsExactly(Map.of("taux", new BigDecimal("0.02")));
+        assertThat(decision.evaluate(Map.of("region", "US", "amount", 10)))
+                .containsExactly(Map.of("taux", 0L));
+    }
+
+    @Test
+    void collectsEveryMatchWithCollectPolicy() {
+        CompiledDecision decision = DecisionCompiler.compile(remise(HitPolicy.COLLECT,
+                rule(List.of("-", "> 100"), "'volume'"),
+                rule(List.of("'EU'", "-"), "'zone'"),
+                rule(List.of("'US'", "-"), "'export'")));
+
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 500)))
+                .containsExactly(Map.of("taux", "volume"), Map.of("taux", "zone"));
+        assertThat(decision.evaluateToVariables(Map.of("region", "EU", "amount", 500), null))
+                .containsEntry("remise", List.of("volume", "zone"));
+        assertThat(decision.evaluateToVariables(Map.of("region", "EU", "amount", 5), "motifs"))
+                .containsEntry("motifs", List.of("zone"));
+    }
+
+    @Test
+    void shapesSingleResultsAsProcessVariables() {
+        CompiledDecision decision = DecisionCompiler.compile(remise(null,
+                rule(List.of("'EU'", "-"), "0.1")));
+
+        assertThat(decision.getHitPolicy()).isEqualTo(HitPolicy.UNIQUE);
+        assertThat(decision.evaluateToVariables(Map.of("region", "EU", "amount", 1), null))
+                .isEqualTo(Map.of("taux", new BigDecimal("0.1")));
+        assertThat(decision.evaluateToVariables(Map.of("region", "EU", "amount", 1), "remiseAppliquee"))
+                .isEqualTo(Map.of("remiseAppliquee", new BigDecimal("0.1")));
+        assertThat(decision.evaluateToVariables(Map.of("region", "US", "amount", 1), null)).isEmpty();
+    }
+
+    @Test
+    void matchesNumbersWhateverTheirJavaType() {
+        CompiledDecision decision = DecisionCompiler.compile(remise(HitPolicy.FIRST,
+                rule(List.of("-", "1000"), "'exact'"),
+                rule(List.of("-", "]0..1000["), "'sous'")));
+
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 1000L))).containsExactly(Map.of("taux", "exact"));
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 1000.0))).containsExactly(Map.of("taux", "exact"));
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", new BigDecimal("1E+3"))))
+                .containsExactly(Map.of("taux", "exact"));
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 999.5))).containsExactly(Map.of("taux", "sous"));
+        assertThat(decision.evaluate(Map.of("region", "EU", "amount", 0))).isEmpty();
+    }
+
+    @Test
+    void readsNestedInputExpressions() {
+        CompiledDecision decision = DecisionCompiler.compile(DecisionTable.builder()
+                .decisionKey("segment")
+                .inputs(List.of("client.region", "${client.score}"))
+                .outputs(List.of("segment"))
+                .rules(List.of(rule(List.of("\"EU\"", ">= 80"), "'premium'")))
+                .build());
+
+        assertThat(decision.evaluate(Map.of("client", Map.of("region", "EU", "score", 90))))
+                .containsExactly(Map.of("segment", "premium"));
+    }
+
+    @Test
+    void parsesCellTests() {
+        DecisionCompiler.CellTest any = DecisionCompiler.parseTest(" - ");
+        assertThat(any.any()).isTrue();
+
+        DecisionCompiler.CellTest list = DecisionCompiler.parseTest("'a,b', 3, true, [1..2], < 0");
+        assertThat(list.any()).isFalse();
+        assertThat(list.values()).containsExactlyInAnyOrder("a,b", BigDecimal.valueOf(3), true);
+        assertThat(list.intervals()).containsExactly(
+                new IntervalIndex.Interval(BigDecimal.ONE, true, BigDecimal.valueOf(2), true),
+                new IntervalIndex.Interval(null, false, BigDecimal.ZERO, false));
+
+        assertThat(DecisionCompiler.parseOutput("-")).isNull();
+        assertThat(DecisionCompiler.parseOutput("42")).isEqualTo(42L);
+        assertThat(DecisionCompiler.parseOutput("'42'")).isEqualTo("42");
+        assertThat(DecisionCompiler.parseOutput("texte libre")).isEqualTo("texte libre");
+    }
+
+    @Test
+    void rejectsInvalidTables() {
+        assertThatThrownBy(() -> DecisionCompiler.compile(DecisionTable.builder().outputs(List.of("x")).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DecisionCompiler.compile(DecisionTable.builder().decisionKey("sans-sortie").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DecisionCompiler.compile(remise(HitPolicy.FIRST, rule(List.of("'EU'"), "0"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Règle 1");
+        assertThatThrownBy(() -> DecisionCompiler.parseTest("not('EU')")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DecisionCompiler.parseTest("null")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DecisionCompiler.parseTest("> beaucoup")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DecisionTable remise(HitPolicy hitPolicy, DecisionRule... rules) {
+        return DecisionTable.builder()
+                .decisionKey("remise")
+                .hitPolicy(hitPolicy)
+                .inputs(List.of("region", "amount"))
+                .outputs(List.of("taux"))
+                .rules(List.of(rules))
+                .build();
+    }
+
+    private static DecisionRule rule(List<String> inputEntries, String output) {
+        return DecisionRule.builder()
+                .inputEntries(inputEntries)
+                .outputEntries(List.of(output))
+                .build();
+    }
+}
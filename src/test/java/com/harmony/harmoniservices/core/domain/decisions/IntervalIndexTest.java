@@ -0,0 +1,82 @@
+package com.harmony.harmoniservices.core.domain.decisions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalIndexTest {
+
+    @Test
+    void respectsInclusiveAndExclusiveBounds() {
+        // Règle 0 : [1..10], règle 1 : ]1..10[, règle 2 : ]10..20]
+        IntervalIndex index = new IntervalIndex(List.of(
+                interval(1, true, 10, true),
+                interval(1, false, 10, false),
+                interval(10, false, 20, true)), List.of(0, 1, 2));
+
+        assertThat(rules(index, "0.5")).isEmpty();
+        assertThat(rules(index, "1")).containsExactly(0);
+        assertThat(rules(index, "5")).containsExactly(0, 1);
+        assertThat(rules(index, "10")).containsExactly(0);
+        assertThat(rules(index, "10.01")).containsExactly(2);
+        assertThat(rules(index, "20")).containsExactly(2);
+        assertThat(rules(index, "20.5")).isEmpty();
+    }
+
+    @Test
+    void handlesUnboundedIntervals() {
+        // Règle 0 : < 0, règle 1 : >= 100, règle 2 : <= 100
+        IntervalIndex index = new IntervalIndex(List.of(
+                new IntervalIndex.Interval(null, false, BigDecimal.ZERO, false),
+                new IntervalIndex.Interval(BigDecimal.valueOf(100), true, null, false),
+                new IntervalIndex.Interval(null, false, BigDecimal.valueOf(100), true)), List.of(0, 1, 2));
+
+        assertThat(rules(index, "-1000000")).containsExactly(0, 2);
+        assertThat(rules(index, "0")).containsExactly(2);
+        assertThat(rules(index, "100")).containsExactly(1, 2);
+        assertThat(rules(index, "1E+9")).containsExactly(1);
+    }
+
+    @Test
+    void keepsARuleUntilAllOfItsOverlappingIntervalsClose() {
+        // Règle 0 : [0..5] et [3..8] ; règle 1 : [6..7]
+        IntervalIndex index = new IntervalIndex(List.of(
+                interval(0, true, 5, true),
+                interval(3, true, 8, true),
+                interval(6, true, 7, true)), List.of(0, 0, 1));
+
+        assertThat(rules(index, "4")).containsExactly(0);
+        assertThat(rules(index, "5.5")).containsExactly(0);
+        assertThat(rules(index, "6.5")).containsExactly(0, 1);
+        assertThat(rules(index, "7.5")).containsExactly(0);
+        assertThat(rules(index, "8.1")).isEmpty();
+    }
+
+    @Test
+    void ignoresEmptyIntervals() {
+        IntervalIndex index = new IntervalIndex(List.of(
+                interval(5, false, 5, false),
+                interval(5, true, 5, true)), List.of(0, 1));
+
+        assertThat(rules(index, "5")).containsExactly(1);
+        assertThat(rules(index, "4.9")).isEmpty();
+    }
+
+    @Test
+    void answersWithoutAnyBound() {
+        IntervalIndex index = new IntervalIndex(List.of(new IntervalIndex.Interval(null, false, null, false)), List.of(3));
+
+        assertThat(rules(index, "42")).containsExactly(3);
+    }
+
+    private static IntervalIndex.Interval interval(long low, boolean lowInclusive, long high, boolean highInclusive) {
+        return new IntervalIndex.Interval(BigDecimal.valueOf(low), lowInclusive, BigDecimal.valueOf(high), highInclusive);
+    }
+
+    private static List<Integer> rules(IntervalIndex index, String value) {
+        return index.stab(new BigDecimal(value)).stream().boxed().toList();
+    }
+}
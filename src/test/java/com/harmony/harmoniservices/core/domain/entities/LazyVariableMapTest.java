@@ -0,0 +1,117 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class LazyVariableMapTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<Object> document = () -> {
+        loads.incrementAndGet();
+        return "contenu volumineux";
+    };
+
+    @Test
+    void loadsDeferredValuesOnFirstReadOnly() {
+        LazyVariableMap variables = new LazyVariableMap();
+        variables.putDeferred("document", document);
+
+        assertThat(variables.containsKey("document")).isTrue();
+        assertThat(variables.keySet()).containsExactly("document");
+        assertThat(variables.size()).isEqualTo(1);
+        assertThat(loads).hasValue(0);
+
+        assertThat(variables.get("document")).isEqualTo("contenu volumineux");
+        assertThat(variables.get("document")).isEqualTo("contenu volumineux");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadsThroughEntriesButNotThroughKeys() {
+        LazyVariableMap variables = new LazyVariableMap();
+        variables.put("montant", 10);
+        variables.putDeferred("document", document);
+
+        for (String name : variables.keySet()) {
+            assertThat(name).isNotNull();
+        }
+        assertThat(loads).hasValue(0);
+
+        Map<String, Object> resolved = new HashMap<>();
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
+            resolved.put(entry.getKey(), entry.getValue());
+        }
+        assertThat(resolved).containsEntry("document", "contenu volumineux").containsEntry("montant", 10);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void replacesAndRemovesWithoutLoading() {
+        LazyVariableMap variables = new LazyVariableMap();
+        variables.putDeferred("document", document);
+        variables.putDeferred("piece", document);
+
+        assertThat(variables.put("document", "remplacé")).isNull();
+        assertThat(variables.remove("piece")).isNull();
+        assertThat(loads).hasValue(0);
+        assertThat(variables.keySet()).containsExactly("document");
+        assertThat(variables.get("document")).isEqualTo("remplacé");
+    }
+
+    @Test
+    void returnsThePreviousValueOnceLoaded() {
+        LazyVariableMap variables = new LazyVariableMap();
+        variables.putDeferred("document", document);
+        variables.get("document");
+
+        assertThat(variables.put("document", "nouveau")).isEqualTo("contenu volumineux");
+    }
+
+    @Test
+    void copiesWithoutLoadingAndReloadsInEachCopy() {
+        LazyVariableMap variables = new LazyVariableMap();
+        variables.put("montant", 10);
+        variables.putDeferred("document", document);
+        variables.get("document");
+
+        Map<String, Object> copy = LazyVariableMap.copyOf(variables);
+        assertThat(copy).isInstanceOf(LazyVariableMap.class);
+        assertThat(copy.keySet()).containsExactlyInAnyOrder("montant", "document");
+        assertThat(loads).hasValue(1);
+
+        // La copie ne partage pas la valeur chargée : le cache ne retient pas les valeurs volumineuses
+        assertThat(copy.get("document")).isEqualTo("contenu volumineux");
+        assertThat(loads).hasValue(2);
+
+        copy.put("montant", 20);
+        assertThat(variables.get("montant")).isEqualTo(10);
+    }
+
+    @Test
+    void copiesPlainMaps() {
+        assertThat(LazyVariableMap.copyOf(null)).isNull();
+        Map<String, Object> copy = LazyVariableMap.copyOf(Map.of("montant", 10));
+        copy.put("region", "EU");
+        assertThat(copy).containsOnlyKeys("montant", "region");
+    }
+
+    @Test
+    void tracksOnlyChangedVariablesWithoutLoadingTheOthers() {
+        LazyVariableMap variables = new LazyVariableMap();
+        variables.put("montant", 10);
+        variables.putDeferred("document", document);
+        ProcessInstance instance = ProcessInstance.builder().id(1L).processVariables(variables).build();
+
+        instance.putVariables(Map.of("montant", 20));
+
+        assertThat(instance.dirtyVariableNames()).containsExactly("montant");
+        assertThat(loads).hasValue(0);
+    }
+}
@@ -0,0 +1,70 @@
+package com.harmony.harmoniservices.core.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ProcessInstanceTest {
+
+    @Test
+    void startsCleanWhenBuiltFromPersistedVariables() {
+        ProcessInstance instance = ProcessInstance.builder()
+                .id(1L)
+                .processVariables(new HashMap<>(Map.of("montant", 10, "region", "EU")))
+                .build();
+
+        assertThat(instance.dirtyVariableNames()).isEmpty();
+    }
+
+    @Test
+    void marksOnlyMergedVariablesAsChanged() {
+        ProcessInstance instance = ProcessInstance.builder()
+                .processVariables(new HashMap<>(Map.of("montant", 10, "region", "EU")))
+                .build();
+
+        instance.putVariables(Map.of("montant", 20, "valide", true));
+        instance.putVariables(Map.of());
+        instance.putVariables(null);
+
+        assertThat(instance.dirtyVariableNames()).containsExactlyInAnyOrder("montant", "valide");
+        assertThat(instance.getProcessVariables()).containsEntry("montant", 20).containsEntry("region", "EU");
+    }
+
+    @Test
+    void createsTheVariableMapOnFirstMerge() {
+        ProcessInstance instance = new ProcessInstance();
+
+        instance.putVariables(Map.of("montant", 10));
+
+        assertThat(instance.getProcessVariables()).containsEntry("montant", 10);
+        assertThat(instance.dirtyVariableNames()).containsExactly("montant");
+    }
+
+    @Test
+    void marksPreviousAndNewNamesWhenReplacingAllVariables() {
+        ProcessInstance instance = ProcessInstance.builder()
+                .processVariables(new HashMap<>(Map.of("ancienne", 1, "commune", 2)))
+                .build();
+
+        instance.setProcessVariables(new HashMap<>(Map.of("commune", 3, "nouvelle", 4)));
+
+        // La variable disparue est modifiée : elle doit être supprimée à l'écriture
+        assertThat(instance.dirtyVariableNames()).containsExactlyInAnyOrder("ancienne", "commune", "nouvelle");
+    }
+
+    @Test
+    void forgetsChangesOnceMarkedClean() {
+        ProcessInstance instance = new ProcessInstance();
+        instance.putVariables(Map.of("montant", 10));
+
+        instance.markVariablesClean();
+        instance.putVariables(Map.of("region", "EU"));
+
+        assertThat(instance.dirtyVariableNames()).containsExactly("region");
+        assertThatThrownBy(() -> instance.dirtyVariableNames().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
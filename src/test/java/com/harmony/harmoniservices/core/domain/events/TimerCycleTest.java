@@ -0,0 +1,90 @@
+package com.harmony.harmoniservices.core.domain.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+class TimerCycleTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 31, 10, 0);
+
+    @Test
+    void parsesUnboundedTimeIntervals() {
+        TimerCycle cycle = TimerCycle.parse("R/PT10M");
+
+        assertThat(cycle.getRepetitions()).isNull();
+        assertThat(cycle.first(NOW)).isEqualTo(NOW.plusMinutes(10));
+        assertThat(cycle.getExpression()).isEqualTo("R/PT10M");
+    }
+
+    @Test
+    void parsesRepetitionCounts() {
+        TimerCycle cycle = TimerCycle.parse(" R5/PT10H ");
+
+        assertThat(cycle.getRepetitions()).isEqualTo(5);
+        assertThat(cycle.first(NOW)).isEqualTo(NOW.plusHours(10));
+    }
+
+    @Test
+    void parsesCalendarPeriodsWithAndWithoutTimePart() {
+        assertThat(TimerCycle.parse("R/P1M").first(NOW)).isEqualTo(LocalDateTime.of(2026, 2, 28, 10, 0));
+        assertThat(TimerCycle.parse("R/P1Y").first(NOW)).isEqualTo(NOW.plusYears(1));
+        assertThat(TimerCycle.parse("R2/P1Y2M10DT2H30M").first(NOW))
+                .isEqualTo(NOW.plusYears(1).plusMonths(2).plusDays(10).plusHours(2).plusMinutes(30));
+    }
+
+    @Test
+    void startsAtTheGivenDate() {
+        TimerCycle cycle = TimerCycle.parse("R3/2026-03-01T08:00:00/P1D");
+
+        assertThat(cycle.getRepetitions()).isEqualTo(3);
+        assertThat(cycle.first(NOW)).isEqualTo(LocalDateTime.of(2026, 3, 1, 8, 0));
+    }
+
+    @Test
+    void convertsOffsetStartDatesToTheEngineZone() {
+        TimerCycle cycle = TimerCycle.parse("R3/2026-03-01T08:00:00Z/PT1H");
+
+        LocalDateTime expected = OffsetDateTime.parse("2026-03-01T08:00:00Z")
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+        assertThat(cycle.first(NOW)).isEqualTo(expected);
+    }
+
+    @Test
+    void parsesCronExpressions() {
+        // Samedi 31 janvier 2026 : prochaine occurrence le lundi suivant à 8 h
+        TimerCycle cycle = TimerCycle.parse("0 0 8 * * MON-FRI");
+
+        assertThat(cycle.getRepetitions()).isNull();
+        assertThat(cycle.first(NOW)).isEqualTo(LocalDateTime.of(2026, 2, 2, 8, 0));
+    }
+
+    @Test
+    void continuesAfterThePreviousOccurrence() {
+        assertThat(TimerCycle.parse("R3/PT10H").nextAfter(NOW)).isEqualTo(NOW.plusHours(10));
+        assertThat(TimerCycle.parse("R/P1M").nextAfter(NOW)).isEqualTo(LocalDateTime.of(2026, 2, 28, 10, 0));
+        // Vendredi 6 février 8 h : occurrence suivante le lundi 9
+        assertThat(TimerCycle.parse("0 0 8 * * MON-FRI").nextAfter(LocalDateTime.of(2026, 2, 6, 8, 0)))
+                .isEqualTo(LocalDateTime.of(2026, 2, 9, 8, 0));
+    }
+
+    @Test
+    void rejectsInvalidExpressions() {
+        assertThatThrownBy(() -> TimerCycle.parse(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("  ")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("0 0 8 * *")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("R/")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("R0/PT1H")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("Rx/PT1H")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("R/PT0S")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("R/PT-5M")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("R/demain/PT1H")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimerCycle.parse("R/a/b/c")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.harmony.harmoniservices.core.domain.expressions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.harmony.harmoniservices.core.domain.enums.TypeTask;
+
+class ElCoercionTest {
+
+    public static class Facture {
+        private final BigDecimal total;
+
+        public Facture(BigDecimal total) {
+            this.total = total;
+        }
+
+        public BigDecimal getTotal() {
+            return total;
+        }
+    }
+
+    @Test
+    void convertsToBoolean() {
+        assertThat(ElCoercion.toBoolean(null)).isFalse();
+        assertThat(ElCoercion.toBoolean(Boolean.TRUE)).isTrue();
+        assertThat(ElCoercion.toBoolean("TRUE")).isTrue();
+        assertThat(ElCoercion.toBoolean("oui")).isFalse();
+        assertThatThrownBy(() -> ElCoercion.toBoolean(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void detectsEmptyValues() {
+        assertThat(ElCoercion.isEmpty(null)).isTrue();
+        assertThat(ElCoercion.isEmpty("")).isTrue();
+        assertThat(ElCoercion.isEmpty(List.of())).isTrue();
+        assertThat(ElCoercion.isEmpty(Map.of())).isTrue();
+        assertThat(ElCoercion.isEmpty(new int[0])).isTrue();
+        assertThat(ElCoercion.isEmpty(" ")).isFalse();
+        assertThat(ElCoercion.isEmpty(0)).isFalse();
+    }
+
+    @Test
+    void comparesEqualityAcrossTypes() {
+        assertThat(ElCoercion.equal(null, null)).isTrue();
+        assertThat(ElCoercion.equal(null, 0)).isFalse();
+        assertThat(ElCoercion.equal(1, 1L)).isTrue();
+        assertThat(ElCoercion.equal(1, 1.0)).isTrue();
+        assertThat(ElCoercion.equal("42", 42)).isTrue();
+        assertThat(ElCoercion.equal("abc", 42)).isFalse();
+        assertThat(ElCoercion.equal(new BigDecimal("1.50"), 1.5)).isTrue();
+        assertThat(ElCoercion.equal("true", Boolean.TRUE)).isTrue();
+        assertThat(ElCoercion.equal(TypeTask.USER, "USER")).isTrue();
+        assertThat(ElCoercion.equal("a", "b")).isFalse();
+    }
+
+    @Test
+    void comparesOrdering() {
+        assertThat(ElCoercion.compare(2, 10)).isNegative();
+        assertThat(ElCoercion.compare("10", 9)).isPositive();
+        assertThat(ElCoercion.compare(2.5, 2)).isPositive();
+        assertThat(ElCoercion.compare(new BigInteger("100000000000000000000"), Long.MAX_VALUE)).isPositive();
+        assertThat(ElCoercion.compare("abc", "abd")).isNegative();
+        assertThatThrownBy(() -> ElCoercion.compare(new Object(), new Object())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void widensArithmeticToTheLargestOperandType() {
+        assertThat(ElCoercion.add(1, 2)).isEqualTo(3L);
+        assertThat(ElCoercion.add(null, 2)).isEqualTo(2L);
+        assertThat(ElCoercion.add("1.5", 1)).isEqualTo(2.5);
+        assertThat(ElCoercion.add(new BigInteger("10"), 1)).isEqualTo(new BigInteger("11"));
+        assertThat(ElCoercion.add(new BigInteger("10"), 0.5)).isEqualTo(new BigDecimal("10.5"));
+        assertThat(ElCoercion.subtract(new BigDecimal("1.10"), 1)).isEqualTo(new BigDecimal("0.10"));
+        assertThat(ElCoercion.multiply(3, "4")).isEqualTo(12L);
+        assertThat(ElCoercion.modulo(7, 3)).isEqualTo(1L);
+        assertThat(ElCoercion.modulo(7.5, 2)).isEqualTo(1.5);
+        assertThatThrownBy(() -> ElCoercion.add("abc", 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dividesAsDecimals() {
+        assertThat(ElCoercion.divide(7, 2)).isEqualTo(3.5);
+        assertThat(ElCoercion.divide(null, null)).isEqualTo(0L);
+        assertThat(ElCoercion.divide(new BigDecimal("10.00"), 4)).isEqualTo(new BigDecimal("2.50"));
+    }
+
+    @Test
+    void negatesNumbers() {
+        assertThat(ElCoercion.negate(null)).isEqualTo(0L);
+        assertThat(ElCoercion.negate(5)).isEqualTo(-5L);
+        assertThat(ElCoercion.negate("2.5")).isEqualTo(-2.5);
+        assertThat(ElCoercion.negate(BigInteger.TEN)).isEqualTo(BigInteger.TEN.negate());
+        assertThatThrownBy(() -> ElCoercion.negate(List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readsPropertiesAndIndexes() {
+        Facture facture = new Facture(new BigDecimal("99.90"));
+
+        assertThat(ElCoercion.property(null, "total")).isNull();
+        assertThat(ElCoercion.property(Map.of("total", 3), "total")).isEqualTo(3);
+        assertThat(ElCoercion.property(facture, "total")).isEqualTo(new BigDecimal("99.90"));
+        assertThatThrownBy(() -> ElCoercion.property(facture, "absent")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(ElCoercion.index(List.of("a", "b"), 1)).isEqualTo("b");
+        assertThat(ElCoercion.index(List.of("a", "b"), "0")).isEqualTo("a");
+        assertThat(ElCoercion.index(List.of("a", "b"), 2)).isNull();
+        assertThat(ElCoercion.index(new int[] { 4, 5 }, 1L)).isEqualTo(5);
+        assertThat(ElCoercion.index(facture, "total")).isEqualTo(new BigDecimal("99.90"));
+        assertThat(ElCoercion.index(Map.of("k", "v"), null)).isNull();
+    }
+}
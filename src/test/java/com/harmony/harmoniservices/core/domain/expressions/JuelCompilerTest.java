@@ -0,0 +1,108 @@
+package com.harmony.harmoniservices.core.domain.expressions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JuelCompilerTest {
+
+    record Client(String region, int score) {
+    }
+
+    @Test
+    void recognisesDelimitedExpressions() {
+        assertThat(JuelCompiler.isJuel("${amount > 10}")).isTrue();
+        assertThat(JuelCompiler.isJuel("  #{approved} ")).isTrue();
+        assertThat(JuelCompiler.isJuel("#amount > 10")).isFalse();
+        assertThat(JuelCompiler.isJuel("${amount > 10")).isFalse();
+    }
+
+    @Test
+    void evaluatesKeywordAndSymbolicOperators() {
+        Map<String, Object> variables = Map.of("amount", 1500, "region", "EU");
+
+        assertThat(JuelCompiler.compile("${amount gt 1000 and region eq 'EU'}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${amount > 1000 && region != \"EU\"}").evaluate(variables)).isFalse();
+        assertThat(JuelCompiler.compile("${amount le 1000 or not (region ne 'EU')}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${amount >= 1500 && amount < 1501}").evaluate(variables)).isTrue();
+    }
+
+    @Test
+    void coercesOperandsLikeEl() {
+        Map<String, Object> variables = Map.of("amount", "1500", "rate", 0.5, "approved", "true");
+
+        assertThat(JuelCompiler.compile("${amount > 999}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${amount == 1500}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${approved}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${amount * rate}").getValue(variables)).isEqualTo(750.0);
+        assertThat(JuelCompiler.compile("${7 / 2}").getValue(variables)).isEqualTo(3.5);
+        assertThat(JuelCompiler.compile("${7 mod 2 + 1}").getValue(variables)).isEqualTo(2L);
+        assertThat(JuelCompiler.compile("${-amount}").getValue(variables)).isEqualTo(-1500L);
+    }
+
+    @Test
+    void treatsMissingValuesAsNull() {
+        Map<String, Object> variables = new HashMap<>();
+
+        assertThat(JuelCompiler.compile("${amount > 10}").evaluate(variables)).isFalse();
+        assertThat(JuelCompiler.compile("${amount < 10}").evaluate(variables)).isFalse();
+        assertThat(JuelCompiler.compile("${amount == null}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${empty amount}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${client.region == 'EU'}").evaluate(variables)).isFalse();
+    }
+
+    @Test
+    void readsPropertiesAndIndexes() {
+        Map<String, Object> variables = Map.of(
+                "client", new Client("EU", 80),
+                "order", Map.of("lines", List.of("a", "b")),
+                "key", "lines");
+
+        assertThat(JuelCompiler.compile("${client.region == 'EU' and client.score ge 80}").evaluate(variables)).isTrue();
+        assertThat(JuelCompiler.compile("${order.lines[1]}").getValue(variables)).isEqualTo("b");
+        assertThat(JuelCompiler.compile("${order[key][5]}").getValue(variables)).isNull();
+        assertThat(JuelCompiler.compile("${not empty order.lines}").evaluate(variables)).isTrue();
+    }
+
+    @Test
+    void evaluatesTernaryExpressions() {
+        CompiledCondition condition = JuelCompiler.compile("${amount > 100 ? 'haut' : 'bas'}");
+
+        assertThat(condition.getValue(Map.of("amount", 150))).isEqualTo("haut");
+        assertThat(condition.getValue(Map.of("amount", 50))).isEqualTo("bas");
+    }
+
+    @Test
+    void reportsTheRootVariablesItReads() {
+        CompiledCondition condition = JuelCompiler.compile("${client.score > limit and order['total'] > 0}");
+
+        assertThat(condition.getVariables()).containsExactlyInAnyOrder("client", "limit", "order");
+        assertThat(condition.getSource()).isEqualTo("${client.score > limit and order['total'] > 0}");
+    }
+
+    @Test
+    void foldsConstantSubExpressions() {
+        assertThat(JuelCompiler.compile("${1 + 2 * 3}").getValue(null)).isEqualTo(7L);
+        assertThat(JuelCompiler.compile("${true ? 'oui' : amount}").getVariables()).contains("amount");
+        assertThat(JuelCompiler.compile("${'l\\'été'}").getValue(null)).isEqualTo("l'été");
+    }
+
+    @Test
+    void rejectsUnsupportedOrMalformedExpressions() {
+        assertThatThrownBy(() -> JuelCompiler.compile("amount > 10")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JuelCompiler.compile("${amount >}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JuelCompiler.compile("${amount 10}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JuelCompiler.compile("${'texte}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JuelCompiler.compile("${a # b}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JuelCompiler.compile("${size(items) > 0}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("appels");
+        assertThatThrownBy(() -> JuelCompiler.compile("${items.size() > 0}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JuelCompiler.compile("${a instanceof b}")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.harmony.harmoniservices.core.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.harmony.harmoniservices.core.domain.entities.BpmnProcess;
+import com.harmony.harmoniservices.core.domain.entities.Event;
+import com.harmony.harmoniservices.core.domain.entities.Gateway;
+import com.harmony.harmoniservices.core.domain.entities.SequenceFlow;
+import com.harmony.harmoniservices.core.domain.entities.Task;
+import com.harmony.harmoniservices.core.domain.enums.TypeEvent;
+import com.harmony.harmoniservices.core.domain.enums.TypeGateway;
+import com.harmony.harmoniservices.core.domain.enums.TypeTask;
+
+class ProcessGraphTest {
+
+    // start -> fork -> (a, b) -> join -> end
+    private final BpmnProcess process = BpmnProcess.builder()
+            .id("commande")
+            .tasks(List.of(
+                    Task.builder().id("a").name("Valider").typeTask(TypeTask.USER).build(),
+                    Task.builder().id("b").name("Facturer").typeTask(TypeTask.SERVICE).build()))
+            .events(List.of(
+                    Event.builder().id("start").typeEvent(TypeEvent.START).build(),
+                    Event.builder().id("end").typeEvent(TypeEvent.END).build()))
+            .gateways(List.of(
+                    Gateway.builder().id("fork").typeGateway(TypeGateway.PARALLEL).build(),
+                    Gateway.builder().id("join").typeGateway(TypeGateway.PARALLEL).build()))
+            .sequenceFlows(List.of(
+                    flow("f1", "start", "fork"),
+                    flow("f2", "fork", "a"),
+                    flow("f3", "fork", "b"),
+                    flow("f4", "a", "join"),
+                    flow("f5", "b", "join"),
+                    flow("f6", "join", "end")))
+            .build();
+
+    private final ProcessGraph graph = ProcessGraph.compile(process);
+
+    @Test
+    void indexesEveryDeclaredElementWithItsKind() {
+        assertThat(graph.getProcessId()).isEqualTo("commande");
+        assertThat(graph.size()).isEqualTo(6);
+
+        assertThat(graph.kind(graph.indexOf("a"))).isEqualTo(NodeKind.USER_TASK);
+        assertThat(graph.kind(graph.indexOf("b"))).isEqualTo(NodeKind.SERVICE_TASK);
+        assertThat(graph.kind(graph.indexOf("start"))).isEqualTo(NodeKind.START_EVENT);
+        assertThat(graph.kind(graph.indexOf("end"))).isEqualTo(NodeKind.END_EVENT);
+        assertThat(graph.kind(graph.indexOf("fork"))).isEqualTo(NodeKind.PARALLEL_GATEWAY);
+
+        int a = graph.indexOf("a");
+        assertThat(graph.nodeId(a)).isEqualTo("a");
+        assertThat(graph.name(a)).isEqualTo("Valider");
+        assertThat(graph.task(a).getId()).isEqualTo("a");
+        assertThat(graph.event(a)).isNull();
+        assertThat(graph.gateway(graph.indexOf("join")).getId()).isEqualTo("join");
+    }
+
+    @Test
+    void returnsNoNodeForUnknownOrNullIds() {
+        assertThat(graph.indexOf("absent")).isEqualTo(ProcessGraph.NO_NODE);
+        assertThat(graph.indexOf(null)).isEqualTo(ProcessGraph.NO_NODE);
+    }
+
+    @Test
+    void precomputesAdjacencyInDeclarationOrder() {
+        int fork = graph.indexOf("fork");
+        int join = graph.indexOf("join");
+
+        assertThat(graph.outDegree(fork)).isEqualTo(2);
+        assertThat(graph.inDegree(fork)).isEqualTo(1);
+        assertThat(graph.outgoingFlows(fork)).extracting(SequenceFlow::getId).containsExactly("f2", "f3");
+        assertThat(graph.nodeId(graph.flowTarget(graph.outgoingFlow(fork, 0)))).isEqualTo("a");
+        assertThat(graph.nodeId(graph.flowTarget(graph.outgoingFlow(fork, 1)))).isEqualTo("b");
+
+        assertThat(graph.inDegree(join)).isEqualTo(2);
+        assertThat(graph.flow(graph.incomingFlow(join, 0)).getId()).isEqualTo("f4");
+        assertThat(graph.nodeId(graph.flowSource(graph.incomingFlow(join, 1)))).isEqualTo("b");
+
+        int end = graph.indexOf("end");
+        assertThat(graph.outDegree(end)).isZero();
+        assertThat(graph.outgoingFlows(end)).isEmpty();
+    }
+
+    @Test
+    void recordsStartEventsAndFirstTask() {
+        assertThat(graph.startEventCount()).isEqualTo(1);
+        assertThat(graph.nodeId(graph.startEvent(0))).isEqualTo("start");
+        assertThat(graph.nodeId(graph.firstTask())).isEqualTo("a");
+    }
+
+    @Test
+    void answersReachability() {
+        assertThat(graph.canReach(graph.indexOf("start"), graph.indexOf("end"))).isTrue();
+        assertThat(graph.canReach(graph.indexOf("a"), graph.indexOf("join"))).isTrue();
+        assertThat(graph.canReach(graph.indexOf("a"), graph.indexOf("b"))).isFalse();
+        assertThat(graph.canReach(graph.indexOf("end"), graph.indexOf("start"))).isFalse();
+        assertThat(graph.canReach(ProcessGraph.NO_NODE, graph.indexOf("end"))).isFalse();
+    }
+
+    @Test
+    void turnsUndeclaredFlowEndsIntoUnknownNodes() {
+        BpmnProcess partial = BpmnProcess.builder()
+                .id("partiel")
+                .events(List.of(Event.builder().id("start").typeEvent(TypeEvent.START).build()))
+                .sequenceFlows(List.of(flow("f1", "start", "sous-processus")))
+                .build();
+
+        ProcessGraph compiled = ProcessGraph.compile(partial);
+
+        int node = compiled.indexOf("sous-processus");
+        assertThat(node).isNotEqualTo(ProcessGraph.NO_NODE);
+        assertThat(compiled.kind(node)).isEqualTo(NodeKind.UNKNOWN);
+        assertThat(compiled.task(node)).isNull();
+        assertThat(compiled.firstTask()).isEqualTo(ProcessGraph.NO_NODE);
+        assertThat(compiled.inDegree(node)).isEqualTo(1);
+    }
+
+    @Test
+    void compilesAnEmptyProcess() {
+        ProcessGraph empty = ProcessGraph.compile(BpmnProcess.builder().id("vide").build());
+
+        assertThat(empty.size()).isZero();
+        assertThat(empty.startEventCount()).isZero();
+        assertThat(empty.firstTask()).isEqualTo(ProcessGraph.NO_NODE);
+    }
+
+    private static SequenceFlow flow(String id, String source, String target) {
+        return SequenceFlow.builder()
+                .id(id)
+                .source(Task.builder().id(source).build())
+                .target(Task.builder().id(target).build())
+                .build();
+    }
+}
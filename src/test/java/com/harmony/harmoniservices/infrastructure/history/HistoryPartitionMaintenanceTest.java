@@ -0,0 +1,110 @@
+package com.harmony.harmoniservices.infrastructure.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+// Catalogue PostgreSQL (pg_tables, pg_inherits) : base PostgreSQL embarquée, partitions anciennes créées à la main
+@JdbcTest(properties = "spring.flyway.enabled=false")
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HistoryPartitionMaintenanceTest {
+
+    private static final List<String> TABLES = List.of(
+            "process_executions_y2020m01", "process_executions_y2020m02", "process_executions_y2020m03");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private HistoryPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        // La création des partitions à venir ne concerne pas l'archivage
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION ensure_process_executions_partitions(months INTEGER) "
+                + "RETURNS VOID AS $$ BEGIN END; $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE TABLE process_executions_y2020m01 (id BIGINT, task_id VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE process_executions_y2020m02 (id BIGINT, task_id VARCHAR(255))");
+        jdbcTemplate.update("INSERT INTO process_executions_y2020m02 VALUES (2, 'valider, puis signer'), (1, 'start')");
+        maintenance = new HistoryPartitionMaintenance(jdbcTemplate, dataSource, transactionTemplate,
+                true, 0, 12, archiveDirectory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TABLES.forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + table));
+    }
+
+    @Test
+    void archivesPartitionsWithTheirHeaderEvenWhenEmpty() throws IOException {
+        maintenance.maintain();
+
+        assertThat(archive("process_executions_y2020m01")).isEqualTo("id,task_id\n");
+        assertThat(archive("process_executions_y2020m02")).isEqualTo("id,task_id\n1,start\n2,\"valider, puis signer\"\n");
+        assertThat(existingTables()).isEmpty();
+    }
+
+    @Test
+    void leavesNoTemporaryFileWhenTheExportFails() throws IOException {
+        // Sans colonne id, l'export (ORDER BY id) échoue : la partition est conservée pour le passage suivant
+        jdbcTemplate.execute("CREATE TABLE process_executions_y2020m03 (task_id VARCHAR(255))");
+
+        maintenance.maintain();
+
+        assertThat(existingTables()).containsExactly("process_executions_y2020m03");
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .allMatch(name -> name.endsWith(".csv.gz"))
+                    .hasSize(2);
+        }
+    }
+
+    private String archive(String partition) throws IOException {
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            Path file = files.filter(path -> path.getFileName().toString().startsWith(partition + "_"))
+                    .findFirst()
+                    .orElseThrow();
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private List<String> existingTables() {
+        return jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE tablename LIKE 'process_executions_y%' ORDER BY tablename",
+                String.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.harmony.harmoniservices.infrastructure.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.harmony.harmoniservices.core.domain.entities.ProcessExecution;
+import com.harmony.harmoniservices.core.ports.repository.ProcessExecutionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class HistoryWriterImplTest {
+
+    @Mock
+    private ProcessExecutionRepository processExecutionRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ProcessExecution> written = new ArrayList<>();
+
+    private HistoryWriterImpl writer;
+
+    @BeforeEach
+    void setUp() {
+        // File d'une seule place et sans thread d'écriture : le surplus est écrit directement par l'appelant
+        writer = new HistoryWriterImpl(processExecutionRepository, transactionManager, meterRegistry, "async", 1, 500, 200);
+        when(processExecutionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ProcessExecution> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(execution -> "invalide".equals(execution.getTaskId()))) {
+                throw new DataIntegrityViolationException("valeur trop longue");
+            }
+            written.addAll(batch);
+            return batch;
+        });
+    }
+
+    @Test
+    void retriesAFailedBatchRowByRowAndCountsTheDroppedEntry() {
+        writer.write(List.of(execution("file"), execution("valider"), execution("invalide"), execution("facturer")));
+
+        assertThat(written).extracting(ProcessExecution::getTaskId).containsExactly("valider", "facturer");
+        // Un lot de trois, puis une reprise par ligne
+        verify(processExecutionRepository, times(4)).saveAll(anyList());
+        assertThat(meterRegistry.get("harmony.history.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void writesASuccessfulBatchAtOnce() {
+        writer.write(List.of(execution("file"), execution("valider"), execution("facturer")));
+
+        assertThat(written).extracting(ProcessExecution::getTaskId).containsExactly("valider", "facturer");
+        verify(processExecutionRepository).saveAll(anyList());
+        assertThat(meterRegistry.get("harmony.history.dropped").counter().count()).isZero();
+    }
+
+    private static ProcessExecution execution(String taskId) {
+        return ProcessExecution.builder()
+                .processInstanceId(42L)
+                .taskId(taskId)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.harmony.harmoniservices.infrastructure.persistance.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class SmileVariableCodecTest {
+
+    private final SmileVariableCodec codec = new SmileVariableCodec();
+
+    @Test
+    void roundTripsTopLevelValuesWithTheirType() {
+        List<Object> values = List.of(
+                "texte", 42, 9_000_000_000L, 3.5, true,
+                LocalDate.of(2026, 1, 15),
+                LocalDateTime.of(2026, 1, 15, 8, 30, 5),
+                OffsetDateTime.of(2026, 1, 15, 8, 30, 0, 0, ZoneOffset.ofHours(2)),
+                Instant.parse("2026-01-15T06:30:00Z"),
+                new BigDecimal("12345678901234567890.123456789"),
+                new BigInteger("123456789012345678901234567890"));
+
+        for (Object value : values) {
+            assertThat(codec.decode(codec.encode(value))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void encodesNestedJavaTimeValuesAsIsoStrings() {
+        Map<String, Object> value = Map.of(
+                "echeance", LocalDate.of(2026, 3, 1),
+                "historique", List.of(Instant.parse("2026-01-15T06:30:00Z"), LocalDateTime.of(2026, 1, 15, 8, 30)));
+
+        Object decoded = codec.decode(codec.encode(value));
+
+        assertThat(decoded).isEqualTo(Map.of(
+                "echeance", "2026-03-01",
+                "historique", List.of("2026-01-15T06:30:00Z", "2026-01-15T08:30:00")));
+    }
+
+    @Test
+    void keepsNestedNumericTypes() {
+        Map<String, Object> value = Map.of("entier", 7, "long", 9_000_000_000L, "decimal", 2.25);
+
+        assertThat(codec.decode(codec.encode(value))).isEqualTo(value);
+    }
+
+    @Test
+    void decodesFromStream() {
+        byte[] encoded = codec.encode(LocalDate.of(2026, 2, 28));
+
+        assertThat(codec.decode(new ByteArrayInputStream(encoded))).isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(codec.decode(new ByteArrayInputStream(new byte[0]))).isNull();
+    }
+
+    @Test
+    void rejectsUnknownTypeTag() {
+        byte[] encoded = codec.encode("valeur");
+        encoded[0] = 99;
+
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
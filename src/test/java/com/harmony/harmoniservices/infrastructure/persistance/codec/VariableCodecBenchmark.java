@@ -0,0 +1,94 @@
+package com.harmony.harmoniservices.infrastructure.persistance.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Comparaison de l'encodage des variables : codec Smile et JSON texte (ancien format value_json).
+ * Lancement : exécuter {@link #main} depuis le classpath de test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableCodecBenchmark {
+
+    @Param({"scalar", "document"})
+    private String shape;
+
+    private final SmileVariableCodec smile = new SmileVariableCodec();
+    private final ObjectMapper json = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Object value;
+    private byte[] smileBytes;
+    private String jsonText;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        if ("scalar".equals(shape)) {
+            value = new BigDecimal("1250.75");
+        } else {
+            Map<String, Object> document = new HashMap<>();
+            document.put("client", "ACME");
+            document.put("montant", new BigDecimal("1250.75"));
+            document.put("echeance", LocalDate.of(2026, 3, 1));
+            document.put("soumisLe", LocalDateTime.of(2026, 1, 15, 8, 30));
+            document.put("lignes", List.of(Map.of("article", "A-1", "quantite", 3), Map.of("article", "B-7", "quantite", 12)));
+            value = document;
+        }
+        smileBytes = smile.encode(value);
+        jsonText = json.writeValueAsString(value);
+    }
+
+    @Benchmark
+    public byte[] smileEncode() {
+        return smile.encode(value);
+    }
+
+    @Benchmark
+    public Object smileDecode() {
+        return smile.decode(smileBytes);
+    }
+
+    @Benchmark
+    public String jsonEncode() throws JsonProcessingException {
+        return json.writeValueAsString(value);
+    }
+
+    @Benchmark
+    public Object jsonDecode() throws JsonProcessingException {
+        return json.readValue(jsonText, Object.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VariableCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.harmony.harmoniservices.infrastructure.persistance.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TaskAssignmentEntity;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.TaskConfigurationEntity;
+import com.harmony.harmoniservices.infrastructure.persistance.entitites.bpmn.Task;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+// Requêtes natives PostgreSQL (INTERVAL, LIMIT) : base PostgreSQL embarquée, schéma créé depuis les entités
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+class TaskAssignmentRepositoryJpaTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long GROUP_ID = 3L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 15, 8, 0);
+    private static final LocalDateTime END_DATE = LocalDateTime.of(2026, 2, 1, 18, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskAssignmentRepositoryJpa repository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(Task.builder().id("valider").name("Valider la commande").build());
+        entityManager.persist(Task.builder().id("facturer").name("Facturer").build());
+        entityManager.persist(configuration("valider", 2).endDate(END_DATE).build());
+        entityManager.persist(configuration("facturer", 5).maxDurationInMinutes(90).build());
+    }
+
+    @Test
+    void pagesThroughAUserInboxByAssignmentId() {
+        List<Long> expected = new ArrayList<>();
+        for (long instance = 1; instance <= 5; instance++) {
+            expected.add(assign(instance, "valider", USER_ID, null, false));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        long after = 0L;
+        List<TaskSummaryView> page;
+        int pages = 0;
+        do {
+            page = repository.findUserPage(USER_ID, after, 2);
+            assertThat(page).hasSizeLessThanOrEqualTo(2);
+            for (TaskSummaryView view : page) {
+                seen.add(view.getAssignmentId());
+                after = view.getAssignmentId();
+            }
+            pages++;
+        } while (!page.isEmpty());
+
+        assertThat(seen).containsExactlyElementsOf(expected).isSorted();
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void skipsSuspendedAndOtherRecipientsEntries() {
+        Long kept = assign(1L, "valider", USER_ID, null, false);
+        assign(2L, "valider", USER_ID, null, true);
+        assign(3L, "valider", 99L, null, false);
+        assign(4L, "valider", null, USER_ID, false);
+
+        assertThat(repository.findUserPage(USER_ID, 0L, 10))
+                .extracting(TaskSummaryView::getAssignmentId)
+                .containsExactly(kept);
+    }
+
+    @Test
+    void startsAfterTheCursor() {
+        Long first = assign(1L, "valider", USER_ID, null, false);
+        Long second = assign(2L, "valider", USER_ID, null, false);
+
+        assertThat(repository.findUserPage(USER_ID, first, 10))
+                .extracting(TaskSummaryView::getAssignmentId)
+                .containsExactly(second);
+        assertThat(repository.findUserPage(USER_ID, second, 10)).isEmpty();
+    }
+
+    @Test
+    void projectsTaskDetailsAndDueDate() {
+        Long fixed = assign(1L, "valider", USER_ID, null, false);
+        Long relative = assign(2L, "facturer", USER_ID, null, false);
+        Long unconfigured = assign(3L, "archiver", USER_ID, null, false);
+
+        List<TaskSummaryView> page = repository.findUserPage(USER_ID, 0L, 10);
+
+        assertThat(page).hasSize(3);
+        TaskSummaryView first = page.get(0);
+        assertThat(first.getAssignmentId()).isEqualTo(fixed);
+        assertThat(first.getProcessInstanceId()).isEqualTo(1L);
+        assertThat(first.getTaskId()).isEqualTo("valider");
+        assertThat(first.getTaskName()).isEqualTo("Valider la commande");
+        assertThat(first.getPriority()).isEqualTo(2);
+        assertThat(first.getDueDate()).isEqualTo(END_DATE);
+        assertThat(first.getCreatedAt()).isEqualTo(CREATED_AT);
+
+        // Sans échéance fixe : durée maximale depuis la mise en attente
+        assertThat(page.get(1).getAssignmentId()).isEqualTo(relative);
+        assertThat(page.get(1).getDueDate()).isEqualTo(CREATED_AT.plusMinutes(90));
+
+        assertThat(page.get(2).getAssignmentId()).isEqualTo(unconfigured);
+        assertThat(page.get(2).getTaskName()).isNull();
+        assertThat(page.get(2).getPriority()).isNull();
+        assertThat(page.get(2).getDueDate()).isNull();
+    }
+
+    @Test
+    void pagesThroughAGroupInbox() {
+        Long first = assign(1L, "valider", null, GROUP_ID, false);
+        assign(2L, "valider", null, GROUP_ID, true);
+        Long second = assign(3L, "facturer", null, GROUP_ID, false);
+        assign(4L, "valider", GROUP_ID, null, false);
+
+        assertThat(repository.findGroupPage(GROUP_ID, 0L, 1))
+                .extracting(TaskSummaryView::getAssignmentId)
+                .containsExactly(first);
+        assertThat(repository.findGroupPage(GROUP_ID, first, 1))
+                .extracting(TaskSummaryView::getAssignmentId)
+                .containsExactly(second);
+        assertThat(repository.findGroupPage(GROUP_ID, second, 1)).isEmpty();
+    }
+
+    private static TaskConfigurationEntity.TaskConfigurationEntityBuilder configuration(String taskId, int priority) {
+        return TaskConfigurationEntity.builder()
+                .taskId(taskId)
+                .priority(priority)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT);
+    }
+
+    private Long assign(Long processInstanceId, String taskId, Long userId, Long groupId, boolean suspended) {
+        TaskAssignmentEntity assignment = entityManager.persistFlushFind(TaskAssignmentEntity.builder()
+                .processInstanceId(processInstanceId)
+                .taskId(taskId)
+                .userId(userId)
+                .groupId(groupId)
+                .suspended(suspended)
+                .createdAt(CREATED_AT)
+                .build());
+        return assignment.getId();
+    }
+}
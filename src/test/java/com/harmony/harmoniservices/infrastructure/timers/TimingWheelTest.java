@@ -0,0 +1,107 @@
+package com.harmony.harmoniservices.infrastructure.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    void roundsDueDatesUpToTheNextTick() {
+        TimingWheel wheel = new TimingWheel(100, 8, 10_000, 0);
+
+        assertThat(wheel.tickOf(0)).isZero();
+        assertThat(wheel.tickOf(1)).isEqualTo(1);
+        assertThat(wheel.tickOf(100)).isEqualTo(1);
+        assertThat(wheel.tickOf(101)).isEqualTo(2);
+    }
+
+    @Test
+    void expiresEachTimerExactlyAtItsTickAcrossLevels() {
+        // 4 emplacements par niveau et un horizon de 64 ticks : niveaux de 1, 4, 16 et 64 ticks
+        TimingWheel wheel = new TimingWheel(1, 4, 64, 0);
+        Map<Long, Long> expiredAt = new HashMap<>();
+        long[] dueTicks = {1, 3, 4, 5, 15, 16, 17, 63, 64, 65, 200};
+        for (long due : dueTicks) {
+            wheel.add(new TimingWheel.Entry(due, due), entry -> expiredAt.put(entry.id(), 0L));
+        }
+        assertThat(expiredAt).isEmpty();
+
+        for (long now = 1; now <= 200; now++) {
+            long tick = now;
+            wheel.advance(now, entry -> expiredAt.put(entry.id(), tick));
+        }
+
+        for (long due : dueTicks) {
+            assertThat(expiredAt).containsEntry(due, due);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void keepsTimersBeyondTheTopLevelSpanUntilTheirTick() {
+        // Le niveau le plus haut couvre 4 x 64 = 256 ticks : l'entrée fait plusieurs tours avant d'expirer
+        TimingWheel wheel = new TimingWheel(1, 4, 64, 0);
+        List<Long> expiredAt = new ArrayList<>();
+        wheel.add(new TimingWheel.Entry(1, 1_000), entry -> expiredAt.add(-1L));
+
+        for (long now = 1; now <= 1_000; now++) {
+            long tick = now;
+            wheel.advance(now, entry -> expiredAt.add(tick));
+        }
+
+        assertThat(expiredAt).containsExactly(1_000L);
+    }
+
+    @Test
+    void expiresEveryDueTimerWhenJumpingAhead() {
+        TimingWheel wheel = new TimingWheel(10, 8, 60_000, 1_000);
+        List<Long> expired = new ArrayList<>();
+        wheel.add(new TimingWheel.Entry(1, wheel.tickOf(1_050)), entry -> { });
+        wheel.add(new TimingWheel.Entry(2, wheel.tickOf(5_000)), entry -> { });
+        wheel.add(new TimingWheel.Entry(3, wheel.tickOf(30_000)), entry -> { });
+
+        wheel.advance(5_000, entry -> expired.add(entry.id()));
+
+        assertThat(expired).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void passesAlreadyDueTimersStraightToExpiry() {
+        TimingWheel wheel = new TimingWheel(100, 8, 10_000, 1_000);
+        List<Long> expired = new ArrayList<>();
+
+        assertThat(wheel.add(new TimingWheel.Entry(1, wheel.tickOf(500)), entry -> expired.add(entry.id()))).isTrue();
+
+        assertThat(expired).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void ignoresDuplicatesAndRemovedTimers() {
+        TimingWheel wheel = new TimingWheel(1, 4, 64, 0);
+        List<Long> expired = new ArrayList<>();
+
+        assertThat(wheel.add(new TimingWheel.Entry(1, 10), entry -> { })).isTrue();
+        assertThat(wheel.add(new TimingWheel.Entry(1, 10), entry -> { })).isFalse();
+        wheel.add(new TimingWheel.Entry(2, 20), entry -> { });
+        wheel.remove(2);
+
+        wheel.advance(30, entry -> expired.add(entry.id()));
+
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void rejectsInvalidGeometry() {
+        assertThatThrownBy(() -> new TimingWheel(0, 8, 1_000, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel(10, 1, 1_000, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}